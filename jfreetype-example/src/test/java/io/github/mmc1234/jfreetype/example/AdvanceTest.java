@@ -0,0 +1,76 @@
+package io.github.mmc1234.jfreetype.example;
+
+import io.github.mmc1234.jfreetype.core.FTErrors;
+import io.github.mmc1234.jfreetype.core.FreeType;
+import io.github.mmc1234.jfreetype.core.FreeTypeFace;
+import io.github.mmc1234.jfreetype.easyfont.CharInfo;
+import io.github.mmc1234.jfreetype.easyfont.EasyFont;
+import io.github.mmc1234.jfreetype.easyfont.EasyFontLibrary;
+import io.github.mmc1234.jfreetype.easyfont.RenderConfig;
+import io.github.mmc1234.jfreetype.util.LayoutBuilder;
+import io.github.mmc1234.jfreetype.util.Scope;
+import jdk.incubator.foreign.MemorySegment;
+import jdk.incubator.foreign.ValueLayout;
+import org.testng.annotations.Test;
+
+import static io.github.mmc1234.jfreetype.core.FTLoadFlags.*;
+import static org.testng.Assert.*;
+
+public class AdvanceTest {
+
+    private static final String TEXT = "KomeijiKoishi";
+
+    @Test
+    public void testGetAdvance() {
+        FreeType.load();
+        RenderConfig unhinted = RenderConfig.DEFAULT.withLoadFlags(FT_LOAD_NO_BITMAP | FT_LOAD_NO_HINTING);
+        try (EasyFontLibrary library = new EasyFontLibrary();
+             Scope scope = Scope.newScope()) {
+            try (EasyFont font = library.createFont("C:\\Windows\\Fonts\\msyh.ttc", 0)) {
+                font.setSize(16);
+                // FT_Fixed, a C long
+                MemorySegment advance = scope.newSegment(LayoutBuilder.ALIGNED_LONG);
+                long[] advances = font.measureAdvances(TEXT);
+                for (int i = 0; i < TEXT.length(); i++) {
+                    int glyphIndex = font.getCharIndex(TEXT.charAt(i));
+                    assertEquals(FreeTypeFace.FTGetAdvance(font.getFace().address(), glyphIndex,
+                            unhinted.loadFlags() | FT_ADVANCE_FLAG_FAST_ONLY, advance), 0);
+                    long fixed = advance.get(ValueLayout.JAVA_INT, 0);
+                    assertEquals(advances[i], fixed);
+                    // 16.16 against 26.6, both unhinted and unrounded
+                    CharInfo info = font.getCharInfo(TEXT.charAt(i), unhinted);
+                    assertTrue(Math.abs((fixed >> 10) - info.advance()) <= 1, fixed + " vs " + info.advance());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRetryWithoutFastOnly() {
+        FreeType.load();
+        RenderConfig hinted = RenderConfig.DEFAULT.withLoadFlags(FT_LOAD_NO_BITMAP);
+        try (EasyFontLibrary library = new EasyFontLibrary();
+             Scope scope = Scope.newScope()) {
+            try (EasyFont font = library.createFont("C:\\Windows\\Fonts\\msyh.ttc", 0)) {
+                font.setSize(16);
+                int start = font.getCharIndex('K');
+                MemorySegment advances = scope.newSegmentArray(LayoutBuilder.ALIGNED_LONG, 4);
+                // Hinted advances can't be read from the metrics tables
+                int code = FreeTypeFace.FTGetAdvances(font.getFace().address(), start, 4,
+                        hinted.loadFlags() | FT_ADVANCE_FLAG_FAST_ONLY, advances);
+                assertEquals(code & 0xFF, FTErrors.UNIMPLEMENTED_FEATURE);
+
+                long[] measured = font.measureAdvances(start, 4, hinted);
+                assertEquals(FreeTypeFace.FTGetAdvances(font.getFace().address(), start, 4, hinted.loadFlags(),
+                        advances), 0);
+                for (int i = 0; i < 4; i++) {
+                    assertEquals(measured[i], advances.getAtIndex(ValueLayout.JAVA_INT, i));
+                    // Hinted advances are whole pixels, the same as loading the glyph
+                    assertEquals(measured[i] & 0xFFFF, 0);
+                }
+                CharInfo k = font.getCharInfo('K', hinted);
+                assertEquals(measured[0], k.advance() << 10);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.mmc1234.jfreetype.example;
+
+import io.github.mmc1234.jfreetype.easyfont.CharImages;
+import io.github.mmc1234.jfreetype.easyfont.CharInfo;
+import org.testng.annotations.Test;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+import static org.testng.Assert.*;
+
+public class CharImagesTest {
+
+    // 3 x 2 pixels in rows of 4 bytes
+    private static final CharInfo INFO = new CharInfo('A', 1, 16, 3, 2, 0, 0, 3, 2, 3 << 6,
+            new byte[]{0, 64, (byte) 128, 9, (byte) 192, (byte) 255, 32, 9}, 4);
+
+    @Test
+    public void testGray() {
+        BufferedImage copied = CharImages.toGray(INFO);
+        BufferedImage wrapped = CharImages.wrapGray(INFO);
+        assertEquals(copied.getType(), BufferedImage.TYPE_BYTE_GRAY);
+        assertEquals(wrapped.getType(), BufferedImage.TYPE_BYTE_GRAY);
+        for (int y = 0; y < 2; y++)
+            for (int x = 0; x < 3; x++) {
+                assertEquals(copied.getRaster().getSample(x, y, 0), INFO.getLuminance(x, y));
+                assertEquals(wrapped.getRaster().getSample(x, y, 0), INFO.getLuminance(x, y));
+            }
+    }
+
+    @Test
+    public void testIntBgrMatchesLuminance() {
+        BufferedImage image = CharImages.toIntBgr(INFO);
+        for (int y = 0; y < 2; y++)
+            for (int x = 0; x < 3; x++) {
+                int gray = INFO.getLuminance(x, y);
+                assertEquals(image.getRGB(x, y), 0xFF000000 | gray | gray << 8 | gray << 16);
+            }
+    }
+
+    @Test
+    public void testPremultipliedArgb() {
+        BufferedImage image = CharImages.toPremultipliedArgb(INFO, 0xFF0000FF);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        assertEquals(pixels[0], 0);
+        assertEquals(pixels[5], 0xFF0000FF);
+        assertEquals(pixels[2], 0x80000080);
+    }
+
+    @Test
+    public void testAlphaMask() {
+        BufferedImage image = CharImages.toAlphaMask(INFO, 0xFFFF0000);
+        assertEquals(image.getRGB(1, 1) >>> 24, 255);
+        assertEquals(image.getRGB(1, 1) & 0xFFFFFF, 0xFF0000);
+        assertEquals(image.getRGB(0, 0) >>> 24, 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testNotRendered() {
+        CharImages.toGray(new CharInfo('A', 1, 16, 3, 2, 0, 0, 3, 2, 3 << 6, null, 3));
+    }
+}
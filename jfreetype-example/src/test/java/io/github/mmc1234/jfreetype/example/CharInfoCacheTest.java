@@ -0,0 +1,57 @@
+package io.github.mmc1234.jfreetype.example;
+
+import io.github.mmc1234.jfreetype.easyfont.CacheBudget;
+import io.github.mmc1234.jfreetype.easyfont.CacheStats;
+import io.github.mmc1234.jfreetype.easyfont.CharInfo;
+import io.github.mmc1234.jfreetype.easyfont.CharInfoCache;
+import org.testng.annotations.Test;
+
+import static io.github.mmc1234.jfreetype.easyfont.LongCharInfoMap.key;
+import static org.testng.Assert.*;
+
+public class CharInfoCacheTest {
+
+    private static CharInfo rendered(int codepoint, int size) {
+        return new CharInfo(codepoint, codepoint, size, size, size, 0, 0, size, size, size << 6, new byte[size][size]);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        CharInfo info = rendered('A', 16);
+        CacheBudget budget = new CacheBudget(CacheBudget.byteSizeOf(info) * 2);
+        CharInfoCache cache = new CharInfoCache(budget);
+        cache.put(key('A', 16, 0), info);
+        cache.put(key('B', 16, 0), rendered('B', 16));
+        assertNotNull(cache.get(key('A', 16, 0)));
+        cache.put(key('C', 16, 0), rendered('C', 16));
+
+        assertNotNull(cache.get(key('A', 16, 0)));
+        assertNull(cache.get(key('B', 16, 0)));
+        assertNotNull(cache.get(key('C', 16, 0)));
+
+        CacheStats stats = budget.getStats();
+        assertEquals(stats.evictions(), 1);
+        assertEquals(stats.entries(), 2);
+        assertEquals(stats.hits(), 3);
+        assertEquals(stats.misses(), 1);
+        assertTrue(stats.usedBytes() <= stats.maxBytes());
+    }
+
+    @Test
+    public void testSharedBudget() {
+        CharInfo info = rendered('A', 16);
+        CacheBudget budget = new CacheBudget(CacheBudget.byteSizeOf(info) * 2);
+        CharInfoCache first = new CharInfoCache(budget);
+        CharInfoCache second = new CharInfoCache(budget);
+        first.put(key('A', 16, 0), info);
+        second.put(key('A', 16, 0), rendered('A', 16));
+        second.put(key('B', 16, 0), rendered('B', 16));
+
+        assertEquals(first.getRecordChars(), 0);
+        assertEquals(second.getRecordChars(), 2);
+
+        second.clear();
+        assertEquals(budget.getStats().usedBytes(), 0);
+        assertEquals(budget.getStats().entries(), 0);
+    }
+}
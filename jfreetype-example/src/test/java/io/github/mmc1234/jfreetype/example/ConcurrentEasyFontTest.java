@@ -0,0 +1,176 @@
+package io.github.mmc1234.jfreetype.example;
+
+import io.github.mmc1234.jfreetype.core.FTRenderMode;
+import io.github.mmc1234.jfreetype.core.FreeType;
+import io.github.mmc1234.jfreetype.easyfont.CacheBudget;
+import io.github.mmc1234.jfreetype.easyfont.CacheStats;
+import io.github.mmc1234.jfreetype.easyfont.CharInfo;
+import io.github.mmc1234.jfreetype.easyfont.ConcurrentCharInfoCache;
+import io.github.mmc1234.jfreetype.easyfont.ConcurrentEasyFont;
+import io.github.mmc1234.jfreetype.easyfont.EasyFontLibrary;
+import io.github.mmc1234.jfreetype.easyfont.RenderConfig;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.mmc1234.jfreetype.easyfont.LongCharInfoMap.key;
+import static org.testng.Assert.*;
+
+public class ConcurrentEasyFontTest {
+
+    private static final String TEXT = "KomeijiKoishi";
+    private static final int THREADS = 8;
+
+    private static CharInfo rendered(int codepoint, int size) {
+        return new CharInfo(codepoint, codepoint, size, size, size, 0, 0, size, size, size << 6, new byte[size][size]);
+    }
+
+    @Test
+    public void testCacheUnderContention() throws Exception {
+        ConcurrentCharInfoCache cache = ConcurrentCharInfoCache.unlimited();
+        for (int c = 0; c < 256; c++)
+            cache.put(key(c, 16, 0), rendered(c, 16));
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++)
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int round = 0; round < 100; round++)
+                        for (int c = 0; c < 256; c++)
+                            assertEquals(cache.get(key(c, 16, 0)).codepoint(), c);
+                    return null;
+                }));
+            start.countDown();
+            for (Future<?> future : futures)
+                future.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+        CacheStats stats = cache.getStats();
+        assertEquals(stats.hits(), THREADS * 100 * 256L);
+        assertEquals(stats.misses(), 0);
+        assertEquals(cache.getRecordChars(), 256);
+    }
+
+    @Test
+    public void testBudgetSplit() {
+        CharInfo info = rendered('A', 16);
+        long maxBytes = CacheBudget.byteSizeOf(info) * 64;
+        // Rounded up to 4 stripes, each with a quarter of the bytes
+        ConcurrentCharInfoCache cache = new ConcurrentCharInfoCache(maxBytes, 3);
+        assertEquals(cache.getStats().maxBytes(), maxBytes / 4 * 4);
+        for (int c = 0; c < 1024; c++)
+            cache.put(key(c, 16, 0), rendered(c, 16));
+        CacheStats stats = cache.getStats();
+        assertTrue(stats.usedBytes() <= stats.maxBytes());
+        assertTrue(stats.entries() <= 64);
+        assertEquals(stats.evictions(), 1024 - stats.entries());
+    }
+
+    @Test
+    public void testLookupUnderContention() throws Exception {
+        FreeType.load();
+        try (EasyFontLibrary library = new EasyFontLibrary()) {
+            try (ConcurrentEasyFont font = library.createConcurrentFont("C:\\Windows\\Fonts\\msyh.ttc", 0,
+                    4, Long.MAX_VALUE)) {
+                ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+                try {
+                    List<Future<?>> futures = new ArrayList<>();
+                    for (int i = 0; i < THREADS; i++)
+                        futures.add(executor.submit(() -> {
+                            for (int round = 0; round < 20; round++)
+                                assertEquals(font.getCharInfoStream(TEXT, 16, true).count(), TEXT.length());
+                            return null;
+                        }));
+                    for (Future<?> future : futures)
+                        future.get(60, TimeUnit.SECONDS);
+                } finally {
+                    executor.shutdown();
+                }
+                assertEquals(font.getCharInfos().getRecordChars(), (int) TEXT.chars().distinct().count());
+                CharInfo k = font.getCharInfoAndRender('K', 16);
+                assertSame(font.getCharInfoAndRender('K', 16), k);
+                assertEquals(font.getCharIndex('K'), k.charIndex());
+            }
+        }
+    }
+
+    @Test
+    public void testRenderConfigs() throws Exception {
+        FreeType.load();
+        try (EasyFontLibrary library = new EasyFontLibrary()) {
+            try (ConcurrentEasyFont font = library.createConcurrentFont("C:\\Windows\\Fonts\\msyh.ttc", 0,
+                    2, Long.MAX_VALUE)) {
+                RenderConfig mono = RenderConfig.DEFAULT.withRenderMode(FTRenderMode.FT_RENDER_MODE_MONO);
+                CharInfo gray = font.getCharInfoAndRender('K', 16);
+                CharInfo bilevel = font.getCharInfoAndRender('K', 16, mono);
+                // Both configs have the same load flags, but are cached apart
+                assertNotSame(bilevel, gray);
+                assertNotEquals(bilevel, gray);
+                assertSame(font.getCharInfoAndRender('K', 16, mono), bilevel);
+                assertSame(font.getCharInfoAndRender('K', 16), gray);
+                assertEquals(font.getCharInfos().getRecordChars(), 2);
+            }
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> RenderConfig.DEFAULT.withRenderMode(FTRenderMode.FT_RENDER_MODE_LCD));
+    }
+
+    @Test
+    public void testCharInfoEquality() {
+        CharInfo info = rendered('A', 4);
+        assertEquals(rendered('A', 4), info);
+        assertEquals(rendered('A', 4).hashCode(), info.hashCode());
+        // Same pixels with another stride
+        assertEquals(new CharInfo('A', 'A', 4, 4, 4, 0, 0, 4, 4, 4 << 6, new byte[4 * 6], 6), info);
+        byte[][] bitmap = new byte[4][4];
+        bitmap[1][2] = (byte) 0xFF;
+        assertNotEquals(new CharInfo('A', 'A', 4, 4, 4, 0, 0, 4, 4, 4 << 6, bitmap), info);
+        assertNotEquals(new CharInfo('A', 'A', 4, 4, 4, 0, 0, 4, 4, 4 << 6, (byte[][]) null), info);
+    }
+
+    @Test
+    public void testCloseWhileLoading() throws Exception {
+        FreeType.load();
+        try (EasyFontLibrary library = new EasyFontLibrary()) {
+            ConcurrentEasyFont font = library.createConcurrentFont("C:\\Windows\\Fonts\\msyh.ttc", 0, 2, 1 << 16);
+            AtomicInteger loaded = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    int first = 0x4E00 + i * 1000;
+                    futures.add(executor.submit(() -> {
+                        // More threads than faces, so some of them wait for a face when the font is closed
+                        try {
+                            for (int c = first; ; c++) {
+                                font.getCharInfoAndRender(c, 16);
+                                loaded.incrementAndGet();
+                            }
+                        } catch (IllegalStateException e) {
+                            return null;
+                        }
+                    }));
+                }
+                while (loaded.get() < THREADS * 10)
+                    Thread.onSpinWait();
+                font.close();
+                for (Future<?> future : futures)
+                    future.get(30, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+            assertEquals(font.getCharInfos().getRecordChars(), 0);
+            assertThrows(IllegalStateException.class, () -> font.getCharInfoAndRender('K', 16));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.mmc1234.jfreetype.example;
+
+import io.github.mmc1234.jfreetype.sdf.DistanceField;
+import io.github.mmc1234.jfreetype.sdf.DistanceFieldGenerator;
+import io.github.mmc1234.jfreetype.sdf.GlyphShape;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+public class DistanceFieldGeneratorTest {
+
+    private static GlyphShape square(float size) {
+        return new GlyphShape.Builder()
+                .moveTo(0, 0).lineTo(size, 0).lineTo(size, size).lineTo(0, size).close()
+                .build();
+    }
+
+    @Test
+    public void testSquare() {
+        DistanceFieldGenerator generator = new DistanceFieldGenerator(4);
+        DistanceField field = generator.generateSdf(square(16));
+        assertEquals(field.width(), 24);
+        assertEquals(field.height(), 24);
+        assertEquals(field.left(), -4);
+        assertEquals(field.top(), 20);
+        // Center, outline and corner of the spread
+        assertEquals(field.getDistance(12, 12), 255);
+        assertEquals(field.getDistance(4, 12), 128 + 16);
+        assertEquals(field.getDistance(3, 12), 128 - 16);
+        assertEquals(field.getDistance(0, 0), 0);
+    }
+
+    @Test
+    public void testMsdfMatchesSdf() {
+        DistanceFieldGenerator generator = new DistanceFieldGenerator(4);
+        GlyphShape shape = new GlyphShape.Builder()
+                .moveTo(0, 0).lineTo(20, 0).quadTo(30, 10, 20, 20).lineTo(0, 20).close()
+                .moveTo(5, 5).lineTo(5, 15).lineTo(15, 15).lineTo(15, 5).close()
+                .build();
+        List<DistanceField> fields = generator.generateAll(List.of(shape, shape), false);
+        DistanceField sdf = fields.get(0);
+        DistanceField msdf = generator.generateMsdf(shape);
+        assertEquals(fields.get(1).pixels(), sdf.pixels());
+        for (int y = 0; y < sdf.height(); y++)
+            for (int x = 0; x < sdf.width(); x++) {
+                // Both fields agree on the side of every pixel
+                assertEquals(msdf.getDistance(x, y) >= 128, sdf.getDistance(x, y) >= 128, x + ", " + y);
+            }
+    }
+}
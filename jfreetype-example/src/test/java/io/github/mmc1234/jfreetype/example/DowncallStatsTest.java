@@ -0,0 +1,46 @@
+package io.github.mmc1234.jfreetype.example;
+
+import io.github.mmc1234.jfreetype.util.DowncallSnapshot;
+import io.github.mmc1234.jfreetype.util.DowncallStats;
+import org.testng.annotations.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import static org.testng.Assert.*;
+
+public class DowncallStatsTest {
+
+    private static int add(int a, int b) {
+        if (a < 0)
+            throw new IllegalArgumentException("Negative");
+        return a + b;
+    }
+
+    @Test
+    public void testInstrument() throws Throwable {
+        MethodHandle target = MethodHandles.lookup().findStatic(DowncallStatsTest.class, "add",
+                MethodType.methodType(int.class, int.class, int.class));
+        MethodHandle handle = DowncallStats.instrument("add", target);
+        assertEquals(handle.type(), target.type());
+        DowncallStats.reset();
+
+        for (int i = 0; i < 100; i++)
+            assertEquals((int) handle.invokeExact(i, 1), i + 1);
+        // Failed calls are counted too
+        assertThrows(IllegalArgumentException.class, () -> {
+            int ignored = (int) handle.invokeExact(-1, 1);
+        });
+
+        DowncallSnapshot snapshot = DowncallStats.snapshot().get("add");
+        assertEquals(snapshot.count(), 101);
+        assertTrue(snapshot.totalNanos() > 0);
+        assertTrue(snapshot.p50Nanos() <= snapshot.p99Nanos());
+        assertTrue(snapshot.meanNanos() > 0);
+
+        DowncallStats.reset();
+        assertEquals(DowncallStats.snapshot().get("add").count(), 0);
+        assertEquals(DowncallStats.snapshot().get("add").p99Nanos(), 0);
+    }
+}
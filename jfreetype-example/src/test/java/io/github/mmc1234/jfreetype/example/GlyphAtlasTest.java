@@ -0,0 +1,125 @@
+package io.github.mmc1234.jfreetype.example;
+
+import io.github.mmc1234.jfreetype.atlas.DirtyRegion;
+import io.github.mmc1234.jfreetype.atlas.GlyphAtlas;
+import io.github.mmc1234.jfreetype.easyfont.CharInfo;
+import jdk.incubator.foreign.ValueLayout;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+public class GlyphAtlasTest {
+
+    private static CharInfo square(int codepoint, int size) {
+        byte[] buffer = new byte[size * size];
+        Arrays.fill(buffer, (byte) codepoint);
+        return new CharInfo(codepoint, codepoint, size, size, size, 0, 0, size, size, size << 6, buffer, size);
+    }
+
+    @Test
+    public void testDrain() {
+        try (GlyphAtlas atlas = new GlyphAtlas(64, 64, 1)) {
+            atlas.put('a', square('a', 8));
+            List<DirtyRegion> regions = atlas.drain();
+            assertEquals(regions.size(), 1);
+            DirtyRegion region = regions.get(0);
+            assertEquals(region.width(), 8);
+            assertEquals(region.height(), 8);
+            assertEquals(region.stride(), 64);
+            assertEquals(region.pixels().get(ValueLayout.JAVA_BYTE, 7L * 64 + 7), (byte) 'a');
+            assertTrue(atlas.drain().isEmpty());
+        }
+    }
+
+    @Test
+    public void testDirtyRegionsDontOverlap() {
+        try (GlyphAtlas atlas = new GlyphAtlas(128, 128, 1)) {
+            for (int i = 0; i < 40; i++)
+                atlas.put(i, square(i, 4 + i * 7 % 13));
+            List<DirtyRegion> regions = atlas.drain();
+            assertTrue(regions.size() <= 8);
+            for (int i = 0; i < regions.size(); i++)
+                for (int j = i + 1; j < regions.size(); j++) {
+                    DirtyRegion a = regions.get(i), b = regions.get(j);
+                    assertFalse(a.page() == b.page() && a.x() < b.x() + b.width() && b.x() < a.x() + a.width()
+                            && a.y() < b.y() + b.height() && b.y() < a.y() + a.height(), a + " overlaps " + b);
+                }
+            for (int slot = 0; slot < atlas.getGlyphCount(); slot++) {
+                int s = slot;
+                assertTrue(regions.stream().anyMatch(r -> r.page() == atlas.getPageIndex(s)
+                        && r.x() <= atlas.getX(s) && atlas.getX(s) + atlas.getWidth(s) <= r.x() + r.width()
+                        && r.y() <= atlas.getY(s) && atlas.getY(s) + atlas.getHeight(s) <= r.y() + r.height()));
+            }
+        }
+    }
+
+    @Test
+    public void testCompact() {
+        try (GlyphAtlas atlas = new GlyphAtlas(32, 32, 0, 2)) {
+            for (int i = 0; i < 8; i++)
+                atlas.put(i + 1, square(i + 1, 16));
+            assertEquals(atlas.getPageCount(), 2);
+            expectFull(atlas);
+
+            atlas.nextGeneration();
+            atlas.find(2);
+            atlas.find(7);
+            int[] remapped = new int[9];
+            Arrays.fill(remapped, -2);
+            assertEquals(atlas.compact(0, (key, oldSlot, newSlot) -> remapped[(int) key] = newSlot), 6);
+            assertEquals(atlas.getGlyphCount(), 2);
+            assertEquals(atlas.getPageCount(), 1);
+            assertEquals(remapped[1], -1);
+            for (int key : new int[]{2, 7}) {
+                int slot = atlas.find(key);
+                assertEquals(remapped[key], slot);
+                long offset = (long) atlas.getY(slot) * 32 + atlas.getX(slot);
+                assertEquals(atlas.getPage(0).getPixels().get(ValueLayout.JAVA_BYTE, offset), (byte) key);
+            }
+            atlas.put(9, square(9, 16));
+        }
+    }
+
+    @Test
+    public void testCompactWithinMaxPages() {
+        // These glyphs fit in one page in the order they are put, but not tallest first
+        int[][] sizes = {{1, 9}, {5, 9}, {1, 5}, {9, 5}, {13, 5}};
+        try (GlyphAtlas atlas = new GlyphAtlas(16, 16, 0, 1)) {
+            for (int i = 0; i < sizes.length; i++)
+                atlas.put(i + 1, rectangle(i + 1, sizes[i][0], sizes[i][1]));
+            assertEquals(atlas.getPageCount(), 1);
+            int x = atlas.getX(atlas.find(5)), y = atlas.getY(atlas.find(5));
+            assertThrows(IllegalStateException.class, () -> atlas.compact(10, (key, oldSlot, newSlot) -> {}));
+            // Nothing is changed
+            assertEquals(atlas.getPageCount(), 1);
+            assertEquals(atlas.getGlyphCount(), sizes.length);
+            assertEquals(atlas.getX(atlas.find(5)), x);
+            assertEquals(atlas.getY(atlas.find(5)), y);
+            assertEquals(atlas.getPage(0).getPixels().get(ValueLayout.JAVA_BYTE, (long) y * 16 + x), (byte) 5);
+
+            // Evicting the tall glyphs makes room
+            atlas.nextGeneration();
+            for (int key = 3; key <= 5; key++)
+                atlas.find(key);
+            assertEquals(atlas.compact(0, (key, oldSlot, newSlot) -> {}), 2);
+            assertEquals(atlas.getPageCount(), 1);
+        }
+    }
+
+    private static CharInfo rectangle(int codepoint, int width, int height) {
+        byte[] buffer = new byte[width * height];
+        Arrays.fill(buffer, (byte) codepoint);
+        return new CharInfo(codepoint, codepoint, height, width, height, 0, 0, width, height, width << 6, buffer, width);
+    }
+
+    private static void expectFull(GlyphAtlas atlas) {
+        try {
+            atlas.put(100, square(100, 16));
+            fail("Atlas should be full");
+        } catch (IllegalStateException expected) {
+        }
+    }
+}
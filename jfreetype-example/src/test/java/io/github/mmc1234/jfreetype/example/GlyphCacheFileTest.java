@@ -0,0 +1,111 @@
+package io.github.mmc1234.jfreetype.example;
+
+import io.github.mmc1234.jfreetype.core.FreeType;
+import io.github.mmc1234.jfreetype.easyfont.CharInfo;
+import io.github.mmc1234.jfreetype.easyfont.EasyFont;
+import io.github.mmc1234.jfreetype.easyfont.EasyFontLibrary;
+import io.github.mmc1234.jfreetype.easyfont.FontIdentity;
+import io.github.mmc1234.jfreetype.easyfont.GlyphCacheFile;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static io.github.mmc1234.jfreetype.easyfont.LongCharInfoMap.key;
+import static org.testng.Assert.*;
+
+public class GlyphCacheFileTest {
+
+    private static final String FONT = "C:\\Windows\\Fonts\\msyh.ttc";
+    private static final String TEXT = "KomeijiKoishi";
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        FreeType.load();
+        Path path = Files.createTempFile("glyphs", ".jfgc");
+        try (EasyFontLibrary library = new EasyFontLibrary()) {
+            CharInfo k;
+            try (EasyFont font = library.createFont(FONT, 0)) {
+                font.setSize(16);
+                assertEquals(font.getCharInfoStream(TEXT, true).count(), TEXT.length());
+                k = font.getCharInfoAndRender('K');
+                font.saveCacheFile(path);
+            }
+            try (EasyFont font = library.createFont(FONT, 0)) {
+                GlyphCacheFile file = font.loadCacheFile(path);
+                assertEquals(file.size(), (int) TEXT.chars().distinct().count());
+                // DEFAULT is the first config of every font
+                assertEquals(file.getConfig(0), font.getRenderConfigs().get(0));
+                CharInfo saved = file.get(key('K', 16, 0));
+                assertNotNull(saved);
+                assertEquals(saved.charIndex(), k.charIndex());
+                assertEquals(saved.width(), k.width());
+                assertEquals(saved.height(), k.height());
+                assertEquals(saved.minY(), k.minY());
+                assertEquals(saved.advance(), k.advance());
+                for (int row = 0; row < k.height(); row++) {
+                    int from = row * saved.stride(), kFrom = row * k.stride();
+                    assertEquals(Arrays.copyOfRange(saved.buffer(), from, from + k.width()),
+                            Arrays.copyOfRange(k.buffer(), kFrom, kFrom + k.width()));
+                }
+                assertNull(file.get(key('K', 17, 0)));
+
+                font.setSize(16);
+                assertEquals(font.getCharInfoAndRender('K').buffer(), saved.buffer());
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testDamagedFile() throws Exception {
+        FreeType.load();
+        Path path = Files.createTempFile("glyphs", ".jfgc");
+        Path damaged = Files.createTempFile("damaged", ".jfgc");
+        try (EasyFontLibrary library = new EasyFontLibrary()) {
+            try (EasyFont font = library.createFont(FONT, 0)) {
+                font.setSize(16);
+                font.getCharInfoStream(TEXT, true).forEach(info -> {});
+                font.saveCacheFile(path);
+                FontIdentity identity = font.getIdentity();
+                byte[] data = Files.readAllBytes(path);
+                try (GlyphCacheFile file = GlyphCacheFile.open(path, identity)) {
+                    assertEquals(file.size(), (int) TEXT.chars().distinct().count());
+                }
+
+                // The last record misses its bitmap
+                Files.write(damaged, Arrays.copyOf(data, data.length - 1));
+                try (GlyphCacheFile file = GlyphCacheFile.open(damaged, identity)) {
+                    assertEquals(file.size(), 0);
+                    assertNull(file.get(key('K', 16, 0)));
+                }
+
+                // The index ends after the file
+                Files.write(damaged, Arrays.copyOf(data, 40));
+                try (GlyphCacheFile file = GlyphCacheFile.open(damaged, identity)) {
+                    assertEquals(file.size(), 0);
+                }
+
+                // The first record points past the end of the file
+                ByteBuffer buffer = ByteBuffer.wrap(data.clone());
+                int indexOffset = 32 + buffer.getInt(28) * 36;
+                buffer.putLong(indexOffset + 8, data.length);
+                Files.write(damaged, buffer.array());
+                try (GlyphCacheFile file = GlyphCacheFile.open(damaged, identity)) {
+                    assertEquals(file.size(), 0);
+                }
+
+                try (GlyphCacheFile file = GlyphCacheFile.open(path, new FontIdentity(identity.contentHash() + 1,
+                        identity.faceIndex(), identity.freeTypeVersion()))) {
+                    assertEquals(file.size(), 0);
+                }
+            }
+        } finally {
+            Files.delete(path);
+            Files.delete(damaged);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.mmc1234.jfreetype.example;
+
+import io.github.mmc1234.jfreetype.core.FreeType;
+import io.github.mmc1234.jfreetype.easyfont.CacheStats;
+import io.github.mmc1234.jfreetype.easyfont.CharInfo;
+import io.github.mmc1234.jfreetype.easyfont.EasyFont;
+import io.github.mmc1234.jfreetype.easyfont.EasyFontLibrary;
+import io.github.mmc1234.jfreetype.easyfont.PreloadStats;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.testng.Assert.*;
+
+public class GlyphRunTest {
+
+    private static final String FONT = "C:\\Windows\\Fonts\\msyh.ttc";
+
+    @Test
+    public void testRunMatchesLoad() throws Exception {
+        FreeType.load();
+        if (!FreeType.loadShim())
+            throw new SkipException("Glyph run shim not built, see gradlew glyphRunShim");
+        // Preloading renders through the shim in runs of 256 chars, these chars need several runs
+        int[] chars = IntStream.concat(IntStream.rangeClosed(0x20, 0x7E), IntStream.range(0x4E00, 0x4E00 + 600))
+                .toArray();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (EasyFontLibrary library = new EasyFontLibrary()) {
+            try (EasyFont run = library.createFont(FONT, 0);
+                 EasyFont load = library.createFont(FONT, 0)) {
+                PreloadStats stats = run.preload(executor, 1, IntStream.of(chars), 16).get(60, TimeUnit.SECONDS);
+                load.setSize(16);
+                run.setSize(16);
+                int missing = 0;
+                for (int c : chars) {
+                    if (load.getCharIndex(c) == 0) {
+                        missing++;
+                        continue;
+                    }
+                    CacheStats before = run.getCharInfos().getBudget().getStats();
+                    CharInfo fromRun = run.getCharInfoAndRender(c);
+                    // Served by the preloaded char, not rendered again
+                    assertEquals(run.getCharInfos().getBudget().getStats().misses(), before.misses());
+                    CharInfo fromLoad = load.getCharInfoAndRender(c);
+                    assertEquals(fromRun.charIndex(), fromLoad.charIndex(), "glyph of " + c);
+                    assertEquals(fromRun.minX(), fromLoad.minX(), "box of " + c);
+                    assertEquals(fromRun.minY(), fromLoad.minY(), "box of " + c);
+                    assertEquals(fromRun.maxX(), fromLoad.maxX(), "box of " + c);
+                    assertEquals(fromRun.maxY(), fromLoad.maxY(), "box of " + c);
+                    assertEquals(fromRun.advance(), fromLoad.advance(), "advance of " + c);
+                    // Same pixels too
+                    assertEquals(fromRun, fromLoad, "bitmap of " + c);
+                }
+                assertEquals(stats.missing(), missing);
+                assertEquals(stats.glyphs(), chars.length - missing);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.mmc1234.jfreetype.example;
+
+import io.github.mmc1234.jfreetype.easyfont.CharInfo;
+import io.github.mmc1234.jfreetype.easyfont.LongCharInfoMap;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class LongCharInfoMapTest {
+
+    private static CharInfo info(int codepoint, int size) {
+        return new CharInfo(codepoint, codepoint, size, size, size, 0, 0, size, size, size << 6, null);
+    }
+
+    @Test
+    public void testKey() {
+        long key = LongCharInfoMap.key(0x10FFFF, 255, 1 << 24);
+        assertEquals(LongCharInfoMap.codepointOf(key), 0x10FFFF);
+        assertEquals(LongCharInfoMap.sizeOf(key), 255);
+        assertEquals(LongCharInfoMap.loadFlagsOf(key), 1 << 24);
+        assertNotEquals(LongCharInfoMap.key('A', 16, 0), LongCharInfoMap.key('A', 16, 8));
+        assertThrows(IllegalArgumentException.class, () -> LongCharInfoMap.key(-1, 16, 0));
+    }
+
+    @Test
+    public void testPutGetRemove() {
+        LongCharInfoMap map = new LongCharInfoMap(4);
+        for (int codepoint = 0; codepoint < 10000; codepoint++)
+            assertNull(map.put(LongCharInfoMap.key(codepoint, 16, 0), info(codepoint, 16)));
+        assertEquals(map.getRecordChars(), 10000);
+        for (int codepoint = 0; codepoint < 10000; codepoint++)
+            assertEquals(map.get(codepoint, 16, 0).codepoint(), codepoint);
+        assertNull(map.get(0, 17, 0));
+
+        for (int codepoint = 0; codepoint < 10000; codepoint += 2)
+            assertNotNull(map.remove(LongCharInfoMap.key(codepoint, 16, 0)));
+        assertEquals(map.getRecordChars(), 5000);
+        for (int codepoint = 0; codepoint < 10000; codepoint++)
+            assertEquals(map.get(codepoint, 16, 0) != null, codepoint % 2 == 1);
+
+        map.clear();
+        assertEquals(map.getRecordChars(), 0);
+        assertNull(map.get(1, 16, 0));
+    }
+}
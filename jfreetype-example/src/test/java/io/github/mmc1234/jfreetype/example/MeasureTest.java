@@ -0,0 +1,113 @@
+package io.github.mmc1234.jfreetype.example;
+
+import io.github.mmc1234.jfreetype.core.FTFace;
+import io.github.mmc1234.jfreetype.core.FreeType;
+import io.github.mmc1234.jfreetype.core.FreeTypeFace;
+import io.github.mmc1234.jfreetype.easyfont.CacheStats;
+import io.github.mmc1234.jfreetype.easyfont.CharInfo;
+import io.github.mmc1234.jfreetype.easyfont.EasyFont;
+import io.github.mmc1234.jfreetype.easyfont.EasyFontLibrary;
+import io.github.mmc1234.jfreetype.easyfont.TextMetrics;
+import jdk.incubator.foreign.MemoryAddress;
+import jdk.incubator.foreign.MemorySegment;
+import jdk.incubator.foreign.ResourceScope;
+import jdk.incubator.foreign.ValueLayout;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class MeasureTest {
+
+    // 13 chars, 8 of them distinct
+    private static final String TEXT = "KomeijiKoishi";
+
+    @Test
+    public void testMeasureRepeatedChars() {
+        FreeType.load();
+        try (EasyFontLibrary library = new EasyFontLibrary()) {
+            try (EasyFont font = library.createFont("C:\\Windows\\Fonts\\msyh.ttc", 0)) {
+                font.setSize(16);
+                int distinct = (int) TEXT.chars().distinct().count();
+                CacheStats before = font.getCharInfos().getBudget().getStats();
+                TextMetrics metrics = font.measure(TEXT);
+                CacheStats after = font.getCharInfos().getBudget().getStats();
+                // Every distinct char is looked up once, repeated chars reuse it
+                assertEquals(after.misses() - before.misses(), distinct);
+                assertEquals(after.hits(), before.hits());
+                assertEquals(font.getCharInfos().getRecordChars(), distinct);
+
+                assertEquals(metrics.length(), TEXT.length());
+                long total = 0;
+                for (int i = 0; i < TEXT.length(); i++) {
+                    CharInfo info = font.getCharInfo(TEXT.charAt(i));
+                    assertEquals(metrics.glyphIndices()[i], font.getCharIndex(TEXT.charAt(i)));
+                    assertEquals(metrics.glyphIndices()[i], info.charIndex());
+                    assertEquals(metrics.advances()[i], info.advance());
+                    assertEquals(metrics.minX()[i], info.minX());
+                    assertEquals(metrics.minY()[i], info.minY());
+                    assertEquals(metrics.maxX()[i], info.maxX());
+                    assertEquals(metrics.maxY()[i], info.maxY());
+                    total += info.advance();
+                }
+                assertEquals(metrics.getTotalAdvance(), total);
+                // Same glyph at both places of a repeated char
+                assertEquals(metrics.glyphIndices()[0], metrics.glyphIndices()[7]);
+                assertEquals(metrics.maxX()[4], metrics.maxX()[6]);
+            }
+        }
+    }
+
+    @Test
+    public void testMeasureCodepoints() {
+        FreeType.load();
+        try (EasyFontLibrary library = new EasyFontLibrary()) {
+            try (EasyFont font = library.createFont("C:\\Windows\\Fonts\\msyh.ttc", 0)) {
+                font.setSize(16);
+                // A supplementary char is one codepoint but two chars of a string
+                int[] codepoints = {'a', 0x1F600, 'a', 'b', 0x1F600, 'a'};
+                String text = new String(codepoints, 0, codepoints.length);
+                CacheStats before = font.getCharInfos().getBudget().getStats();
+                TextMetrics metrics = font.measure(codepoints);
+                CacheStats after = font.getCharInfos().getBudget().getStats();
+                assertEquals(after.misses() - before.misses(), 3);
+                assertEquals(metrics.length(), codepoints.length);
+
+                TextMetrics again = font.measure(text);
+                assertEquals(again.glyphIndices(), metrics.glyphIndices());
+                assertEquals(again.advances(), metrics.advances());
+                assertEquals(again.minY(), metrics.minY());
+                assertEquals(again.maxY(), metrics.maxY());
+                // Served by the cache this time, once for each distinct char
+                CacheStats cached = font.getCharInfos().getBudget().getStats();
+                assertEquals(cached.misses(), after.misses());
+                assertEquals(cached.hits() - after.hits(), 3);
+            }
+        }
+    }
+
+    @Test
+    public void testCharIndexAfterCharmapChange() {
+        FreeType.load();
+        int[] chars = {'K', 'a', 0xA1, 0x4E00, 0x1F600};
+        try (EasyFontLibrary library = new EasyFontLibrary()) {
+            try (EasyFont font = library.createFont("C:\\Windows\\Fonts\\msyh.ttc", 0)) {
+                MemorySegment face = font.getFace();
+                int count = FTFace.NUM_CHARMAPS.get(face);
+                MemorySegment charmaps = MemorySegment.ofAddress(FTFace.CHARMAPS.get(face),
+                        ValueLayout.ADDRESS.byteSize() * count, ResourceScope.globalScope());
+                // Cached indices of one charmap must not be returned for another
+                for (int i = 0; i < count; i++) {
+                    MemoryAddress charmap = charmaps.getAtIndex(ValueLayout.ADDRESS, i);
+                    // Variation selector charmaps can't be selected
+                    if (FreeTypeFace.FTSetCharmap(face.address(), charmap) != 0)
+                        continue;
+                    for (int c : chars) {
+                        int expected = FreeTypeFace.FTGetCharIndex(face.address(), c);
+                        assertEquals(font.getCharIndex(c), expected);
+                        assertEquals(font.getCharIndex(c), expected);
+                    }
+                }
+            }
+        }
+    }
+}
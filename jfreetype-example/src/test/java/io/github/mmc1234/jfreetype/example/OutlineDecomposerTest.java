@@ -0,0 +1,92 @@
+package io.github.mmc1234.jfreetype.example;
+
+import io.github.mmc1234.jfreetype.core.FreeType;
+import io.github.mmc1234.jfreetype.easyfont.EasyFont;
+import io.github.mmc1234.jfreetype.easyfont.EasyFontLibrary;
+import io.github.mmc1234.jfreetype.image.OutlineDecomposer;
+import io.github.mmc1234.jfreetype.image.PathConsumer;
+import org.testng.annotations.Test;
+
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+
+import static org.testng.Assert.*;
+
+public class OutlineDecomposerTest {
+
+    private static class CountingConsumer implements PathConsumer {
+        int contours, segments;
+
+        @Override
+        public void moveTo(int x, int y) {
+            contours++;
+        }
+
+        @Override
+        public void lineTo(int x, int y) {
+            segments++;
+        }
+
+        @Override
+        public void conicTo(int cx, int cy, int x, int y) {
+            segments++;
+        }
+
+        @Override
+        public void cubicTo(int c1x, int c1y, int c2x, int c2y, int x, int y) {
+            segments++;
+        }
+    }
+
+    @Test
+    public void testDecompose() {
+        FreeType.load();
+        try (EasyFontLibrary library = new EasyFontLibrary()) {
+            try (EasyFont font = library.createFont("C:\\Windows\\Fonts\\Arial.ttf", 0)) {
+                font.setSize(32);
+                OutlineDecomposer decomposer = library.getOutlineDecomposer();
+                CountingConsumer consumer = new CountingConsumer();
+                assertTrue(font.decompose('O', decomposer, consumer) > 0);
+                assertEquals(consumer.contours, 2);
+                assertTrue(consumer.segments > 4);
+
+                // The same stubs serve every call, and exceptions of the consumer come back
+                CountingConsumer failing = new CountingConsumer() {
+                    @Override
+                    public void lineTo(int x, int y) {
+                        throw new IllegalStateException("Stop");
+                    }
+                };
+                assertThrows(IllegalStateException.class, () -> font.decompose('H', decomposer, failing));
+                font.decompose('O', decomposer, consumer);
+                assertEquals(consumer.contours, 4);
+            }
+        }
+    }
+
+    @Test
+    public void testGlyphPath() {
+        FreeType.load();
+        try (EasyFontLibrary library = new EasyFontLibrary()) {
+            try (EasyFont font = library.createFont("C:\\Windows\\Fonts\\Arial.ttf", 0)) {
+                OutlineDecomposer decomposer = library.getOutlineDecomposer();
+                Rectangle2D units = font.getGlyphPath('H', decomposer).getBounds2D();
+                assertTrue(units.getMinY() >= 0);
+                assertTrue(units.getHeight() > 1000);
+
+                // Scaled from the cached outline, y downwards
+                Path2D.Float scaled = font.getGlyphPath('H', 64, decomposer);
+                Rectangle2D pixels = scaled.getBounds2D();
+                assertTrue(pixels.getMaxY() <= 0);
+                assertEquals(pixels.getHeight(), units.getHeight() * 64 / 2048, 0.01);
+                assertEquals(font.getCachedPathCount(), 1);
+
+                // Every path is a copy, changing one never changes the cache
+                scaled.reset();
+                assertEquals(font.getGlyphPath('H', 64, decomposer).getBounds2D(), pixels);
+                font.getGlyphPath('O', decomposer);
+                assertEquals(font.getCachedPathCount(), 2);
+            }
+        }
+    }
+}
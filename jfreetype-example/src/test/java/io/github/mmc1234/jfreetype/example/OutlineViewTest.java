@@ -0,0 +1,50 @@
+package io.github.mmc1234.jfreetype.example;
+
+import io.github.mmc1234.jfreetype.image.FTOutline;
+import io.github.mmc1234.jfreetype.image.OutlineView;
+import io.github.mmc1234.jfreetype.util.Scope;
+import io.github.mmc1234.jfreetype.util.VarUtils;
+import jdk.incubator.foreign.MemorySegment;
+import jdk.incubator.foreign.ValueLayout;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class OutlineViewTest {
+
+    @Test
+    public void testCopy() {
+        try (Scope scope = Scope.newScope()) {
+            // A triangle, points in 26.6 format
+            int[] coordinates = {0, 0, 640, 0, 320, 640};
+            MemorySegment points = scope.newIntArray(coordinates.length);
+            points.copyFrom(MemorySegment.ofArray(coordinates));
+            MemorySegment tags = scope.newByteArray(3);
+            tags.fill((byte) 1);
+            MemorySegment contours = scope.newShortArray(1);
+            contours.set(ValueLayout.JAVA_SHORT, 0, (short) 2);
+            MemorySegment outline = scope.newSegment(FTOutline.STRUCT_LAYOUT);
+            VarUtils.set(FTOutline.N_CONTOURS.handle(), outline, (short) 1);
+            VarUtils.set(FTOutline.N_POINTS.handle(), outline, (short) 3);
+            VarUtils.set(FTOutline.POINTS.handle(), outline, points.address());
+            VarUtils.set(FTOutline.TAGS.handle(), outline, tags.address());
+            VarUtils.set(FTOutline.CONTOURS.handle(), outline, contours.address());
+            VarUtils.set(FTOutline.FLAGS.handle(), outline, 0);
+
+            OutlineView view = OutlineView.of(outline);
+            assertEquals(view.getPointCount(), 3);
+            assertEquals(view.getContourCount(), 1);
+            assertEquals(view.getX(2), 320);
+            assertEquals(view.getY(2), 640);
+            int[] copied = new int[7];
+            view.copyPoints(copied, 1);
+            assertEquals(copied, new int[]{0, 0, 0, 640, 0, 320, 640});
+            byte[] copiedTags = new byte[3];
+            view.copyTags(copiedTags, 0);
+            assertEquals(copiedTags, new byte[]{1, 1, 1});
+            short[] ends = new short[1];
+            view.copyContours(ends, 0);
+            assertEquals(ends[0], 2);
+        }
+    }
+}
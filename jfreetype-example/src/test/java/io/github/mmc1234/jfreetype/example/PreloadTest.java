@@ -0,0 +1,69 @@
+package io.github.mmc1234.jfreetype.example;
+
+import io.github.mmc1234.jfreetype.core.FreeType;
+import io.github.mmc1234.jfreetype.easyfont.CacheStats;
+import io.github.mmc1234.jfreetype.easyfont.CharInfo;
+import io.github.mmc1234.jfreetype.easyfont.EasyFont;
+import io.github.mmc1234.jfreetype.easyfont.EasyFontLibrary;
+import io.github.mmc1234.jfreetype.easyfont.PreloadStats;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.testng.Assert.*;
+
+public class PreloadTest {
+
+    @Test
+    public void testPreloadOnThreads() throws Exception {
+        FreeType.load();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (EasyFontLibrary library = new EasyFontLibrary()) {
+            try (EasyFont font = library.createFont("C:\\Windows\\Fonts\\msyh.ttc", 0)) {
+                PreloadStats stats = font.preload(executor, 4, IntStream.rangeClosed('A', 'Z'), 16, 24)
+                        .get(60, TimeUnit.SECONDS);
+                assertEquals(stats.threads(), 4);
+                assertEquals(stats.glyphs(), 26 * 2);
+                assertEquals(stats.missing(), 0);
+                assertTrue(stats.bytes() > 0);
+
+                font.setSize(16);
+                CacheStats before = font.getCharInfos().getBudget().getStats();
+                for (int c = 'A'; c <= 'Z'; c++) {
+                    CharInfo info = font.getCharInfoAndRender(c);
+                    assertEquals(info.codepoint(), c);
+                    assertEquals(info.size(), 16);
+                }
+                CacheStats after = font.getCharInfos().getBudget().getStats();
+                // Every char is served by the cache, none is rendered again
+                assertEquals(after.hits() - before.hits(), 26);
+                assertEquals(after.misses(), before.misses());
+                assertEquals(font.getCharInfos().getRecordChars(), 26 * 2);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testPreloadBlock() throws Exception {
+        FreeType.load();
+        try (EasyFontLibrary library = new EasyFontLibrary()) {
+            try (EasyFont font = library.createFont("C:\\Windows\\Fonts\\msyh.ttc", 0)) {
+                PreloadStats stats = font.preload(Character.UnicodeBlock.BASIC_LATIN, 16).get(60, TimeUnit.SECONDS);
+                // Every codepoint from U+0000 to U+007F is either rendered or missing
+                assertEquals(stats.glyphs() + stats.missing(), 128);
+                assertTrue(stats.glyphs() >= 95);
+
+                // Glyphs are counted for every size, missing chars once
+                PreloadStats twoSizes = font.preload(Character.UnicodeBlock.BASIC_LATIN, 16, 24)
+                        .get(60, TimeUnit.SECONDS);
+                assertEquals(twoSizes.glyphs(), stats.glyphs() * 2);
+                assertEquals(twoSizes.missing(), stats.missing());
+            }
+        }
+    }
+}
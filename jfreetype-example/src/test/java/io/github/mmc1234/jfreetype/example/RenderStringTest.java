@@ -1,16 +1,22 @@
 package io.github.mmc1234.jfreetype.example;
 
 import io.github.mmc1234.jfreetype.core.FreeType;
+import io.github.mmc1234.jfreetype.easyfont.Canvas;
+import io.github.mmc1234.jfreetype.easyfont.CanvasFormat;
 import io.github.mmc1234.jfreetype.easyfont.CharInfo;
 import io.github.mmc1234.jfreetype.easyfont.EasyFont;
 import io.github.mmc1234.jfreetype.easyfont.EasyFontLibrary;
+import io.github.mmc1234.jfreetype.easyfont.RenderConfig;
 import org.testng.annotations.Test;
 
 import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
 import java.io.File;
 
+import static org.testng.Assert.*;
+
 public class RenderStringTest {
 
     @Test
@@ -34,4 +40,59 @@ public class RenderStringTest {
             }
         }
     }
+
+    @Test
+    public void renderIntoCanvas() throws Exception {
+        FreeType.load();
+        try (EasyFontLibrary library = new EasyFontLibrary()) {
+            try (EasyFont font = library.createFont("C:\\Windows\\Fonts\\msyh.ttc", 0)) {
+                font.setSize(16);
+                String text = "KomeijiKoishi";
+                int width = Math.toIntExact(font.measure(text).getTotalAdvance() >> 6) + 1;
+                BufferedImage image = new BufferedImage(width, 24, BufferedImage.TYPE_BYTE_GRAY);
+                byte[] pixels = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+                font.renderString(text, Canvas.of(pixels, width, 24, width, CanvasFormat.GRAY), 0, 18, 0xFFFFFFFF);
+                ImageIO.write(image, "png", new File("canvas.png"));
+            }
+        }
+    }
+
+    @Test
+    public void renderSdf() throws Exception {
+        FreeType.load();
+        try (EasyFontLibrary library = new EasyFontLibrary()) {
+            try (EasyFont font = library.createFont("C:\\Windows\\Fonts\\msyh.ttc", 0)) {
+                font.setSize(16);
+                CharInfo small = font.getSdfCharInfo('K');
+                font.setSize(48);
+                // One field serves every size
+                assertSame(font.getSdfCharInfo('K'), small);
+                assertEquals(small.size(), font.getSdfSize());
+                CharInfo wide = font.getSdfCharInfo('K', RenderConfig.SDF.withSpread(16));
+                assertTrue(wide.width() > small.width());
+                ImageIO.write(EasyFont.charInfoToBitmap(small), "png", new File("sdf.png"));
+            }
+        }
+    }
+
+    @Test
+    public void renderSdfWithTwoFonts() throws Exception {
+        FreeType.load();
+        try (EasyFontLibrary library = new EasyFontLibrary()) {
+            try (EasyFont first = library.createFont("C:\\Windows\\Fonts\\msyh.ttc", 0);
+                 EasyFont second = library.createFont("C:\\Windows\\Fonts\\msyh.ttc", 0)) {
+                RenderConfig narrow = RenderConfig.SDF.withSpread(4);
+                RenderConfig wide = RenderConfig.SDF.withSpread(16);
+                first.getSdfCharInfo('K', narrow);
+                // The spread belongs to the library, so the second font changes it for the first one too
+                second.getSdfCharInfo('K', wide);
+                CharInfo firstNarrow = first.getSdfCharInfo('L', narrow);
+                CharInfo secondNarrow = second.getSdfCharInfo('L', narrow);
+                assertEquals(firstNarrow.width(), secondNarrow.width());
+                assertEquals(firstNarrow.height(), secondNarrow.height());
+                assertEquals(firstNarrow.buffer(), secondNarrow.buffer());
+                assertTrue(first.getSdfCharInfo('L', wide).width() > firstNarrow.width());
+            }
+        }
+    }
 }
@@ -0,0 +1,42 @@
+package io.github.mmc1234.jfreetype.example;
+
+import io.github.mmc1234.jfreetype.atlas.SkylinePacker;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.testng.Assert.*;
+
+public class SkylinePackerTest {
+
+    @Test
+    public void testNoOverlap() {
+        Random random = new Random(42);
+        SkylinePacker packer = new SkylinePacker(256, 256);
+        boolean[][] used = new boolean[256][256];
+        for (int i = 0; i < 1000; i++) {
+            int w = 1 + random.nextInt(24), h = 1 + random.nextInt(24);
+            long position = packer.insert(w, h);
+            if (position < 0)
+                continue;
+            int x = (int) (position >>> 32), y = (int) position;
+            assertTrue(x + w <= 256 && y + h <= 256);
+            for (int row = y; row < y + h; row++)
+                for (int column = x; column < x + w; column++) {
+                    assertFalse(used[row][column]);
+                    used[row][column] = true;
+                }
+        }
+        assertTrue(packer.getOccupancy() > 0.7);
+    }
+
+    @Test
+    public void testFull() {
+        SkylinePacker packer = new SkylinePacker(32, 32);
+        assertEquals(packer.insert(32, 16), 0L);
+        assertEquals(packer.insert(32, 16), 16L);
+        assertEquals(packer.insert(1, 1), -1L);
+        packer.reset();
+        assertEquals(packer.insert(1, 1), 0L);
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.mmc1234.jfreetype.example.benchmark;
+
+import io.github.mmc1234.jfreetype.easyfont.CharInfo;
+import io.github.mmc1234.jfreetype.easyfont.CharInfoMap;
+import io.github.mmc1234.jfreetype.easyfont.LongCharInfoMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare lookups of {@link CharInfoMap} and {@link LongCharInfoMap}.
+ * Run with {@code gradlew :example:jmh -PjmhInclude=CharInfoMapBenchmark}.
+ */
+@SuppressWarnings("deprecation")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CharInfoMapBenchmark {
+
+    private static final int LOAD_FLAGS = 1 << 3 | 1 << 5;
+    private static final int[] SIZES = {12, 16, 24, 32};
+
+    @Param({"1000", "10000"})
+    public int chars;
+
+    private int[] codepoints;
+    private CharInfoMap charInfoMap;
+    private LongCharInfoMap longCharInfoMap;
+
+    @Setup
+    public void setup() {
+        codepoints = new int[chars];
+        charInfoMap = new CharInfoMap();
+        longCharInfoMap = new LongCharInfoMap();
+        for (int i = 0; i < chars; i++) {
+            // CJK Unified Ideographs
+            codepoints[i] = 0x4E00 + i;
+            for (int size : SIZES) {
+                CharInfo info = new CharInfo(codepoints[i], i, size, size, size, 0, 0, size, size, size << 6, null);
+                charInfoMap.putCharInfo(info);
+                longCharInfoMap.put(LongCharInfoMap.key(codepoints[i], size, LOAD_FLAGS), info);
+            }
+        }
+    }
+
+    @Benchmark
+    public void charInfoMapHit(Blackhole blackhole) {
+        for (int codepoint : codepoints)
+            for (int size : SIZES)
+                blackhole.consume(charInfoMap.getCharInfo(codepoint, size));
+    }
+
+    @Benchmark
+    public void longCharInfoMapHit(Blackhole blackhole) {
+        for (int codepoint : codepoints)
+            for (int size : SIZES)
+                blackhole.consume(longCharInfoMap.get(codepoint, size, LOAD_FLAGS));
+    }
+
+    @Benchmark
+    public void charInfoMapMiss(Blackhole blackhole) {
+        for (int codepoint : codepoints)
+            blackhole.consume(charInfoMap.getCharInfo(codepoint, 13));
+    }
+
+    @Benchmark
+    public void longCharInfoMapMiss(Blackhole blackhole) {
+        for (int codepoint : codepoints)
+            blackhole.consume(longCharInfoMap.get(codepoint, 13, LOAD_FLAGS));
+    }
+}
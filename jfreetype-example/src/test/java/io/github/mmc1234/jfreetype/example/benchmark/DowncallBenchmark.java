@@ -0,0 +1,88 @@
+package io.github.mmc1234.jfreetype.example.benchmark;
+
+import io.github.mmc1234.jfreetype.core.FreeType;
+import jdk.incubator.foreign.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import static io.github.mmc1234.jfreetype.core.FTErrors.checkCode;
+import static io.github.mmc1234.jfreetype.core.FTLoadFlags.FT_LOAD_NO_BITMAP;
+import static io.github.mmc1234.jfreetype.core.FTLoadFlags.FT_LOAD_NO_HINTING;
+import static io.github.mmc1234.jfreetype.core.FreeTypeFace.*;
+import static io.github.mmc1234.jfreetype.core.FreeTypeGlyph.*;
+import static io.github.mmc1234.jfreetype.core.FreeTypeLibrary.*;
+import static io.github.mmc1234.jfreetype.util.VarUtils.*;
+
+/**
+ * Compare the bindings, whose handles are static final and called with {@code invokeExact}, with handles
+ * stored in mutable fields and called with {@code invoke} as the bindings used to be.
+ * Run with {@code gradlew :example:jmh -PjmhInclude=DowncallBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DowncallBenchmark {
+
+    private static final int LOAD_FLAGS = FT_LOAD_NO_BITMAP | FT_LOAD_NO_HINTING;
+
+    private ResourceScope scope;
+    private MemoryAddress library;
+    private MemoryAddress face;
+    private int glyphIndex;
+    // Neither final nor exact, so every call adapts the arguments
+    private MethodHandle getCharIndex;
+    private MethodHandle loadGlyph;
+
+    @Setup
+    public void setup() {
+        FreeType.load();
+        scope = ResourceScope.newConfinedScope();
+        MemorySegment ptrLibrary = newAddress(scope);
+        checkCode(FTInitFreeType(ptrLibrary));
+        library = starAddress(ptrLibrary);
+        MemorySegment ptrFace = newAddress(scope);
+        checkCode(FTNewFace(library, newString("C:\\Windows\\Fonts\\Arial.ttf", scope).address(), 0, ptrFace));
+        face = starAddress(ptrFace);
+        checkCode(FTSetPixelSizes(face, 0, 32));
+        glyphIndex = FTGetCharIndex(face, 'A');
+
+        CLinker linker = CLinker.systemCLinker();
+        SymbolLookup lookup = SymbolLookup.loaderLookup();
+        getCharIndex = linker.downcallHandle(lookup.lookup("FT_Get_Char_Index").orElseThrow(),
+                FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.JAVA_LONG));
+        loadGlyph = linker.downcallHandle(lookup.lookup("FT_Load_Glyph").orElseThrow(),
+                FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.JAVA_INT, ValueLayout.JAVA_INT));
+    }
+
+    @TearDown
+    public void tearDown() {
+        checkCode(FTDoneFace(face));
+        checkCode(FTDoneFreeType(library));
+        scope.close();
+    }
+
+    @Benchmark
+    public int getCharIndexExact() {
+        return FTGetCharIndex(face, 'A');
+    }
+
+    @Benchmark
+    public int getCharIndexInvoke() throws Throwable {
+        return (int) getCharIndex.invoke(face, 'A');
+    }
+
+    @Benchmark
+    public int loadGlyphExact() {
+        return FTLoadGlyph(face, glyphIndex, LOAD_FLAGS);
+    }
+
+    @Benchmark
+    public int loadGlyphInvoke() throws Throwable {
+        return (int) loadGlyph.invoke(face, glyphIndex, LOAD_FLAGS);
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.mmc1234.jfreetype.example.benchmark;
+
+import io.github.mmc1234.jfreetype.core.FTFace;
+import io.github.mmc1234.jfreetype.core.FTGlyphSlot;
+import io.github.mmc1234.jfreetype.core.FTRenderMode;
+import io.github.mmc1234.jfreetype.core.FreeType;
+import io.github.mmc1234.jfreetype.image.FTBitmap;
+import io.github.mmc1234.jfreetype.sdf.DistanceField;
+import io.github.mmc1234.jfreetype.sdf.DistanceFieldGenerator;
+import io.github.mmc1234.jfreetype.sdf.GlyphShape;
+import jdk.incubator.foreign.MemoryAddress;
+import jdk.incubator.foreign.MemorySegment;
+import jdk.incubator.foreign.ResourceScope;
+import jdk.incubator.foreign.ValueLayout;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.github.mmc1234.jfreetype.core.FTErrors.checkCode;
+import static io.github.mmc1234.jfreetype.core.FTLoadFlags.FT_LOAD_NO_BITMAP;
+import static io.github.mmc1234.jfreetype.core.FTLoadFlags.FT_LOAD_NO_HINTING;
+import static io.github.mmc1234.jfreetype.core.FreeTypeFace.*;
+import static io.github.mmc1234.jfreetype.core.FreeTypeGlyph.*;
+import static io.github.mmc1234.jfreetype.core.FreeTypeLibrary.*;
+import static io.github.mmc1234.jfreetype.util.VarUtils.*;
+
+/**
+ * Compare {@code FT_RENDER_MODE_SDF} with {@link DistanceFieldGenerator} on the letters of a font.
+ * The setup prints the mean difference between the fields of FreeType and the exact fields of the generator,
+ * in 1/255 of the spread, to compare their sharpness at small sizes.
+ * Run with {@code gradlew :example:jmh -PjmhInclude=SdfBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SdfBenchmark {
+
+    private static final String TEXT = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int SPREAD = 8;
+    private static final int LOAD_FLAGS = FT_LOAD_NO_BITMAP | FT_LOAD_NO_HINTING;
+
+    @Param({"12", "24", "64"})
+    public int size;
+
+    private ResourceScope scope;
+    private MemoryAddress library;
+    private MemorySegment face;
+    private MemorySegment slot;
+    private int[] glyphIndices;
+    private List<GlyphShape> shapes;
+    private DistanceFieldGenerator generator;
+
+    @Setup
+    public void setup() {
+        FreeType.load();
+        scope = ResourceScope.newConfinedScope();
+        MemorySegment ptrLibrary = newAddress(scope);
+        checkCode(FTInitFreeType(ptrLibrary));
+        library = starAddress(ptrLibrary);
+        MemorySegment spread = newInt(scope);
+        spread.set(ValueLayout.JAVA_INT, 0, SPREAD);
+        checkCode(FTPropertySet(library, newString("sdf", scope), newString("spread", scope), spread.address()));
+        MemorySegment ptrFace = newAddress(scope);
+        checkCode(FTNewFace(library, newString("C:\\Windows\\Fonts\\Arial.ttf", scope).address(), 0, ptrFace));
+        face = star(ptrFace, FTFace.STRUCT_LAYOUT, scope);
+        checkCode(FTSetPixelSizes(face.address(), 0, size));
+        slot = getSegment(FTFace.GLYPH.handle(), face, FTGlyphSlot.STRUCT_LAYOUT, scope);
+
+        generator = new DistanceFieldGenerator(SPREAD);
+        glyphIndices = TEXT.chars().map(c -> FTGetCharIndex(face.address(), c)).toArray();
+        shapes = new ArrayList<>();
+        long difference = 0, pixels = 0;
+        for (int glyphIndex : glyphIndices) {
+            checkCode(FTLoadGlyph(face.address(), glyphIndex, LOAD_FLAGS));
+            GlyphShape shape = GlyphShape.of(FTGlyphSlot.OUTLINE.get(slot));
+            shapes.add(shape);
+            DistanceField field = generator.generateSdf(shape);
+            checkCode(FTRenderGlyph(slot.address(), FTRenderMode.FT_RENDER_MODE_SDF));
+            MemorySegment bitmap = FTGlyphSlot.BITMAP.get(slot);
+            int width = FTBitmap.WIDTH.get(bitmap), rows = FTBitmap.ROWS.get(bitmap), pitch = FTBitmap.PITCH.get(bitmap);
+            int left = FTGlyphSlot.BITMAP_LEFT.get(slot), top = FTGlyphSlot.BITMAP_TOP.get(slot);
+            MemorySegment buffer = MemorySegment.ofAddress(FTBitmap.BUFFER.get(bitmap), (long) pitch * rows,
+                    ResourceScope.globalScope());
+            for (int y = 0; y < rows; y++)
+                for (int x = 0; x < width; x++) {
+                    int fx = left + x - field.left(), fy = field.top() - top + y;
+                    if (fx < 0 || fy < 0 || fx >= field.width() || fy >= field.height())
+                        continue;
+                    int value = buffer.get(ValueLayout.JAVA_BYTE, (long) y * pitch + x) & 0xFF;
+                    difference += Math.abs(value - field.getDistance(fx, fy));
+                    pixels++;
+                }
+        }
+        System.out.printf("%nSize %d: FreeType differs from the exact field by %.2f on average%n",
+                size, (double) difference / Math.max(1, pixels));
+    }
+
+    @TearDown
+    public void tearDown() {
+        checkCode(FTDoneFace(face.address()));
+        checkCode(FTDoneFreeType(library));
+        scope.close();
+    }
+
+    @Benchmark
+    public void freeTypeSdf(Blackhole blackhole) {
+        for (int glyphIndex : glyphIndices) {
+            checkCode(FTLoadGlyph(face.address(), glyphIndex, LOAD_FLAGS));
+            checkCode(FTRenderGlyph(slot.address(), FTRenderMode.FT_RENDER_MODE_SDF));
+            blackhole.consume(FTBitmap.WIDTH.get(FTGlyphSlot.BITMAP.get(slot)));
+        }
+    }
+
+    @Benchmark
+    public void javaSdf(Blackhole blackhole) {
+        blackhole.consume(generator.generateAll(shapes, false));
+    }
+
+    @Benchmark
+    public void javaMsdf(Blackhole blackhole) {
+        blackhole.consume(generator.generateAll(shapes, true));
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.mmc1234.jfreetype.example.benchmark;
+
+import io.github.mmc1234.jfreetype.core.FreeType;
+import io.github.mmc1234.jfreetype.easyfont.EasyFont;
+import io.github.mmc1234.jfreetype.easyfont.EasyFontLibrary;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure a process opening a face and rendering one glyph, with the handles linked on first use
+ * and with every handle linked up front. Each measurement runs once in a new JVM, so it includes
+ * class loading and linking.
+ * Run with {@code gradlew :example:jmh -PjmhInclude=StartupBenchmark}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+    @Benchmark
+    public int lazy() {
+        FreeType.load();
+        return renderOne();
+    }
+
+    @Benchmark
+    public int eager() {
+        FreeType.linkAll();
+        return renderOne();
+    }
+
+    private static int renderOne() {
+        try (EasyFontLibrary library = new EasyFontLibrary()) {
+            try (EasyFont font = library.createFont("C:\\Windows\\Fonts\\Arial.ttf", 0)) {
+                return font.getCharInfoAndRender('A').width();
+            }
+        }
+    }
+}
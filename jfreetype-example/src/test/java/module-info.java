@@ -2,5 +2,6 @@ open module jfreetype.test {
     requires jfreetype;
     requires jdk.incubator.foreign;
     requires org.testng;
+    requires jmh.core;
     requires java.desktop;
 }
\ No newline at end of file
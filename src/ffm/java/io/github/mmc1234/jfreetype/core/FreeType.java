@@ -0,0 +1,40 @@
+/*
+ * Copyright 2022. mmc1234
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.mmc1234.jfreetype.core;
+
+import io.github.mmc1234.jfreetype.internal.*;
+
+/**
+ * A class indexes to all Core APIs.<br/>
+ * Please use sub-interfaces to call functions.
+ */
+public class FreeType implements FTErrors, FreeTypeLibrary, FreeTypeFace, FreeTypeSize, FreeTypeGlyph, FreeTypeOutline {
+
+    /**
+     * Load the native library of FreeType API. Each method handle is linked on the first call of its function.
+     */
+    public static boolean load() {
+         return FreeTypeInternal.loadAll();
+    }
+
+    /**
+     * Load the native library and link every method handle now, e.g. to find missing symbols at startup.
+     */
+    public static void linkAll() {
+        FreeTypeInternal.linkAll();
+    }
+}
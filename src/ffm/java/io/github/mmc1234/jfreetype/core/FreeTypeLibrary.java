@@ -0,0 +1,126 @@
+package io.github.mmc1234.jfreetype.core;
+
+import io.github.mmc1234.jfreetype.In;
+import io.github.mmc1234.jfreetype.Out;
+import io.github.mmc1234.jfreetype.internal.BaseInterface;
+import io.github.mmc1234.jfreetype.internal.VersionInternal;
+
+import java.lang.foreign.MemorySegment;
+
+import static io.github.mmc1234.jfreetype.internal.LibraryUtil.rethrow;
+
+/**
+ * An interface stores library operations.
+ */
+public interface FreeTypeLibrary {
+
+    /**
+     * Return the version of the FreeType library being used.
+     * This is useful when dynamically linking to the library,
+     * since one cannot use the macros {@code FREETYPE_MAJOR}, {@code FREETYPE_MINOR}, and {@code FREETYPE_PATCH}.
+     *
+     * @param library A source library handle.
+     * @param amajor  The major version number.
+     * @param aminor  The minor version number.
+     * @param apatch  The patch version number.
+     * @apiNote The reason why this function takes a library argument is because certain programs implement
+     * library initialization in a custom way that doesn't use {@link #FTInitFreeType}. In such cases,
+     * the library version might not be available before the library object has been created.
+     */
+    static void FTLibraryVersion(@In MemorySegment library, @Out MemorySegment amajor, @Out MemorySegment aminor, @Out MemorySegment apatch) {
+        try {
+            VersionInternal.FT_LIBRARY_VERSION.HANDLE.invokeExact(library, amajor, aminor, apatch);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Initialize a new FreeType library object.
+     * The set of modules that are registered by this function is determined at build time.
+     *
+     * @param alibrary A handle to a new library object.
+     * @return FreeType error code. 0 means success.
+     * @apiNote In case you want to provide your own memory allocating routines, use FTNewLibrary instead,
+     * followed by a call to {@code FT_Add_Default_Modules} (or a series of calls to {@code FT_Add_Module})
+     * and {@code FT_Set_Default_Properties}.<br/>
+     * <p>
+     * See the documentation of {@code FTLibrary} and {@code FTFace} for multi-threading issues.<br/>
+     * <p>
+     * If you need reference-counting (cf. {@code FT_Reference_Library}), use {@code FT_New_Library}
+     * and {@code FT_Done_Library}.<br/>
+     * <p>
+     * If compilation option FT_CONFIG_OPTION_ENVIRONMENT_PROPERTIES is set, this function
+     * reads the FREETYPE_PROPERTIES environment variable to control driver properties.
+     */
+    static int FTInitFreeType(@Out MemorySegment alibrary) {
+        try {
+            return (int) BaseInterface.FT_INIT_FREETYPE.HANDLE.invokeExact(alibrary);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Destroy a given FreeType library object and all of its children, including resources, drivers, faces, sizes, etc.
+     *
+     * @param library A handle to the target library object.
+     * @return FreeType error code. 0 means success.
+     */
+    static int FTDoneFreeType(@In MemorySegment library) {
+        try {
+            return (int) BaseInterface.FT_DONE_FREETYPE.HANDLE.invokeExact(library);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Set a property for a given module.
+     *
+     * @param library       A handle to the library the module is part of.
+     * @param module_name   The module name, a C string like {@code "sdf"}.
+     * @param property_name The property name, a C string like {@code "spread"}.
+     *                      Properties are described in section ‘Driver properties’.
+     * @param value         A generic pointer to a variable or structure that gives the new value of the property.
+     *                      The exact definition of value is dependent on the property.
+     * @return FreeType error code. 0 means success.
+     * @apiNote {@code FT_Err_Missing_Module} is returned if module_name doesn't exist,
+     * {@code FT_Err_Missing_Property} if module_name isn't a valid module name, or property_name doesn't exist,
+     * and {@code FT_Err_Invalid_Argument} if value is invalid.<br/>
+     * <p>
+     * Properties are set for the whole library: every face of the library uses the new value when it is loaded
+     * or rendered next. For example, the spread of the signed distance fields rendered with
+     * {@code FT_RENDER_MODE_SDF} is set with the {@code "spread"} property of the {@code "sdf"} module
+     * (outlines) and of the {@code "bsdf"} module (bitmaps), as an {@code FT_Int} from 2 to 32.
+     */
+    static int FTPropertySet(@In MemorySegment library, @In MemorySegment module_name,
+                             @In MemorySegment property_name, @In MemorySegment value) {
+        try {
+            return (int) BaseInterface.FT_PROPERTY_SET.HANDLE.invokeExact(library, module_name, property_name, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Get a module's property value.
+     *
+     * @param library       A handle to the library the module is part of.
+     * @param module_name   The module name, a C string.
+     * @param property_name The property name, a C string.
+     * @param value         A generic pointer to a variable or structure that gives the value of the property.
+     *                      The exact definition of value is dependent on the property.
+     * @return FreeType error code. 0 means success.
+     * @apiNote {@code FT_Err_Missing_Module} is returned if module_name doesn't exist,
+     * {@code FT_Err_Missing_Property} if module_name isn't a valid module name, or property_name doesn't exist.
+     */
+    static int FTPropertyGet(@In MemorySegment library, @In MemorySegment module_name,
+                             @In MemorySegment property_name, @Out MemorySegment value) {
+        try {
+            return (int) BaseInterface.FT_PROPERTY_GET.HANDLE.invokeExact(library, module_name, property_name, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.mmc1234.jfreetype.internal;
+
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
+
+import static io.github.mmc1234.jfreetype.internal.LibraryUtil.load;
+import static io.github.mmc1234.jfreetype.util.FunctionDescriptorUtils.of;
+
+public class GlyphColorManagement {
+
+    // FTColor of src/main is built on the incubator API
+    private static final MemoryLayout FT_COLOR = MemoryLayout.structLayout(
+            ValueLayout.JAVA_BYTE.withName("blue"),
+            ValueLayout.JAVA_BYTE.withName("green"),
+            ValueLayout.JAVA_BYTE.withName("red"),
+            ValueLayout.JAVA_BYTE.withName("alpha"));
+
+    public static final class FT_PALETTE_DATA_GET {
+        public static final MethodHandle HANDLE = load("FT_Palette_Data_Get", of("IAA"));
+    }
+
+    public static final class FT_PALETTE_SELECT {
+        public static final MethodHandle HANDLE = load("FT_Palette_Select", of("IASA"));
+    }
+
+    // FT_Color is passed by value
+    public static final class FT_PALETTE_SET_FOREGROUND_COLOR {
+        public static final MethodHandle HANDLE = load("FT_Palette_Set_Foreground_Color", of("IA0", FT_COLOR));
+    }
+}
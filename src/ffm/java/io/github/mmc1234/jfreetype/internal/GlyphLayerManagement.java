@@ -0,0 +1,42 @@
+package io.github.mmc1234.jfreetype.internal;
+
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
+
+import static io.github.mmc1234.jfreetype.internal.LibraryUtil.load;
+import static io.github.mmc1234.jfreetype.util.FunctionDescriptorUtils.of;
+
+public class GlyphLayerManagement {
+
+    // FTOpaquePaint of src/main is built on the incubator API
+    private static final MemoryLayout FT_OPAQUE_PAINT = MemoryLayout.structLayout(
+            ValueLayout.ADDRESS.withName("p"),
+            ValueLayout.JAVA_BOOLEAN.withName("insert_root_transform"),
+            MemoryLayout.paddingLayout(ValueLayout.ADDRESS.byteSize() - 1));
+
+    public static final class FT_GET_COLOR_GLYPH_LAYER {
+        public static final MethodHandle HANDLE = load("FT_Get_Color_Glyph_Layer", of("BAIAAA"));
+    }
+
+    public static final class FT_GET_COLOR_GLYPH_PAINT {
+        public static final MethodHandle HANDLE = load("FT_Get_Color_Glyph_Paint", of("ZAIIA"));
+    }
+
+    public static final class FT_GET_COLOR_GLYPH_CLIP_BOX {
+        public static final MethodHandle HANDLE = load("FT_Get_Color_Glyph_ClipBox", of("ZAIA"));
+    }
+
+    public static final class FT_GET_PAINT_LAYERS {
+        public static final MethodHandle HANDLE = load("FT_Get_Paint_Layers", of("ZAAA"));
+    }
+
+    public static final class FT_GET_COLOR_LINE_STOPS {
+        public static final MethodHandle HANDLE = load("FT_Get_Colorline_Stops", of("ZAAA"));
+    }
+
+    // FT_OpaquePaint is passed by value
+    public static final class FT_GET_PAINT {
+        public static final MethodHandle HANDLE = load("FT_Get_Paint", of("ZA0A", FT_OPAQUE_PAINT));
+    }
+}
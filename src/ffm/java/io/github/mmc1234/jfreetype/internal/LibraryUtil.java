@@ -0,0 +1,78 @@
+package io.github.mmc1234.jfreetype.internal;
+
+import io.github.mmc1234.jfreetype.util.DowncallStats;
+
+import java.io.File;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import java.lang.invoke.MethodHandle;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Links the bindings with the final java.lang.foreign API. Same methods as the incubator version in
+ * {@code src/main}, so the holder classes of the bindings are shared between both backends.
+ */
+public class LibraryUtil {
+
+    private static volatile boolean loaded = false;
+
+    private static final SymbolLookup SYMBOL_LOOKUP = SymbolLookup.loaderLookup();
+    private static final Linker LINKER = Linker.nativeLinker();
+
+    public static synchronized void loadNative() {
+        if (loaded)
+            return;
+        String lib = System.getProperty("jfreetype.library");
+        System.load(Objects.requireNonNullElse(lib, new File("freetype.dll").getAbsolutePath()));
+        loaded = true;
+    }
+
+    protected static boolean isLoaded() {
+        return loaded;
+    }
+
+    public static MemorySegment getNativeSymbol(String name) {
+        return SYMBOL_LOOKUP.find(name).orElseThrow(() -> new UnsatisfiedLinkError("Cannot find symbol " + name));
+    }
+
+    public static Optional<MemorySegment> getNativeSymbolSilent(String name) {
+        return SYMBOL_LOOKUP.find(name);
+    }
+
+    /**
+     * Link a downcall handle. Called by the holder classes of the bindings, so a symbol is linked
+     * on the first call of its function.
+     */
+    public static MethodHandle load(String name, FunctionDescriptor fd) {
+        loadNative();
+        return instrument(name, LINKER.downcallHandle(getNativeSymbol(name), fd));
+    }
+
+    /**
+     * Link a downcall handle of a short function that neither blocks nor calls back into Java.
+     * A critical call skips the thread state transitions of a plain downcall, but it holds up
+     * the GC for as long as it runs. Heap segments can't be passed to it.
+     */
+    public static MethodHandle loadCritical(String name, FunctionDescriptor fd) {
+        loadNative();
+        return instrument(name, LINKER.downcallHandle(getNativeSymbol(name), fd, Linker.Option.critical(false)));
+    }
+
+    public static MethodHandle loadSilent(String name, FunctionDescriptor fd) {
+        loadNative();
+        Optional<MemorySegment> symbol = getNativeSymbolSilent(name);
+        return symbol.map(nativeSymbol -> instrument(name, LINKER.downcallHandle(nativeSymbol, fd))).orElse(null);
+    }
+
+    // Without -Djfreetype.instrument=true the plain handle is used, so calls cost nothing more
+    private static MethodHandle instrument(String name, MethodHandle handle) {
+        return DowncallStats.isEnabled() ? DowncallStats.instrument(name, handle) : handle;
+    }
+
+    public static RuntimeException rethrow(Throwable e) {
+        return new RuntimeException("An error occurred in invoking C-Library function!", e);
+    }
+}
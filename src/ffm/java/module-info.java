@@ -0,0 +1,7 @@
+module jfreetype {
+    exports io.github.mmc1234.jfreetype.color;
+    exports io.github.mmc1234.jfreetype.core;
+    exports io.github.mmc1234.jfreetype.util;
+    exports io.github.mmc1234.jfreetype;
+    exports io.github.mmc1234.jfreetype.glyph;
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package io.github.mmc1234.jfreetype.test;
+
+import io.github.mmc1234.jfreetype.core.FTKerningMode;
+import io.github.mmc1234.jfreetype.core.FreeType;
+import io.github.mmc1234.jfreetype.core.FreeTypeFace;
+import io.github.mmc1234.jfreetype.core.FreeTypeLibrary;
+import org.testng.annotations.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+
+import static org.testng.Assert.*;
+
+public class ForeignBackendTest {
+
+    private static final String FONT = System.getProperty("jfreetype.font", "C:\\Windows\\Fonts\\msyh.ttc");
+
+    private static MemorySegment newString(Arena arena, String s) {
+        byte[] bytes = (s + '\0').getBytes(StandardCharsets.UTF_8);
+        return arena.allocate(bytes.length).copyFrom(MemorySegment.ofArray(bytes));
+    }
+
+    @Test
+    public void testCriticalBindings() {
+        FreeType.load();
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment alibrary = arena.allocate(ValueLayout.ADDRESS);
+            assertEquals(FreeTypeLibrary.FTInitFreeType(alibrary), 0);
+            MemorySegment library = alibrary.get(ValueLayout.ADDRESS, 0);
+            MemorySegment aface = arena.allocate(ValueLayout.ADDRESS);
+            assertEquals(FreeTypeFace.FTNewFace(library, newString(arena, FONT), 0, aface), 0);
+            MemorySegment face = aface.get(ValueLayout.ADDRESS, 0);
+            try {
+                // The critical FT_Get_Char_Index must agree with the plain charmap walk
+                MemorySegment agindex = arena.allocate(ValueLayout.JAVA_INT);
+                long charcode = FreeTypeFace.FTGetFirstChar(face, agindex);
+                int previous = 0, chars = 0;
+                while (agindex.get(ValueLayout.JAVA_INT, 0) != 0 && chars < 4096) {
+                    int gindex = agindex.get(ValueLayout.JAVA_INT, 0);
+                    assertEquals(FreeTypeFace.FTGetCharIndex(face, charcode), gindex, "glyph of " + charcode);
+                    if (previous != 0) {
+                        MemorySegment akerning = arena.allocate(ValueLayout.JAVA_LONG, 2);
+                        assertEquals(FreeTypeFace.FTGetKerning(face, previous, gindex,
+                                FTKerningMode.FT_KERNING_UNSCALED.value(), akerning), 0);
+                    }
+                    previous = gindex;
+                    charcode = FreeTypeFace.FTGetNextChar(face, charcode, agindex);
+                    chars++;
+                }
+                assertTrue(chars > 0);
+                assertEquals(FreeTypeFace.FTGetCharIndex(face, 0x10FFFF), 0);
+                // No charmap, but the handle is linked and called
+                assertEquals(FreeTypeFace.FTGetCharmapIndex(MemorySegment.NULL), -1);
+            } finally {
+                assertEquals(FreeTypeFace.FTDoneFace(face), 0);
+                assertEquals(FreeTypeLibrary.FTDoneFreeType(library), 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Optional native shim of jfreetype, built with `gradlew glyphRunShim` on Windows or Linux.
+ * It must link the same FreeType library that is loaded through -Djfreetype.library,
+ * because faces created by one copy of FreeType cannot be used by another. On Windows it links
+ * freetype.dll by name, which resolves to the module already loaded by jfreetype.
+ */
+
+#include <stdint.h>
+#include <string.h>
+
+#include <ft2build.h>
+#include FT_FREETYPE_H
+
+/* Values written for each glyph, see FaceRenderer#renderRun */
+#define METRIC_GLYPH_INDEX 0
+#define METRIC_LEFT 1
+#define METRIC_TOP 2
+#define METRIC_WIDTH 3
+#define METRIC_ROWS 4
+#define METRIC_ADVANCE 5
+#define METRIC_OFFSET 6
+#define METRIC_COUNT 8
+
+#ifdef _WIN32
+#define JFT_EXPORT __declspec(dllexport)
+#else
+#define JFT_EXPORT
+#endif
+
+/*
+ * Load and render a run of chars at the current size of the face.
+ * The 8-bit coverage of the glyphs is packed row after row into out_buffer, with a stride of the bitmap width.
+ * Chars without a glyph are skipped and get a glyph index of 0.
+ * Returns the count of chars done. It stops before a char that fails to load or render, has an unsupported
+ * pixel mode or does not fit into the buffer, so the caller can handle that char in another way.
+ */
+JFT_EXPORT int32_t jft_render_glyph_run(FT_Face face, const int32_t *codepoints, int32_t n, int32_t load_flags,
+                                        int32_t render_mode, int64_t *out_metrics, uint8_t *out_buffer, int64_t buffer_size) {
+    int64_t used = 0;
+    for (int32_t i = 0; i < n; i++) {
+        int64_t *metrics = out_metrics + (int64_t) i * METRIC_COUNT;
+        memset(metrics, 0, sizeof(int64_t) * METRIC_COUNT);
+        metrics[METRIC_OFFSET] = -1;
+        FT_UInt index = FT_Get_Char_Index(face, (FT_ULong) (uint32_t) codepoints[i]);
+        if (index == 0)
+            continue;
+        if (FT_Load_Glyph(face, index, load_flags) != 0 || FT_Render_Glyph(face->glyph, (FT_Render_Mode) render_mode) != 0)
+            return i;
+
+        FT_GlyphSlot slot = face->glyph;
+        FT_Bitmap *bitmap = &slot->bitmap;
+        int mono = bitmap->pixel_mode == FT_PIXEL_MODE_MONO;
+        if (!mono && bitmap->pixel_mode != FT_PIXEL_MODE_GRAY)
+            return i;
+        if (bitmap->pitch < 0)
+            return i;
+        int64_t width = bitmap->width, rows = bitmap->rows;
+        if (used + width * rows > buffer_size)
+            return i;
+
+        uint8_t *dest = out_buffer + used;
+        for (int64_t y = 0; y < rows; y++) {
+            const uint8_t *row = bitmap->buffer + y * bitmap->pitch;
+            if (mono) {
+                /* 1 bit per pixel, the most significant bit first */
+                for (int64_t x = 0; x < width; x++)
+                    dest[y * width + x] = (row[x >> 3] & (0x80 >> (x & 7))) ? 0xFF : 0;
+            } else {
+                memcpy(dest + y * width, row, (size_t) width);
+            }
+        }
+
+        metrics[METRIC_GLYPH_INDEX] = index;
+        metrics[METRIC_LEFT] = slot->bitmap_left;
+        metrics[METRIC_TOP] = slot->bitmap_top;
+        metrics[METRIC_WIDTH] = width;
+        metrics[METRIC_ROWS] = rows;
+        metrics[METRIC_ADVANCE] = slot->advance.x;
+        metrics[METRIC_OFFSET] = used;
+        used += width * rows;
+    }
+    return n;
+}
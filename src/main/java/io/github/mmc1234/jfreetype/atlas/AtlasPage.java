@@ -0,0 +1,172 @@
+package io.github.mmc1234.jfreetype.atlas;
+
+import io.github.mmc1234.jfreetype.util.Scope;
+import jdk.incubator.foreign.MemorySegment;
+
+import java.util.List;
+
+/**
+ * A page of a {@link GlyphAtlas}: 8-bit coverage pixels in native memory, packed row by row without padding.
+ */
+public final class AtlasPage {
+
+    private final int index;
+    private final Scope scope;
+    private final MemorySegment pixels;
+    private SkylinePacker packer;
+    // Dirty rectangles as (left, top, right, bottom), never overlapping, merged when they are close to each other
+    private final int[] dirty = new int[MAX_DIRTY * 4];
+    private int dirtyCount;
+
+    private static final int MAX_DIRTY = 8;
+
+    AtlasPage(int index, int width, int height) {
+        this.index = index;
+        // Every page has its own scope, so that compaction can release the pages it empties
+        scope = Scope.newScope();
+        pixels = scope.newByteArray(width * height);
+        packer = new SkylinePacker(width, height);
+    }
+
+    /**
+     * Get index of the page in the atlas.
+     * @return index of the page
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Get the pixels, {@link #getWidth()} bytes per row.
+     * @return the pixels
+     */
+    public MemorySegment getPixels() {
+        return pixels;
+    }
+
+    /**
+     * Get width of the page.
+     * @return width in pixels
+     */
+    public int getWidth() {
+        return packer.getWidth();
+    }
+
+    /**
+     * Get height of the page.
+     * @return height in pixels
+     */
+    public int getHeight() {
+        return packer.getHeight();
+    }
+
+    /**
+     * Get the ratio of the area used by glyphs, including padding.
+     * @return used area divided by the area of the page
+     */
+    public double getOccupancy() {
+        return packer.getOccupancy();
+    }
+
+    SkylinePacker getPacker() {
+        return packer;
+    }
+
+    /**
+     * Remove every glyph and mark the whole page as dirty, then place glyphs with a packer holding their places.
+     * @param packer packer of the page from now on
+     */
+    void clear(SkylinePacker packer) {
+        this.packer = packer;
+        pixels.fill((byte) 0);
+        dirtyCount = 0;
+        markDirty(0, 0, getWidth(), getHeight());
+    }
+
+    void close() {
+        scope.close();
+    }
+
+    /**
+     * Check whether the page has changed since the last drain.
+     * @return true if there is a dirty rectangle
+     */
+    public boolean isDirty() {
+        return dirtyCount > 0;
+    }
+
+    void markDirty(int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0)
+            return;
+        int left = x, top = y, right = x + width, bottom = y + height;
+        while (true) {
+            // Absorb every rectangle overlapping the new one, or whose union with it wastes less than they cover,
+            // so that the rectangles never overlap
+            for (int i = 0; i < dirtyCount; ) {
+                int o = i * 4;
+                boolean overlaps = dirty[o] < right && left < dirty[o + 2]
+                        && dirty[o + 1] < bottom && top < dirty[o + 3];
+                long union = area(Math.min(left, dirty[o]), Math.min(top, dirty[o + 1]),
+                        Math.max(right, dirty[o + 2]), Math.max(bottom, dirty[o + 3]));
+                if (overlaps || union <= 2 * (area(left, top, right, bottom)
+                        + area(dirty[o], dirty[o + 1], dirty[o + 2], dirty[o + 3]))) {
+                    left = Math.min(left, dirty[o]);
+                    top = Math.min(top, dirty[o + 1]);
+                    right = Math.max(right, dirty[o + 2]);
+                    bottom = Math.max(bottom, dirty[o + 3]);
+                    removeDirty(i);
+                    i = 0;
+                } else {
+                    i++;
+                }
+            }
+            if (dirtyCount < MAX_DIRTY)
+                break;
+            // Merge into the rectangle growing the least, then absorb again what the union now overlaps
+            int best = 0;
+            long bestGrowth = Long.MAX_VALUE;
+            for (int i = 0; i < dirtyCount; i++) {
+                int o = i * 4;
+                long growth = area(Math.min(left, dirty[o]), Math.min(top, dirty[o + 1]),
+                        Math.max(right, dirty[o + 2]), Math.max(bottom, dirty[o + 3]))
+                        - area(dirty[o], dirty[o + 1], dirty[o + 2], dirty[o + 3]);
+                if (growth < bestGrowth) {
+                    best = i;
+                    bestGrowth = growth;
+                }
+            }
+            int o = best * 4;
+            left = Math.min(left, dirty[o]);
+            top = Math.min(top, dirty[o + 1]);
+            right = Math.max(right, dirty[o + 2]);
+            bottom = Math.max(bottom, dirty[o + 3]);
+            removeDirty(best);
+        }
+        int o = dirtyCount++ * 4;
+        dirty[o] = left;
+        dirty[o + 1] = top;
+        dirty[o + 2] = right;
+        dirty[o + 3] = bottom;
+    }
+
+    void drainDirty(List<DirtyRegion> regions) {
+        int width = getWidth();
+        for (int i = 0; i < dirtyCount; i++) {
+            int o = i * 4;
+            int left = dirty[o], top = dirty[o + 1], w = dirty[o + 2] - left, h = dirty[o + 3] - top;
+            long offset = (long) top * width + left;
+            regions.add(new DirtyRegion(index, left, top, w, h, width,
+                    pixels.asSlice(offset, (long) (h - 1) * width + w)));
+        }
+        dirtyCount = 0;
+    }
+
+    private void removeDirty(int i) {
+        System.arraycopy(dirty, (i + 1) * 4, dirty, i * 4, (dirtyCount - i - 1) * 4);
+        dirtyCount--;
+    }
+
+    private static long area(int left, int top, int right, int bottom) {
+        return (long) (right - left) * (bottom - top);
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.mmc1234.jfreetype.atlas;
+
+import jdk.incubator.foreign.MemorySegment;
+
+/**
+ * A rectangle of an {@link AtlasPage} changed since the last {@link GlyphAtlas#drain()}.<br/>
+ * The pixels are a view of the page, not a copy: the first byte is the top left pixel of the rectangle and rows are
+ * {@code stride} bytes apart, e.g. for {@code GL_UNPACK_ROW_LENGTH}. The view is valid until its page is released,
+ * either when the atlas is closed or when {@link GlyphAtlas#compact} leaves the page empty, so regions should be
+ * uploaded before compacting.
+ *
+ * @param page index of the page
+ * @param x x of the left column
+ * @param y y of the top row
+ * @param width width in pixels
+ * @param height height in pixels
+ * @param stride bytes between the starts of two rows, the width of the page
+ * @param pixels view of the page from the first pixel to the last pixel of the rectangle
+ */
+public record DirtyRegion(int page, int x, int y, int width, int height, int stride, MemorySegment pixels) {
+}
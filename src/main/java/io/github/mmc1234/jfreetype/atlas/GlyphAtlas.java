@@ -0,0 +1,525 @@
+package io.github.mmc1234.jfreetype.atlas;
+
+import io.github.mmc1234.jfreetype.core.FTFace;
+import io.github.mmc1234.jfreetype.core.FTGlyphSlot;
+import io.github.mmc1234.jfreetype.core.FTRenderMode;
+import io.github.mmc1234.jfreetype.easyfont.CharInfo;
+import io.github.mmc1234.jfreetype.image.FTBitmap;
+import io.github.mmc1234.jfreetype.image.FTPixelMode;
+import io.github.mmc1234.jfreetype.image.FTVector;
+import io.github.mmc1234.jfreetype.util.Scope;
+import jdk.incubator.foreign.MemoryAddress;
+import jdk.incubator.foreign.MemorySegment;
+import jdk.incubator.foreign.ResourceScope;
+import jdk.incubator.foreign.ValueLayout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.github.mmc1234.jfreetype.core.FTErrors.checkCode;
+import static io.github.mmc1234.jfreetype.core.FTLoadFlags.FT_LOAD_RENDER;
+import static io.github.mmc1234.jfreetype.core.FreeTypeGlyph.FTLoadGlyph;
+import static io.github.mmc1234.jfreetype.core.FreeTypeGlyph.FTRenderGlyph;
+
+/**
+ * Packs rendered glyphs into pages of native memory, for consumers uploading glyphs to textures.<br/>
+ * Glyphs are identified by a caller-chosen long key, e.g. {@link io.github.mmc1234.jfreetype.easyfont.LongCharInfoMap#key}
+ * mixed with an id of the font. Every glyph gets a slot, an int whose fields are read by the getters of this class
+ * without any object, see {@link #find}. When the current page has no room for a glyph, a new page is added.<br/>
+ * Memory is bounded by generations: the caller calls {@link #nextGeneration()} e.g. once per frame, glyphs not found
+ * or put for some generations can be evicted by {@link #compact}, which repacks the others into fewer pages.<br/>
+ * Not thread-safe.
+ */
+public class GlyphAtlas implements AutoCloseable {
+
+    private final Scope scope;
+    private final int pageWidth;
+    private final int pageHeight;
+    private final int padding;
+    private final int maxPages;
+    private final List<AtlasPage> pages = new ArrayList<>();
+    private final LongIntMap slots = new LongIntMap(256);
+
+    // Fields of the glyphs, indexed by slot
+    private long[] keys = new long[256];
+    private int[] pageIndices = new int[256];
+    private int[] xs = new int[256];
+    private int[] ys = new int[256];
+    private int[] widths = new int[256];
+    private int[] heights = new int[256];
+    private int[] bearingXs = new int[256];
+    private int[] bearingYs = new int[256];
+    private long[] advances = new long[256];
+    private int[] lastUsed = new int[256];
+    private int count;
+    private int generation;
+
+    /**
+     * Create an atlas.
+     * @param pageWidth width of the pages
+     * @param pageHeight height of the pages
+     * @param padding empty pixels kept on the right and at the bottom of every glyph
+     */
+    public GlyphAtlas(int pageWidth, int pageHeight, int padding) {
+        this(pageWidth, pageHeight, padding, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Create an atlas with a limited count of pages.
+     * @param pageWidth width of the pages
+     * @param pageHeight height of the pages
+     * @param padding empty pixels kept on the right and at the bottom of every glyph
+     * @param maxPages count of pages after which adding a glyph fails until {@link #compact} frees room
+     */
+    public GlyphAtlas(int pageWidth, int pageHeight, int padding, int maxPages) {
+        if (pageWidth <= 0 || pageHeight <= 0 || padding < 0 || maxPages <= 0)
+            throw new IllegalArgumentException("Invalid atlas: " + pageWidth + " x " + pageHeight + ", padding = " + padding
+                    + ", max pages = " + maxPages);
+        this.pageWidth = pageWidth;
+        this.pageHeight = pageHeight;
+        this.padding = padding;
+        this.maxPages = maxPages;
+        scope = Scope.newScope();
+    }
+
+    /**
+     * Find a glyph and mark it as used in the current generation.
+     * @param key key of the glyph
+     * @return slot of the glyph, or -1
+     */
+    public int find(long key) {
+        int slot = slots.get(key);
+        if (slot >= 0)
+            lastUsed[slot] = generation;
+        return slot;
+    }
+
+    /**
+     * Start a new generation. Glyphs found or put from now on are used in the new generation.
+     * @return the new generation
+     */
+    public int nextGeneration() {
+        return ++generation;
+    }
+
+    /**
+     * Get the current generation.
+     * @return the current generation
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Get the generation in which a glyph was last found or put.
+     * @param slot slot of the glyph
+     * @return a generation
+     */
+    public int getLastUsed(int slot) {
+        return lastUsed[slot];
+    }
+
+    /**
+     * Add a rendered char. Nothing is done if the key is already in the atlas.
+     * @param key key of the glyph
+     * @param info a rendered char
+     * @return slot of the glyph
+     * @throws IllegalStateException if the atlas has its maximum count of pages and none has room
+     */
+    public int put(long key, CharInfo info) {
+        int slot = find(key);
+        if (slot >= 0)
+            return slot;
+        if (!info.isRendered())
+            throw new IllegalArgumentException("Char is not rendered: " + info.getCharAsString());
+        slot = allocate(key, info.width(), info.height(),
+                Math.toIntExact(info.minX()), Math.toIntExact(info.maxY()), info.advance());
+        MemorySegment pixels = pages.get(pageIndices[slot]).getPixels();
+        for (int i = 0; i < info.height(); i++)
+            MemorySegment.copy(info.buffer(), i * info.stride(), pixels, ValueLayout.JAVA_BYTE,
+                    (long) (ys[slot] + i) * pageWidth + xs[slot], info.width());
+        pages.get(pageIndices[slot]).markDirty(xs[slot], ys[slot], widths[slot], heights[slot]);
+        return slot;
+    }
+
+    /**
+     * Load, render and add a glyph of a face. Nothing is done if the key is already in the atlas.
+     * @param key key of the glyph
+     * @param face a face, at the size to render
+     * @param glyphIndex index of the glyph in the face
+     * @param loadFlags load flags, {@code FT_LOAD_RENDER} is added
+     * @return slot of the glyph
+     * @throws IllegalStateException if the atlas has its maximum count of pages and none has room
+     */
+    public int putGlyph(long key, MemorySegment face, int glyphIndex, int loadFlags) {
+        int slot = find(key);
+        if (slot >= 0)
+            return slot;
+        checkCode(FTLoadGlyph(face.address(), glyphIndex, loadFlags | FT_LOAD_RENDER));
+        return copyGlyph(key, scope.getSegment(FTFace.GLYPH.handle(), face, FTGlyphSlot.STRUCT_LAYOUT));
+    }
+
+    /**
+     * Load, render in a mode and add a glyph of a face. Nothing is done if the key is already in the atlas.<br/>
+     * With {@code FT_RENDER_MODE_SDF} the page holds distances instead of coverages, so SDF glyphs are best kept
+     * in an atlas of their own. The spread is a property of the library, see
+     * {@link io.github.mmc1234.jfreetype.core.FreeTypeLibrary#FTPropertySet}.
+     * @param key key of the glyph
+     * @param face a face, at the size to render
+     * @param glyphIndex index of the glyph in the face
+     * @param loadFlags load flags, without {@code FT_LOAD_RENDER}
+     * @param renderMode {@code FT_RENDER_MODE_NORMAL}, {@code FT_RENDER_MODE_LIGHT} or {@code FT_RENDER_MODE_SDF}
+     * @return slot of the glyph
+     * @throws IllegalStateException if the atlas has its maximum count of pages and none has room
+     */
+    public int putGlyph(long key, MemorySegment face, int glyphIndex, int loadFlags, FTRenderMode renderMode) {
+        int slot = find(key);
+        if (slot >= 0)
+            return slot;
+        checkCode(FTLoadGlyph(face.address(), glyphIndex, loadFlags & ~FT_LOAD_RENDER));
+        MemorySegment glyph = scope.getSegment(FTFace.GLYPH.handle(), face, FTGlyphSlot.STRUCT_LAYOUT);
+        checkCode(FTRenderGlyph(glyph.address(), renderMode));
+        return copyGlyph(key, glyph);
+    }
+
+    private int copyGlyph(long key, MemorySegment glyph) {
+        MemorySegment bitmap = FTGlyphSlot.BITMAP.get(glyph);
+        if (FTBitmap.PIXEL_MODE.get(bitmap) != FTPixelMode.FT_PIXEL_MODE_GRAY.value())
+            throw new RuntimeException("Invalid pixel mode");
+        int width = FTBitmap.WIDTH.get(bitmap);
+        int height = FTBitmap.ROWS.get(bitmap);
+        int pitch = FTBitmap.PITCH.get(bitmap);
+        if (pitch < 0)
+            throw new RuntimeException("Invalid pitch");
+        int slot = allocate(key, width, height, FTGlyphSlot.BITMAP_LEFT.get(glyph), FTGlyphSlot.BITMAP_TOP.get(glyph),
+                FTVector.X.get(FTGlyphSlot.ADVANCE.get(glyph)));
+        MemoryAddress buffer = FTBitmap.BUFFER.get(bitmap);
+        MemorySegment source = MemorySegment.ofAddress(buffer, (long) pitch * height, ResourceScope.globalScope());
+        MemorySegment pixels = pages.get(pageIndices[slot]).getPixels();
+        for (int i = 0; i < height; i++)
+            MemorySegment.copy(source, (long) i * pitch, pixels, (long) (ys[slot] + i) * pageWidth + xs[slot], width);
+        pages.get(pageIndices[slot]).markDirty(xs[slot], ys[slot], width, height);
+        return slot;
+    }
+
+    private int allocate(long key, int width, int height, int bearingX, int bearingY, long advance) {
+        if (width + padding > pageWidth || height + padding > pageHeight)
+            throw new IllegalArgumentException("Glyph is larger than a page: " + width + " x " + height);
+        AtlasPage page = pages.isEmpty() ? addPage() : pages.get(pages.size() - 1);
+        long position = page.getPacker().insert(width + padding, height + padding);
+        if (position < 0) {
+            if (pages.size() == maxPages)
+                throw new IllegalStateException("Atlas is full: " + maxPages + " pages");
+            page = addPage();
+            position = page.getPacker().insert(width + padding, height + padding);
+        }
+        if (count == keys.length)
+            grow();
+        int slot = count++;
+        keys[slot] = key;
+        pageIndices[slot] = page.getIndex();
+        xs[slot] = (int) (position >>> 32);
+        ys[slot] = (int) position;
+        widths[slot] = width;
+        heights[slot] = height;
+        bearingXs[slot] = bearingX;
+        bearingYs[slot] = bearingY;
+        advances[slot] = advance;
+        lastUsed[slot] = generation;
+        slots.put(key, slot);
+        return slot;
+    }
+
+    private AtlasPage addPage() {
+        AtlasPage page = new AtlasPage(pages.size(), pageWidth, pageHeight);
+        pages.add(page);
+        return page;
+    }
+
+    private void grow() {
+        int capacity = keys.length * 2;
+        keys = Arrays.copyOf(keys, capacity);
+        pageIndices = Arrays.copyOf(pageIndices, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        widths = Arrays.copyOf(widths, capacity);
+        heights = Arrays.copyOf(heights, capacity);
+        bearingXs = Arrays.copyOf(bearingXs, capacity);
+        bearingYs = Arrays.copyOf(bearingYs, capacity);
+        advances = Arrays.copyOf(advances, capacity);
+        lastUsed = Arrays.copyOf(lastUsed, capacity);
+    }
+
+    /**
+     * Evict the glyphs not used for more than some generations and repack the others, tallest first, from the first
+     * page on. Pages left empty are released, together with the views of their pixels taken by {@link #drain()}.
+     * Slots are renumbered, so every glyph is reported to the listener. Repacked pages are entirely dirty.
+     * @param maxAge glyphs last used more than this count of generations ago are evicted, 0 keeps only the glyphs
+     *               of the current generation
+     * @param listener receives the new slot of every glyph, or -1 for the evicted ones
+     * @return count of the evicted glyphs
+     * @throws IllegalStateException if the glyphs to keep don't fit in the maximum count of pages in the order
+     *                               they are repacked, then nothing is changed and a smaller age evicts more
+     */
+    public int compact(int maxAge, RemapListener listener) {
+        if (maxAge < 0)
+            throw new IllegalArgumentException("Invalid age: " + maxAge);
+        // Height in the high bits and slot in the low bits, sorted to pack the tallest glyphs first
+        long[] order = new long[count];
+        int live = 0;
+        long stagingSize = 0;
+        for (int slot = 0; slot < count; slot++) {
+            if (generation - lastUsed[slot] > maxAge)
+                continue;
+            order[live++] = (long) heights[slot] << 32 | slot;
+            stagingSize += (long) widths[slot] * heights[slot];
+        }
+        Arrays.sort(order, 0, live);
+
+        // Places are planned before anything is changed. Live glyphs fit in the pages they came from
+        // unless the order packs worse, then a page is added while the maximum count allows it
+        List<SkylinePacker> packers = new ArrayList<>();
+        int[] placedPages = new int[live];
+        long[] positions = new long[live];
+        int pageIndex = 0;
+        for (int i = live - 1; i >= 0; i--) {
+            int slot = (int) order[i];
+            long position = -1;
+            while (position < 0) {
+                if (pageIndex == packers.size()) {
+                    if (pageIndex == maxPages)
+                        throw new IllegalStateException("Glyphs to keep don't fit in " + maxPages + " pages");
+                    packers.add(new SkylinePacker(pageWidth, pageHeight));
+                }
+                position = packers.get(pageIndex).insert(widths[slot] + padding, heights[slot] + padding);
+                if (position < 0)
+                    pageIndex++;
+            }
+            placedPages[i] = pageIndex;
+            positions[i] = position;
+        }
+
+        // Pixels of the live glyphs are staged on the heap, then the pages are repacked in place
+        byte[] staging = new byte[Math.toIntExact(stagingSize)];
+        int[] stagingOffsets = new int[count];
+        int offset = 0;
+        for (int i = 0; i < live; i++) {
+            int slot = (int) order[i];
+            MemorySegment pixels = pages.get(pageIndices[slot]).getPixels();
+            stagingOffsets[slot] = offset;
+            for (int row = 0; row < heights[slot]; row++) {
+                MemorySegment.copy(pixels, ValueLayout.JAVA_BYTE, (long) (ys[slot] + row) * pageWidth + xs[slot],
+                        staging, offset, widths[slot]);
+                offset += widths[slot];
+            }
+        }
+        while (pages.size() > packers.size())
+            pages.remove(pages.size() - 1).close();
+        while (pages.size() < packers.size())
+            addPage();
+        for (int i = 0; i < packers.size(); i++)
+            pages.get(i).clear(packers.get(i));
+
+        long[] oldKeys = keys;
+        int[] oldPageIndices = pageIndices, oldXs = xs, oldYs = ys, oldWidths = widths, oldHeights = heights;
+        int[] oldBearingXs = bearingXs, oldBearingYs = bearingYs, oldLastUsed = lastUsed;
+        long[] oldAdvances = advances;
+        int oldCount = count;
+        int capacity = Math.max(256, Integer.highestOneBit(Math.max(1, live)) << 1);
+        keys = new long[capacity];
+        pageIndices = new int[capacity];
+        xs = new int[capacity];
+        ys = new int[capacity];
+        widths = new int[capacity];
+        heights = new int[capacity];
+        bearingXs = new int[capacity];
+        bearingYs = new int[capacity];
+        advances = new long[capacity];
+        lastUsed = new int[capacity];
+        count = 0;
+        slots.clear();
+
+        int[] newSlots = new int[oldCount];
+        Arrays.fill(newSlots, -1);
+        for (int i = live - 1; i >= 0; i--) {
+            int oldSlot = (int) order[i];
+            int width = oldWidths[oldSlot], height = oldHeights[oldSlot];
+            long position = positions[i];
+            int slot = count++;
+            keys[slot] = oldKeys[oldSlot];
+            pageIndices[slot] = placedPages[i];
+            xs[slot] = (int) (position >>> 32);
+            ys[slot] = (int) position;
+            widths[slot] = width;
+            heights[slot] = height;
+            bearingXs[slot] = oldBearingXs[oldSlot];
+            bearingYs[slot] = oldBearingYs[oldSlot];
+            advances[slot] = oldAdvances[oldSlot];
+            lastUsed[slot] = oldLastUsed[oldSlot];
+            slots.put(keys[slot], slot);
+            newSlots[oldSlot] = slot;
+
+            MemorySegment pixels = pages.get(placedPages[i]).getPixels();
+            int from = stagingOffsets[oldSlot];
+            for (int row = 0; row < height; row++)
+                MemorySegment.copy(staging, from + row * width, pixels, ValueLayout.JAVA_BYTE,
+                        (long) (ys[slot] + row) * pageWidth + xs[slot], width);
+        }
+
+        for (int oldSlot = 0; oldSlot < oldCount; oldSlot++)
+            listener.remapped(oldKeys[oldSlot], oldSlot, newSlots[oldSlot]);
+        return oldCount - live;
+    }
+
+    /**
+     * Get place of a glyph as an object.
+     * @param key key of the glyph
+     * @return place of the glyph, or null
+     */
+    public GlyphRegion get(long key) {
+        int slot = slots.get(key);
+        return slot < 0 ? null : getRegion(slot);
+    }
+
+    /**
+     * Get place of a glyph as an object.
+     * @param slot slot of the glyph
+     * @return place of the glyph
+     */
+    public GlyphRegion getRegion(int slot) {
+        return new GlyphRegion(pageIndices[slot], xs[slot], ys[slot], widths[slot], heights[slot],
+                bearingXs[slot], bearingYs[slot], advances[slot]);
+    }
+
+    /**
+     * Get key of a glyph.
+     * @param slot slot of the glyph
+     * @return key of the glyph
+     */
+    public long getKey(int slot) {
+        return keys[slot];
+    }
+
+    /**
+     * Get index of the page holding a glyph.
+     * @param slot slot of the glyph
+     * @return index of the page
+     */
+    public int getPageIndex(int slot) {
+        return pageIndices[slot];
+    }
+
+    /**
+     * Get x of a glyph in its page.
+     * @param slot slot of the glyph
+     * @return x of the left column
+     */
+    public int getX(int slot) {
+        return xs[slot];
+    }
+
+    /**
+     * Get y of a glyph in its page.
+     * @param slot slot of the glyph
+     * @return y of the top row
+     */
+    public int getY(int slot) {
+        return ys[slot];
+    }
+
+    /**
+     * Get width of a glyph.
+     * @param slot slot of the glyph
+     * @return width in pixels
+     */
+    public int getWidth(int slot) {
+        return widths[slot];
+    }
+
+    /**
+     * Get height of a glyph.
+     * @param slot slot of the glyph
+     * @return height in pixels
+     */
+    public int getHeight(int slot) {
+        return heights[slot];
+    }
+
+    /**
+     * Get horizontal bearing of a glyph.
+     * @param slot slot of the glyph
+     * @return distance from the origin to the left column in pixels
+     */
+    public int getBearingX(int slot) {
+        return bearingXs[slot];
+    }
+
+    /**
+     * Get vertical bearing of a glyph.
+     * @param slot slot of the glyph
+     * @return distance from the baseline to the top row in pixels, upwards
+     */
+    public int getBearingY(int slot) {
+        return bearingYs[slot];
+    }
+
+    /**
+     * Get advance of a glyph.
+     * @param slot slot of the glyph
+     * @return horizontal advance in 26.6 pixel format
+     */
+    public long getAdvance(int slot) {
+        return advances[slot];
+    }
+
+    /**
+     * Get count of the glyphs.
+     * @return count of the glyphs
+     */
+    public int getGlyphCount() {
+        return count;
+    }
+
+    /**
+     * Get count of the pages.
+     * @return count of the pages
+     */
+    public int getPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * Get a page.
+     * @param index index of the page
+     * @return the page
+     */
+    public AtlasPage getPage(int index) {
+        return pages.get(index);
+    }
+
+    /**
+     * Take the rectangles of the pages changed since the last call, so that consumers upload only what changed.
+     * Rectangles of a page don't overlap, and together they cover every glyph added since the last call.
+     * The views of the pixels are invalidated by {@link #compact} when it releases their page.
+     * @return changed rectangles with views of their pixels
+     */
+    public List<DirtyRegion> drain() {
+        List<DirtyRegion> regions = new ArrayList<>();
+        for (AtlasPage page : pages)
+            if (page.isDirty())
+                page.drainDirty(regions);
+        return regions;
+    }
+
+    /**
+     * Release the pages.
+     */
+    @Override
+    public void close() {
+        for (AtlasPage page : pages)
+            page.close();
+        pages.clear();
+        scope.close();
+    }
+}
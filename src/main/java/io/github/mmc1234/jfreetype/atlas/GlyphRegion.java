@@ -0,0 +1,17 @@
+package io.github.mmc1234.jfreetype.atlas;
+
+/**
+ * Place of a glyph in a {@link GlyphAtlas}.
+ *
+ * @param page index of the page
+ * @param x x of the left column in the page
+ * @param y y of the top row in the page
+ * @param width width of the glyph in pixels
+ * @param height height of the glyph in pixels
+ * @param bearingX distance from the origin to the left column in pixels
+ * @param bearingY distance from the baseline to the top row in pixels, upwards
+ * @param advance horizontal advance in 26.6 pixel format
+ */
+public record GlyphRegion(int page, int x, int y, int width, int height,
+                          int bearingX, int bearingY, long advance) {
+}
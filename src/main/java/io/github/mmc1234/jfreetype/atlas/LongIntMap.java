@@ -0,0 +1,135 @@
+package io.github.mmc1234.jfreetype.atlas;
+
+import java.util.Arrays;
+
+/**
+ * An open-addressing hash map from long keys to non-negative ints, laid out like
+ * {@link io.github.mmc1234.jfreetype.easyfont.LongObjectMap} but without any object per entry.
+ */
+class LongIntMap {
+
+    private static final int EMPTY = -1;
+    private static final float MAX_LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int threshold;
+
+    LongIntMap(int capacity) {
+        allocate(Integer.highestOneBit(Math.max(2, capacity) - 1) << 1);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Get a value.
+     * @param key a key
+     * @return the value, or -1
+     */
+    int get(long key) {
+        int index = mix(key) & mask;
+        int value;
+        while ((value = values[index]) != EMPTY) {
+            if (keys[index] == key)
+                return value;
+            index = (index + 1) & mask;
+        }
+        return EMPTY;
+    }
+
+    /**
+     * Put a value.
+     * @param key a key
+     * @param value a non-negative value
+     * @return the value replaced, or -1
+     */
+    int put(long key, int value) {
+        int index = mix(key) & mask;
+        int source;
+        while ((source = values[index]) != EMPTY) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return source;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > threshold)
+            rehash(values.length << 1);
+        return EMPTY;
+    }
+
+    /**
+     * Remove a value.
+     * @param key a key
+     * @return the value removed, or -1
+     */
+    int remove(long key) {
+        int index = mix(key) & mask;
+        int value;
+        while ((value = values[index]) != EMPTY) {
+            if (keys[index] == key) {
+                shiftBack(index);
+                size--;
+                return value;
+            }
+            index = (index + 1) & mask;
+        }
+        return EMPTY;
+    }
+
+    void clear() {
+        Arrays.fill(values, EMPTY);
+        size = 0;
+    }
+
+    private void shiftBack(int hole) {
+        int index = hole;
+        while (true) {
+            index = (index + 1) & mask;
+            int value = values[index];
+            if (value == EMPTY)
+                break;
+            int home = mix(keys[index]) & mask;
+            if (((index - home) & mask) >= ((index - hole) & mask)) {
+                keys[hole] = keys[index];
+                values[hole] = value;
+                hole = index;
+            }
+        }
+        values[hole] = EMPTY;
+    }
+
+    private void rehash(int capacity) {
+        long[] sourceKeys = keys;
+        int[] sourceValues = values;
+        allocate(capacity);
+        for (int i = 0; i < sourceValues.length; i++) {
+            if (sourceValues[i] == EMPTY)
+                continue;
+            int index = mix(sourceKeys[i]) & mask;
+            while (values[index] != EMPTY)
+                index = (index + 1) & mask;
+            keys[index] = sourceKeys[i];
+            values[index] = sourceValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, EMPTY);
+        mask = capacity - 1;
+        threshold = (int) (capacity * MAX_LOAD_FACTOR);
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ h >>> 32);
+    }
+}
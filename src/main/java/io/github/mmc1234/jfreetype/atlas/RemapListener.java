@@ -0,0 +1,16 @@
+package io.github.mmc1234.jfreetype.atlas;
+
+/**
+ * Receives the glyphs moved or evicted by {@link GlyphAtlas#compact}.
+ */
+@FunctionalInterface
+public interface RemapListener {
+
+    /**
+     * Called once per glyph after the compaction is done, so the getters of the atlas already return the new place.
+     * @param key key of the glyph
+     * @param oldSlot slot of the glyph before the compaction
+     * @param newSlot slot of the glyph after the compaction, or -1 if the glyph was evicted
+     */
+    void remapped(long key, int oldSlot, int newSlot);
+}
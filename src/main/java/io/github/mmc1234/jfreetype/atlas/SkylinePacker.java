@@ -0,0 +1,157 @@
+package io.github.mmc1234.jfreetype.atlas;
+
+import java.util.Arrays;
+
+/**
+ * Packs rectangles into a fixed area with the skyline bottom-left heuristic.<br/>
+ * The skyline is the top edge of the packed rectangles, stored as segments of (x, y, width). A rectangle is put
+ * where its top is the lowest, on the narrowest segment if there is a tie.
+ */
+public final class SkylinePacker {
+
+    private final int width;
+    private final int height;
+    private int[] xs = new int[16];
+    private int[] ys = new int[16];
+    private int[] widths = new int[16];
+    private int count;
+    private long usedArea;
+
+    /**
+     * Create a packer.
+     * @param width width of the area
+     * @param height height of the area
+     */
+    public SkylinePacker(int width, int height) {
+        if (width <= 0 || height <= 0)
+            throw new IllegalArgumentException("Invalid size: " + width + " x " + height);
+        this.width = width;
+        this.height = height;
+        reset();
+    }
+
+    /**
+     * Remove all rectangles.
+     */
+    public void reset() {
+        xs[0] = 0;
+        ys[0] = 0;
+        widths[0] = width;
+        count = 1;
+        usedArea = 0;
+    }
+
+    /**
+     * Find a place for a rectangle and mark it as used.
+     * @param w width of the rectangle
+     * @param h height of the rectangle
+     * @return x in the high 32 bits and y in the low 32 bits, or -1 if the rectangle doesn't fit
+     */
+    public long insert(int w, int h) {
+        if (w < 0 || h < 0)
+            throw new IllegalArgumentException("Invalid size: " + w + " x " + h);
+        int bestIndex = -1, bestTop = Integer.MAX_VALUE, bestWidth = Integer.MAX_VALUE, bestY = 0;
+        for (int i = 0; i < count; i++) {
+            int y = fit(i, w, h);
+            if (y < 0)
+                continue;
+            if (y + h < bestTop || (y + h == bestTop && widths[i] < bestWidth)) {
+                bestIndex = i;
+                bestTop = y + h;
+                bestWidth = widths[i];
+                bestY = y;
+            }
+        }
+        if (bestIndex < 0)
+            return -1;
+        int x = xs[bestIndex];
+        if (w > 0)
+            addSegment(bestIndex, x, bestY + h, w);
+        usedArea += (long) w * h;
+        return (long) x << 32 | bestY;
+    }
+
+    // Lowest y a rectangle can be put at on the segment i, or -1
+    private int fit(int i, int w, int h) {
+        int x = xs[i];
+        if (x + w > width)
+            return -1;
+        int y = ys[i];
+        int left = w;
+        for (int j = i; left > 0; j++) {
+            y = Math.max(y, ys[j]);
+            if (y + h > height)
+                return -1;
+            left -= widths[j];
+        }
+        return y + h > height ? -1 : y;
+    }
+
+    private void addSegment(int index, int x, int y, int w) {
+        if (count == xs.length) {
+            xs = Arrays.copyOf(xs, count * 2);
+            ys = Arrays.copyOf(ys, count * 2);
+            widths = Arrays.copyOf(widths, count * 2);
+        }
+        System.arraycopy(xs, index, xs, index + 1, count - index);
+        System.arraycopy(ys, index, ys, index + 1, count - index);
+        System.arraycopy(widths, index, widths, index + 1, count - index);
+        xs[index] = x;
+        ys[index] = y;
+        widths[index] = w;
+        count++;
+
+        // Cut the segments under the new one
+        int right = x + w;
+        int i = index + 1;
+        while (i < count && xs[i] < right) {
+            int shrink = right - xs[i];
+            if (widths[i] > shrink) {
+                xs[i] += shrink;
+                widths[i] -= shrink;
+                break;
+            }
+            removeSegment(i);
+        }
+        // Merge neighbours at the same height
+        for (i = 0; i < count - 1; ) {
+            if (ys[i] == ys[i + 1]) {
+                widths[i] += widths[i + 1];
+                removeSegment(i + 1);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private void removeSegment(int index) {
+        System.arraycopy(xs, index + 1, xs, index, count - index - 1);
+        System.arraycopy(ys, index + 1, ys, index, count - index - 1);
+        System.arraycopy(widths, index + 1, widths, index, count - index - 1);
+        count--;
+    }
+
+    /**
+     * Get the ratio of the area used by rectangles.
+     * @return used area divided by the whole area
+     */
+    public double getOccupancy() {
+        return (double) usedArea / ((long) width * height);
+    }
+
+    /**
+     * Get width of the area.
+     * @return width of the area
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Get height of the area.
+     * @return height of the area
+     */
+    public int getHeight() {
+        return height;
+    }
+}
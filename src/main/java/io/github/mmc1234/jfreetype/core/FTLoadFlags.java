@@ -140,4 +140,11 @@ public interface FTLoadFlags {
      * This flag unsets {@link #FT_LOAD_RENDER}.
      */
     int FT_LOAD_BITMAP_METRICS_ONLY = 1 << 22;
+    /**
+     * Only for {@link FreeTypeFace#FTGetAdvance} and {@link FreeTypeFace#FTGetAdvances}. Return an error
+     * ({@link FTErrors#UNIMPLEMENTED_FEATURE}) if the advances cannot be read quickly, for example when they
+     * need the hinter or the whole glyph to be loaded. Advances are fast when the face has a ‘hmtx’ or ‘vmtx’
+     * table and {@link #FT_LOAD_NO_HINTING} is set or the light target is used.
+     */
+    int FT_ADVANCE_FLAG_FAST_ONLY = 0x20000000;
 }
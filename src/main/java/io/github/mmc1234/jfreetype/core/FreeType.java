@@ -22,12 +22,27 @@ import io.github.mmc1234.jfreetype.internal.*;
  * A class indexes to all Core APIs.<br/>
  * Please use sub-interfaces to call functions.
  */
-public class FreeType implements FTErrors, FreeTypeLibrary, FreeTypeFace, FreeTypeSize, FreeTypeGlyph {
+public class FreeType implements FTErrors, FreeTypeLibrary, FreeTypeFace, FreeTypeSize, FreeTypeGlyph, FreeTypeOutline {
 
     /**
-     * Load Method Handles of FreeType API.
+     * Load the native library of FreeType API. Each method handle is linked on the first call of its function.
      */
     public static boolean load() {
          return FreeTypeInternal.loadAll();
     }
+
+    /**
+     * Load the native library and link every method handle now, e.g. to find missing symbols at startup.
+     */
+    public static void linkAll() {
+        FreeTypeInternal.linkAll();
+    }
+
+    /**
+     * Load the native library and the optional glyph run shim of jfreetype, see {@code src/main/c}.
+     * @return whether the shim is loaded, runs of glyphs are rendered with plain downcalls without it
+     */
+    public static boolean loadShim() {
+        return LibraryUtil.loadShim();
+    }
 }
@@ -4,6 +4,7 @@ import io.github.mmc1234.jfreetype.In;
 import io.github.mmc1234.jfreetype.Out;
 import io.github.mmc1234.jfreetype.internal.BaseInterface;
 import io.github.mmc1234.jfreetype.internal.UnicodeVariationSequences;
+import jdk.incubator.foreign.Addressable;
 import jdk.incubator.foreign.MemoryAddress;
 import jdk.incubator.foreign.MemorySegment;
 
@@ -31,7 +32,8 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static int FTNewFace(@In MemoryAddress library, @In MemoryAddress filepathname, @In long face_index, @Out MemorySegment aface) {
         try {
-            return (int) BaseInterface.FT_NEW_FACE.invoke(library, filepathname, face_index, aface.address());
+            return (int) BaseInterface.FT_NEW_FACE.HANDLE.invokeExact((Addressable) library,
+                    (Addressable) filepathname, face_index, (Addressable) aface.address());
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -47,7 +49,7 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static int FTDoneFace(@In MemoryAddress face) {
         try {
-            return (int) BaseInterface.FT_DONE_FACE.invoke(face);
+            return (int) BaseInterface.FT_DONE_FACE.HANDLE.invokeExact((Addressable) face);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -64,7 +66,7 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static int FTReferenceFace(@In MemoryAddress face) {
         try {
-            return (int) BaseInterface.FT_REFERENCE_FACE.invoke(face);
+            return (int) BaseInterface.FT_REFERENCE_FACE.HANDLE.invokeExact((Addressable) face);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -82,7 +84,8 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static int FTNewMemoryFace(@In MemoryAddress library, @In MemoryAddress file_base, @In long file_size, @In long face_index, @Out MemorySegment aface) {
         try {
-            return (int) BaseInterface.FT_NEW_MEMORY_FACE.invoke(library, file_base, file_size, face_index, aface.address());
+            return (int) BaseInterface.FT_NEW_MEMORY_FACE.HANDLE.invokeExact((Addressable) library,
+                    (Addressable) file_base, file_size, face_index, (Addressable) aface.address());
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -112,7 +115,8 @@ public interface FreeTypeFace extends FTLoadFlags {
     // TODO FT_Parameter
     static int FTFaceProperties(@In MemoryAddress face, @In int num_properties, @In MemoryAddress properties) {
         try {
-            return (int) BaseInterface.FT_FACE_PROPERTIES.invoke(face, num_properties, properties);
+            return (int) BaseInterface.FT_FACE_PROPERTIES.HANDLE.invokeExact((Addressable) face, num_properties,
+                    (Addressable) properties);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -163,7 +167,8 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static int FTOpenFace(@In MemoryAddress library, @In MemoryAddress args, @In long face_index, @Out MemorySegment aface) {
         try {
-            return (int) BaseInterface.FT_OPEN_FACE.invoke(library, args, face_index, aface.address());
+            return (int) BaseInterface.FT_OPEN_FACE.HANDLE.invokeExact((Addressable) library, (Addressable) args,
+                    face_index, (Addressable) aface.address());
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -178,7 +183,7 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static int FTAttachFile(@In MemoryAddress face, @In MemoryAddress filepath) {
         try {
-            return (int) BaseInterface.FT_ATTACH_FILE.invoke(face, filepath);
+            return (int) BaseInterface.FT_ATTACH_FILE.HANDLE.invokeExact((Addressable) face, (Addressable) filepath);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -202,7 +207,7 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static int FTAttachStream(@In MemoryAddress face, @In MemoryAddress parameters) {
         try {
-            return (int) BaseInterface.FT_ATTACH_STREAM.invoke(face, parameters);
+            return (int) BaseInterface.FT_ATTACH_STREAM.HANDLE.invokeExact((Addressable) face, (Addressable) parameters);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -227,7 +232,8 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static int FTSetCharSize(@In MemoryAddress face, @In long char_width, @In long char_height, @In int horz_resolution, @In int vert_resolution) {
         try {
-            return (int) BaseInterface.FT_SET_CHAR_SIZE.invoke(face, char_width, char_height, horz_resolution, vert_resolution);
+            return (int) BaseInterface.FT_SET_CHAR_SIZE.HANDLE.invokeExact((Addressable) face, char_width, char_height,
+                    horz_resolution, vert_resolution);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -246,7 +252,7 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static int FTSetPixelSizes(@In MemoryAddress face, @In int pixel_width, @In int pixel_height) {
         try {
-            return (int) BaseInterface.FT_SET_PIXEL_SIZES.invoke(face, pixel_width, pixel_height);
+            return (int) BaseInterface.FT_SET_PIXEL_SIZES.HANDLE.invokeExact((Addressable) face, pixel_width, pixel_height);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -271,7 +277,7 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static int FTRequestSize(@In MemoryAddress face, @In MemoryAddress req) {
         try {
-            return (int) BaseInterface.FT_REQUEST_SIZE.invoke(face, req);
+            return (int) BaseInterface.FT_REQUEST_SIZE.HANDLE.invokeExact((Addressable) face, (Addressable) req);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -296,7 +302,7 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static int FTSelectSize(@In MemoryAddress face, @In int strike_index) {
         try {
-            return (int) BaseInterface.FT_SELECT_SIZE.invoke(face, strike_index);
+            return (int) BaseInterface.FT_SELECT_SIZE.HANDLE.invokeExact((Addressable) face, strike_index);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -320,7 +326,7 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static void FTSetTransform(@In MemoryAddress face, @In MemoryAddress matrix, @In MemoryAddress delta) {
         try {
-            BaseInterface.FT_SET_TRANSFORM.invoke(face, matrix, delta);
+            BaseInterface.FT_SET_TRANSFORM.HANDLE.invokeExact((Addressable) face, (Addressable) matrix, (Addressable) delta);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -337,7 +343,8 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static void FTGetTransform(@In MemoryAddress face, @Out MemorySegment matrix, @Out MemorySegment delta) {
         try {
-            BaseInterface.FT_GET_TRANSFORM.invoke(face, matrix.address(), delta.address());
+            BaseInterface.FT_GET_TRANSFORM.HANDLE.invokeExact((Addressable) face, (Addressable) matrix.address(),
+                    (Addressable) delta.address());
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -359,7 +366,7 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static int FTGetCharIndex(@In MemoryAddress face, @In long charcode) {
         try {
-            return (int) BaseInterface.FT_GET_CHAR_INDEX.invoke(face, charcode);
+            return (int) BaseInterface.FT_GET_CHAR_INDEX.HANDLE.invokeExact((Addressable) face, charcode);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -393,7 +400,7 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static long FTGetFirstChar(@In MemoryAddress face, @Out MemorySegment agindex) {
         try {
-            return (long) BaseInterface.FT_GET_FIRST_CHAR.invoke(face, agindex.address());
+            return (long) BaseInterface.FT_GET_FIRST_CHAR.HANDLE.invokeExact((Addressable) face, (Addressable) agindex.address());
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -413,7 +420,8 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static long FTGetNextChar(@In MemoryAddress face, @In long charcode, @Out MemorySegment agindex) {
         try {
-            return (int) BaseInterface.FT_GET_NEXT_CHAR.invoke(face, charcode, agindex.address());
+            return (long) BaseInterface.FT_GET_NEXT_CHAR.HANDLE.invokeExact((Addressable) face, charcode,
+                    (Addressable) agindex.address());
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -428,7 +436,7 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static int FTGetNameIndex(@In MemoryAddress face, @In MemoryAddress glyph_name) {
         try {
-            return (int) BaseInterface.FT_GET_NAME_INDEX.invoke(face, glyph_name);
+            return (int) BaseInterface.FT_GET_NAME_INDEX.HANDLE.invokeExact((Addressable) face, (Addressable) glyph_name);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -451,7 +459,7 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static int FTLoadChar(@In MemoryAddress face, @In long parameters, @In int load_flags) {
         try {
-            return (int) BaseInterface.FT_LOAD_CHAR.invoke(face, parameters, load_flags);
+            return (int) BaseInterface.FT_LOAD_CHAR.HANDLE.invokeExact((Addressable) face, parameters, load_flags);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -475,7 +483,8 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static int FTGetKerning(@In MemoryAddress face, @In int left_glyph, @In int right_glyph, @In int kern_mode, @Out MemorySegment akerning) {
         try {
-            return (int) BaseInterface.FT_GET_KERNING.invoke(face, left_glyph, right_glyph, kern_mode, akerning.address());
+            return (int) BaseInterface.FT_GET_KERNING.HANDLE.invokeExact((Addressable) face, left_glyph, right_glyph,
+                    kern_mode, (Addressable) akerning.address());
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -499,7 +508,62 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static int FTGetTrackKerning(@In MemoryAddress face, @In long point_size, @In int degree, @Out MemorySegment akerning) {
         try {
-            return (int) BaseInterface.FT_GET_TRACK_KERNING.invoke(face, point_size, degree, akerning.address());
+            return (int) BaseInterface.FT_GET_TRACK_KERNING.HANDLE.invokeExact((Addressable) face, point_size, degree,
+                    (Addressable) akerning.address());
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Retrieve the advance value of a given glyph outline in an {@code FT_Face}.
+     *
+     * @param face       The source {@code FT_Face} handle.
+     * @param gindex     The glyph index.
+     * @param load_flags A set of bit flags similar to those used when calling {@link FreeTypeGlyph#FTLoadGlyph},
+     *                   used to determine what kind of advances you need.
+     * @param padvance   The advance value. If scaling is performed (based on the value of {@code load_flags}),
+     *                   the advance value is in 16.16 format. Otherwise, it is in font units.<br/>
+     *                   If {@link #FT_LOAD_VERTICAL_LAYOUT} is set, this is the vertical advance corresponding to
+     *                   a vertical layout. Otherwise, it is the horizontal advance in a horizontal layout.
+     * @return FreeType error code. 0 means success.
+     * @apiNote This function may fail if you use {@link #FT_ADVANCE_FLAG_FAST_ONLY} and if the corresponding
+     * font backend doesn't have a quick way to retrieve the advances.<br/>
+     * A scaled advance is returned in 16.16 format but isn't transformed by the affine transformation specified by
+     * {@link #FTSetTransform}.
+     */
+    static int FTGetAdvance(@In MemoryAddress face, @In int gindex, @In int load_flags, @Out MemorySegment padvance) {
+        try {
+            return (int) BaseInterface.FT_GET_ADVANCE.HANDLE.invokeExact((Addressable) face, gindex, load_flags,
+                    (Addressable) padvance.address());
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Retrieve the advance values of several glyph outlines in an {@code FT_Face}.
+     *
+     * @param face       The source {@code FT_Face} handle.
+     * @param start      The first glyph index.
+     * @param count      The number of advance values you want to retrieve.
+     * @param load_flags A set of bit flags similar to those used when calling {@link FreeTypeGlyph#FTLoadGlyph}.
+     * @param padvances  The advance values. This array, to be provided by the caller, must contain at least
+     *                   {@code count} elements.<br/>
+     *                   If scaling is performed (based on the value of {@code load_flags}), the advance values
+     *                   are in 16.16 format. Otherwise, they are in font units.<br/>
+     *                   If {@link #FT_LOAD_VERTICAL_LAYOUT} is set, these are the vertical advances corresponding
+     *                   to a vertical layout. Otherwise, they are the horizontal advances in a horizontal layout.
+     * @return FreeType error code. 0 means success.
+     * @apiNote This function may fail if you use {@link #FT_ADVANCE_FLAG_FAST_ONLY} and if the corresponding
+     * font backend doesn't have a quick way to retrieve the advances.<br/>
+     * Scaled advances are returned in 16.16 format but aren't transformed by the affine transformation specified by
+     * {@link #FTSetTransform}.
+     */
+    static int FTGetAdvances(@In MemoryAddress face, @In int start, @In int count, @In int load_flags, @Out MemorySegment padvances) {
+        try {
+            return (int) BaseInterface.FT_GET_ADVANCES.HANDLE.invokeExact((Addressable) face, start, count, load_flags,
+                    (Addressable) padvances.address());
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -523,7 +587,7 @@ public interface FreeTypeFace extends FTLoadFlags {
     static MemoryAddress FTGetPostscriptName(@In MemoryAddress face) {
         try {
             // TODO
-            return MemoryAddress.ofLong((long) BaseInterface.FT_GET_POSTSCRIPT_NAME.invoke(face));
+            return (MemoryAddress) BaseInterface.FT_GET_POSTSCRIPT_NAME.HANDLE.invokeExact((Addressable) face);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -542,7 +606,7 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static int FTSelectCharmap(@In MemoryAddress face, @In FTEncoding encoding) {
         try {
-            return (int) BaseInterface.FT_SELECT_CHARMAP.invoke(face, encoding.value());
+            return (int) BaseInterface.FT_SELECT_CHARMAP.HANDLE.invokeExact((Addressable) face, encoding.value());
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -560,7 +624,7 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static int FTSetCharmap(@In MemoryAddress face, @In MemoryAddress charmap) {
         try {
-            return (int) BaseInterface.FT_SET_CHARMAP.invoke(face, charmap);
+            return (int) BaseInterface.FT_SET_CHARMAP.HANDLE.invokeExact((Addressable) face, (Addressable) charmap);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -574,7 +638,7 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static int FTGetCharmapIndex(@In MemoryAddress charmap) {
         try {
-            return (int) BaseInterface.FT_GET_CHARMAP_INDEX.invoke(charmap);
+            return (int) BaseInterface.FT_GET_CHARMAP_INDEX.HANDLE.invokeExact((Addressable) charmap);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -590,7 +654,7 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static short FTGetFSTypeFlags(@In MemoryAddress face) {
         try {
-            return (short) BaseInterface.FT_GET_FSTYPE_FLAGS.invoke(face);
+            return (short) BaseInterface.FT_GET_FSTYPE_FLAGS.HANDLE.invokeExact((Addressable) face);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -608,7 +672,7 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static int FTFaceGetCharVariantIndex(@In MemoryAddress face, @In long charcode, @In long variantSelector) {
         try {
-            return (int) UnicodeVariationSequences.FT_FACE_GET_CHAR_VARIANT_INDEX.invoke(face, charcode, variantSelector);
+            return (int) UnicodeVariationSequences.FT_FACE_GET_CHAR_VARIANT_INDEX.HANDLE.invokeExact((Addressable) face, charcode, variantSelector);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -625,7 +689,7 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static int FTFaceGetCharVariantIsDefault(@In MemoryAddress face, @In long charcode, @In long variantSelector) {
         try {
-            return (int) UnicodeVariationSequences.FT_FACE_GET_CHAR_VARIANT_IS_DEFAULT.invoke(face, charcode, variantSelector);
+            return (int) UnicodeVariationSequences.FT_FACE_GET_CHAR_VARIANT_IS_DEFAULT.HANDLE.invokeExact((Addressable) face, charcode, variantSelector);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -638,9 +702,9 @@ public interface FreeTypeFace extends FTLoadFlags {
      * @return A pointer to an array of selector code points, or NULL if there is no valid variation selector cmap subtable.
      * @apiNote The last item in the array is 0; the array is owned by the {@link FTFace} object but can be overwritten or released on the next call to a FreeType function.
      */
-    static int FTFaceGetVariantSelectors(@In MemoryAddress face) {
+    static MemoryAddress FTFaceGetVariantSelectors(@In MemoryAddress face) {
         try {
-            return (int) UnicodeVariationSequences.FT_FACE_GET_VARIANT_SELECTORS.invoke(face);
+            return (MemoryAddress) UnicodeVariationSequences.FT_FACE_GET_VARIANT_SELECTORS.HANDLE.invokeExact((Addressable) face);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -656,7 +720,7 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static MemoryAddress FTFaceGetVariantsOfChar(@In MemoryAddress face, @In long charcode) {
         try {
-            return MemoryAddress.ofLong((long) UnicodeVariationSequences.FT_FACE_GET_VARIANTS_OF_CHAR.invoke(face, charcode));
+            return (MemoryAddress) UnicodeVariationSequences.FT_FACE_GET_VARIANTS_OF_CHAR.HANDLE.invokeExact((Addressable) face, charcode);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -672,7 +736,7 @@ public interface FreeTypeFace extends FTLoadFlags {
      */
     static MemoryAddress FTFaceGetCharsOfVariant(@In MemoryAddress face, @In long variantSelector) {
         try {
-            return MemoryAddress.ofLong((long) UnicodeVariationSequences.FT_FACE_GET_CHARS_OF_VARIANT.invoke(face, variantSelector));
+            return (MemoryAddress) UnicodeVariationSequences.FT_FACE_GET_CHARS_OF_VARIANT.HANDLE.invokeExact((Addressable) face, variantSelector);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -11,6 +11,7 @@ import io.github.mmc1234.jfreetype.internal.GlyphColorManagement;
 import io.github.mmc1234.jfreetype.internal.GlyphLayerManagement;
 import io.github.mmc1234.jfreetype.internal.GlyphManagement;
 import io.github.mmc1234.jfreetype.util.VarUtils;
+import jdk.incubator.foreign.Addressable;
 import jdk.incubator.foreign.MemoryAddress;
 import jdk.incubator.foreign.MemorySegment;
 
@@ -95,7 +96,7 @@ public interface FreeTypeGlyph {
      */
     static int FTRenderGlyph(@In MemoryAddress slot, @In FTRenderMode render_mode) {
         try {
-            return (int) BaseInterface.FT_RENDER_GLYPH.invoke(slot, render_mode.ordinal());
+            return (int) BaseInterface.FT_RENDER_GLYPH.HANDLE.invokeExact((Addressable) slot, render_mode.ordinal());
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -119,7 +120,9 @@ public interface FreeTypeGlyph {
      */
     static int FTGetSubGlyphInfo(@In MemoryAddress glyph, @In int sub_index, @Out MemorySegment p_index, @Out MemorySegment p_flags, @Out MemorySegment p_arg1, @Out MemorySegment p_arg2, @Out MemorySegment p_transform) {
         try {
-            return (int) BaseInterface.FT_GET_SUBGLYPH_INFO.invoke(glyph, sub_index, p_index.address(), p_flags.address(), p_arg1.address(), p_arg2.address(), p_transform.address());
+            return (int) BaseInterface.FT_GET_SUBGLYPH_INFO.HANDLE.invokeExact((Addressable) glyph, sub_index,
+                    (Addressable) p_index.address(), (Addressable) p_flags.address(), (Addressable) p_arg1.address(),
+                    (Addressable) p_arg2.address(), (Addressable) p_transform.address());
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -139,7 +142,8 @@ public interface FreeTypeGlyph {
      */
     static int FTPaletteDataGet(@In MemoryAddress face, @Out MemorySegment apalette) {
         try {
-            return (int) GlyphColorManagement.FT_PALETTE_DATA_GET.invoke(face, apalette.address());
+            return (int) GlyphColorManagement.FT_PALETTE_DATA_GET.HANDLE.invokeExact((Addressable) face,
+                    (Addressable) apalette.address());
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -167,7 +171,8 @@ public interface FreeTypeGlyph {
      */
     static int FTPaletteSelect(@In MemoryAddress face, short palette_index, @Out MemorySegment apalette) {
         try {
-            return (int) GlyphColorManagement.FT_PALETTE_SELECT.invoke(face, palette_index, apalette.address());
+            return (int) GlyphColorManagement.FT_PALETTE_SELECT.HANDLE.invokeExact((Addressable) face, palette_index,
+                    (Addressable) apalette.address());
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -190,7 +195,8 @@ public interface FreeTypeGlyph {
      */
     static int FTPaletteSetForegroundColor(@In MemoryAddress face, @In @Struct MemorySegment foregroundColor) {
         try {
-            return (int) GlyphColorManagement.FT_PALETTE_SELECT.invoke(face, foregroundColor.address());
+            return (int) GlyphColorManagement.FT_PALETTE_SET_FOREGROUND_COLOR.HANDLE.invokeExact((Addressable) face,
+                    foregroundColor);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -231,8 +237,9 @@ public interface FreeTypeGlyph {
                                     @Out MemorySegment acolor_index,
                                     @In @Out MemoryAddress iterator) {
         try {
-            return (int) GlyphLayerManagement.FT_GET_COLOR_GLYPH_LAYER
-                    .invoke(face, base_glyph, aglyph_index.address(), acolor_index.address(), iterator);
+            return (byte) GlyphLayerManagement.FT_GET_COLOR_GLYPH_LAYER.HANDLE
+                    .invokeExact((Addressable) face, base_glyph, (Addressable) aglyph_index.address(),
+                            (Addressable) acolor_index.address(), (Addressable) iterator);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -285,8 +292,8 @@ public interface FreeTypeGlyph {
                                         @Out FTColorRootTransform root_transform,
                                         @In MemoryAddress paint) {
         try {
-            return (boolean) GlyphLayerManagement.FT_GET_COLOR_GLYPH_PAINT
-                    .invoke(face, base_glyph, root_transform.value(), paint);
+            return (boolean) GlyphLayerManagement.FT_GET_COLOR_GLYPH_PAINT.HANDLE
+                    .invokeExact((Addressable) face, base_glyph, root_transform.value(), (Addressable) paint);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -310,8 +317,8 @@ public interface FreeTypeGlyph {
                                           @In int base_glyph,
                                           @Out MemoryAddress clip_box) {
         try {
-            return (boolean) GlyphLayerManagement.FT_GET_COLOR_GLYPH_CLIP_BOX
-                    .invoke(face, base_glyph, clip_box);
+            return (boolean) GlyphLayerManagement.FT_GET_COLOR_GLYPH_CLIP_BOX.HANDLE
+                    .invokeExact((Addressable) face, base_glyph, (Addressable) clip_box);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -336,8 +343,8 @@ public interface FreeTypeGlyph {
                                     @In @Out MemoryAddress iterator,
                                     @Out MemoryAddress paint) {
         try {
-            return (boolean) GlyphLayerManagement.FT_GET_PAINT_LAYERS
-                    .invoke(face, iterator, paint);
+            return (boolean) GlyphLayerManagement.FT_GET_PAINT_LAYERS.HANDLE
+                    .invokeExact((Addressable) face, (Addressable) iterator, (Addressable) paint);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -358,8 +365,8 @@ public interface FreeTypeGlyph {
                                        @Out MemoryAddress color_stop,
                                        @In @Out MemoryAddress iterator) {
         try {
-            return (boolean) GlyphLayerManagement.FT_GET_COLOR_LINE_STOPS
-                    .invoke(face, color_stop, iterator);
+            return (boolean) GlyphLayerManagement.FT_GET_COLOR_LINE_STOPS.HANDLE
+                    .invokeExact((Addressable) face, (Addressable) color_stop, (Addressable) iterator);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -377,8 +384,8 @@ public interface FreeTypeGlyph {
                               @In @Struct MemorySegment opaque_paint,
                               @Out MemoryAddress paint) {
         try {
-            return (boolean) GlyphLayerManagement.FT_GET_PAINT
-                    .invoke(face, opaque_paint.address(), paint);
+            return (boolean) GlyphLayerManagement.FT_GET_PAINT.HANDLE
+                    .invokeExact((Addressable) face, opaque_paint, (Addressable) paint);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -404,7 +411,7 @@ public interface FreeTypeGlyph {
      */
     static int FTLoadGlyph(@In MemoryAddress face, @In int glyph_index, @In int load_flags) {
         try {
-            return (int) BaseInterface.FT_LOAD_GLYPH.invoke(face, glyph_index, load_flags);
+            return (int) BaseInterface.FT_LOAD_GLYPH.HANDLE.invokeExact((Addressable) face, glyph_index, load_flags);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -431,7 +438,8 @@ public interface FreeTypeGlyph {
      */
     static int FTGetGlyphName(@In MemoryAddress face, @In int glyph_index, @Out MemorySegment buffer, @In int buffer_max) {
         try {
-            return (int) BaseInterface.FT_GET_GLYPH_NAME.invoke(face, glyph_index, buffer.address(), buffer_max);
+            return (int) BaseInterface.FT_GET_GLYPH_NAME.HANDLE.invokeExact((Addressable) face, glyph_index,
+                    (Addressable) buffer.address(), buffer_max);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -448,7 +456,8 @@ public interface FreeTypeGlyph {
      * */
     static int FTNewGlyph(@In MemoryAddress library, @In int format, @Out MemorySegment aglyph) {
         try {
-            return (int) GlyphManagement.FT_NEW_GLYPH.invoke(library, format, aglyph.address());
+            return (int) GlyphManagement.FT_NEW_GLYPH.HANDLE.invokeExact((Addressable) library, format,
+                    (Addressable) aglyph.address());
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -467,7 +476,7 @@ public interface FreeTypeGlyph {
      * */
     static int FTGetGlyph(@In MemoryAddress slot, @Out MemorySegment aglyph) {
         try {
-            return (int) GlyphManagement.FT_GET_GLYPH.invoke(slot, aglyph.address());
+            return (int) GlyphManagement.FT_GET_GLYPH.HANDLE.invokeExact((Addressable) slot, (Addressable) aglyph.address());
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -483,7 +492,7 @@ public interface FreeTypeGlyph {
      * */
     static int FTGlyphCopy(@In MemoryAddress source, @Out MemoryAddress target) {
         try {
-            return (int) GlyphManagement.FT_GLYPH_COPY.invoke(source, target);
+            return (int) GlyphManagement.FT_GLYPH_COPY.HANDLE.invokeExact((Addressable) source, (Addressable) target);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -501,7 +510,8 @@ public interface FreeTypeGlyph {
      * */
     static int FTGlyphTransform(@In @Out MemoryAddress glyph, @In MemorySegment matrix, @In MemorySegment delta) {
         try {
-            return (int) GlyphManagement.FT_GLYPH_TRANSFORM.invoke(glyph, matrix.address(), delta.address());
+            return (int) GlyphManagement.FT_GLYPH_TRANSFORM.HANDLE.invokeExact((Addressable) glyph,
+                    (Addressable) matrix.address(), (Addressable) delta.address());
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -550,7 +560,7 @@ public interface FreeTypeGlyph {
      * */
     static void FTGlyphGetCBox(@In MemoryAddress glyph, @In int bbox_mode, @Out MemorySegment acbox) {
         try {
-            GlyphManagement.FT_GLYPH_GET_C_BOX.invoke(glyph, bbox_mode, acbox.address());
+            GlyphManagement.FT_GLYPH_GET_C_BOX.HANDLE.invokeExact((Addressable) glyph, bbox_mode, (Addressable) acbox.address());
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -648,8 +658,8 @@ public interface FreeTypeGlyph {
                                @In MemoryAddress origin,
                                @In boolean destory) {
         try {
-            return (int) GlyphManagement.FT_GLYPH_TO_BITMAP.invoke(the_glyph.address(),
-                    render_mode.getAsInt(), origin, destory ? VarUtils.TRUE : VarUtils.FALSE);
+            return (int) GlyphManagement.FT_GLYPH_TO_BITMAP.HANDLE.invokeExact((Addressable) the_glyph.address(),
+                    render_mode.getAsInt(), (Addressable) origin, destory ? VarUtils.TRUE : VarUtils.FALSE);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -661,7 +671,7 @@ public interface FreeTypeGlyph {
      * */
     static void FTDoneGlyph(@In MemoryAddress glyph) {
         try {
-            GlyphManagement.FT_DONE_GLYPH.invoke(glyph);
+            GlyphManagement.FT_DONE_GLYPH.HANDLE.invokeExact((Addressable) glyph);
         } catch (Throwable e) {
             throw rethrow(e);
         }
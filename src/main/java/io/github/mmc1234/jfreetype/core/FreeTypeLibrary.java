@@ -4,6 +4,7 @@ import io.github.mmc1234.jfreetype.In;
 import io.github.mmc1234.jfreetype.Out;
 import io.github.mmc1234.jfreetype.internal.BaseInterface;
 import io.github.mmc1234.jfreetype.internal.VersionInternal;
+import jdk.incubator.foreign.Addressable;
 import jdk.incubator.foreign.MemoryAddress;
 import jdk.incubator.foreign.MemorySegment;
 
@@ -29,7 +30,8 @@ public interface FreeTypeLibrary {
      */
     static void FTLibraryVersion(@In MemoryAddress library, @Out MemorySegment amajor, @Out MemorySegment aminor, @Out MemorySegment apatch) {
         try {
-            VersionInternal.FT_LIBRARY_VERSION.invoke(library, amajor.address(), aminor.address(), apatch.address());
+            VersionInternal.FT_LIBRARY_VERSION.HANDLE.invokeExact((Addressable) library,
+                    (Addressable) amajor.address(), (Addressable) aminor.address(), (Addressable) apatch.address());
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -55,7 +57,7 @@ public interface FreeTypeLibrary {
      */
     static int FTInitFreeType(@Out MemorySegment alibrary) {
         try {
-            return (int) BaseInterface.FT_INIT_FREETYPE.invoke(alibrary.address());
+            return (int) BaseInterface.FT_INIT_FREETYPE.HANDLE.invokeExact((Addressable) alibrary.address());
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -69,7 +71,59 @@ public interface FreeTypeLibrary {
      */
     static int FTDoneFreeType(@In MemoryAddress library) {
         try {
-            return (int) BaseInterface.FT_DONE_FREETYPE.invoke(library);
+            return (int) BaseInterface.FT_DONE_FREETYPE.HANDLE.invokeExact((Addressable) library);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Set a property for a given module.
+     *
+     * @param library       A handle to the library the module is part of.
+     * @param module_name   The module name, a C string like {@code "sdf"}.
+     * @param property_name The property name, a C string like {@code "spread"}.
+     *                      Properties are described in section ‘Driver properties’.
+     * @param value         A generic pointer to a variable or structure that gives the new value of the property.
+     *                      The exact definition of value is dependent on the property.
+     * @return FreeType error code. 0 means success.
+     * @apiNote {@code FT_Err_Missing_Module} is returned if module_name doesn't exist,
+     * {@code FT_Err_Missing_Property} if module_name isn't a valid module name, or property_name doesn't exist,
+     * and {@code FT_Err_Invalid_Argument} if value is invalid.<br/>
+     * <p>
+     * Properties are set for the whole library: every face of the library uses the new value when it is loaded
+     * or rendered next. For example, the spread of the signed distance fields rendered with
+     * {@code FT_RENDER_MODE_SDF} is set with the {@code "spread"} property of the {@code "sdf"} module
+     * (outlines) and of the {@code "bsdf"} module (bitmaps), as an {@code FT_Int} from 2 to 32.
+     */
+    static int FTPropertySet(@In MemoryAddress library, @In MemorySegment module_name,
+                             @In MemorySegment property_name, @In MemoryAddress value) {
+        try {
+            return (int) BaseInterface.FT_PROPERTY_SET.HANDLE.invokeExact((Addressable) library,
+                    (Addressable) module_name.address(), (Addressable) property_name.address(), (Addressable) value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Get a module's property value.
+     *
+     * @param library       A handle to the library the module is part of.
+     * @param module_name   The module name, a C string.
+     * @param property_name The property name, a C string.
+     * @param value         A generic pointer to a variable or structure that gives the value of the property.
+     *                      The exact definition of value is dependent on the property.
+     * @return FreeType error code. 0 means success.
+     * @apiNote {@code FT_Err_Missing_Module} is returned if module_name doesn't exist,
+     * {@code FT_Err_Missing_Property} if module_name isn't a valid module name, or property_name doesn't exist.
+     */
+    static int FTPropertyGet(@In MemoryAddress library, @In MemorySegment module_name,
+                             @In MemorySegment property_name, @Out MemorySegment value) {
+        try {
+            return (int) BaseInterface.FT_PROPERTY_GET.HANDLE.invokeExact((Addressable) library,
+                    (Addressable) module_name.address(), (Addressable) property_name.address(),
+                    (Addressable) value.address());
         } catch (Throwable e) {
             throw rethrow(e);
         }
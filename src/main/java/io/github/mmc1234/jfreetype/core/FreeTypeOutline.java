@@ -0,0 +1,42 @@
+package io.github.mmc1234.jfreetype.core;
+
+import io.github.mmc1234.jfreetype.In;
+import io.github.mmc1234.jfreetype.image.FTOutline;
+import io.github.mmc1234.jfreetype.image.FTOutlineFuncs;
+import io.github.mmc1234.jfreetype.image.OutlineDecomposer;
+import io.github.mmc1234.jfreetype.internal.OutlineProcessing;
+import jdk.incubator.foreign.Addressable;
+import jdk.incubator.foreign.MemoryAddress;
+
+import static io.github.mmc1234.jfreetype.internal.LibraryUtil.rethrow;
+
+/**
+ * An interface stores outline operations.
+ */
+public interface FreeTypeOutline {
+
+    /**
+     * Walk over an outline's structure to decompose it into individual segments and Bezier arcs.
+     * This function also emits ‘move to’ operations to indicate the start of new contours in the outline.
+     *
+     * @param outline        A pointer to the source target, an {@link FTOutline}.
+     * @param func_interface A table of ‘emitters’, i.e., function pointers called during decomposition
+     *                       to indicate path operations, an {@link FTOutlineFuncs}.
+     * @param user           A typeless pointer that is passed to each emitter during the decomposition.
+     *                       It can be used to store the state during the decomposition.
+     * @return FreeType error code. 0 means success.
+     * @apiNote Degenerate contours, segments, and Bezier arcs may be reported. In most cases, it is best to filter
+     * these out before using the outline for stroking.<br/>
+     * <p>
+     * An emitter returning a non-zero value stops the decomposition, and the value is returned as the error code.
+     * See {@link OutlineDecomposer} for emitters calling Java code.
+     */
+    static int FTOutlineDecompose(@In MemoryAddress outline, @In MemoryAddress func_interface, @In MemoryAddress user) {
+        try {
+            return (int) OutlineProcessing.FT_OUTLINE_DECOMPOSE.HANDLE.invokeExact((Addressable) outline,
+                    (Addressable) func_interface, (Addressable) user);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package io.github.mmc1234.jfreetype.core;
 import io.github.mmc1234.jfreetype.In;
 import io.github.mmc1234.jfreetype.Out;
 import io.github.mmc1234.jfreetype.internal.SizeManagement;
+import jdk.incubator.foreign.Addressable;
 import jdk.incubator.foreign.MemoryAddress;
 import jdk.incubator.foreign.MemorySegment;
 
@@ -25,7 +26,7 @@ public interface FreeTypeSize {
      */
     static int FTNewSize(@In MemoryAddress face, @Out MemorySegment asize) {
         try {
-            return (int) SizeManagement.FT_NEW_SIZE.invoke(face, asize.address());
+            return (int) SizeManagement.FT_NEW_SIZE.HANDLE.invokeExact((Addressable) face, (Addressable) asize.address());
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -40,7 +41,7 @@ public interface FreeTypeSize {
      */
     static int FTDoneSize(@In MemoryAddress size) {
         try {
-            return (int) SizeManagement.FT_DONE_SIZE.invoke(size);
+            return (int) SizeManagement.FT_DONE_SIZE.HANDLE.invokeExact((Addressable) size);
         } catch (Throwable e) {
             throw rethrow(e);
         }
@@ -58,7 +59,7 @@ public interface FreeTypeSize {
      */
     static int FTActivateSize(@In MemoryAddress size) {
         try {
-            return (int) SizeManagement.FT_ACTIVATE_SIZE.invoke(size);
+            return (int) SizeManagement.FT_ACTIVATE_SIZE.HANDLE.invokeExact((Addressable) size);
         } catch (Throwable e) {
             throw rethrow(e);
         }
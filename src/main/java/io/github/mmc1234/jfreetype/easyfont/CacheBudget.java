@@ -0,0 +1,127 @@
+package io.github.mmc1234.jfreetype.easyfont;
+
+/**
+ * A byte budget for {@link CharInfoCache}s.<br/>
+ * A budget can be owned by one font or shared by all fonts of an {@link EasyFontLibrary}. All caches
+ * bound to a budget share one least-recently-used list, and the least recently used char info of any
+ * of them is evicted once the budget is exceeded.<br/>
+ * A budget is not thread-safe, like the fonts using it.
+ */
+public class CacheBudget {
+
+    /**
+     * Bytes estimated for a char info without its bitmap.
+     */
+    public static final long ENTRY_OVERHEAD = 96;
+
+    private final long maxBytes;
+    private final CharInfoCache.Entry head;
+    private long usedBytes;
+    private int entries;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long evictedBytes;
+
+    /**
+     * Create a budget.
+     * @param maxBytes maximum bytes cached, see {@link #byteSizeOf}
+     */
+    public CacheBudget(long maxBytes) {
+        if (maxBytes <= 0)
+            throw new IllegalArgumentException("Invalid budget: " + maxBytes);
+        this.maxBytes = maxBytes;
+        head = new CharInfoCache.Entry(null, 0, null, 0);
+        head.prev = head;
+        head.next = head;
+    }
+
+    /**
+     * Create a budget never evicting anything.
+     * @return a budget
+     */
+    public static CacheBudget unlimited() {
+        return new CacheBudget(Long.MAX_VALUE);
+    }
+
+    /**
+     * Estimate bytes a char info costs in a cache.
+     * @param info a char info
+     * @return bytes of the char info
+     */
+    public static long byteSizeOf(CharInfo info) {
+        byte[] buffer = info.buffer();
+        return buffer == null ? ENTRY_OVERHEAD : ENTRY_OVERHEAD + buffer.length;
+    }
+
+    /**
+     * Get maximum bytes of the budget.
+     * @return maximum bytes
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Get statistics of the budget.
+     * @return a snapshot of the statistics
+     */
+    public CacheStats getStats() {
+        return new CacheStats(hits, misses, evictions, evictedBytes, entries, usedBytes, maxBytes);
+    }
+
+    /**
+     * Reset the hit, miss and eviction counters.
+     */
+    public void resetStats() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+        evictedBytes = 0;
+    }
+
+    void recordHit(CharInfoCache.Entry entry) {
+        hits++;
+        if (head.next != entry) {
+            unlink(entry);
+            linkFirst(entry);
+        }
+    }
+
+    void recordMiss() {
+        misses++;
+    }
+
+    void add(CharInfoCache.Entry entry) {
+        linkFirst(entry);
+        usedBytes += entry.bytes;
+        entries++;
+        // Keep the newest entry even if it exceeds the budget alone
+        while (usedBytes > maxBytes && head.prev != entry) {
+            CharInfoCache.Entry eldest = head.prev;
+            eldest.owner.evict(eldest);
+            evictions++;
+            evictedBytes += eldest.bytes;
+        }
+    }
+
+    void remove(CharInfoCache.Entry entry) {
+        unlink(entry);
+        usedBytes -= entry.bytes;
+        entries--;
+    }
+
+    private void linkFirst(CharInfoCache.Entry entry) {
+        entry.prev = head;
+        entry.next = head.next;
+        head.next.prev = entry;
+        head.next = entry;
+    }
+
+    private static void unlink(CharInfoCache.Entry entry) {
+        entry.prev.next = entry.next;
+        entry.next.prev = entry.prev;
+        entry.prev = null;
+        entry.next = null;
+    }
+}
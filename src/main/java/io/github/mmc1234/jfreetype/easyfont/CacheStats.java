@@ -0,0 +1,25 @@
+package io.github.mmc1234.jfreetype.easyfont;
+
+/**
+ * Statistics of a {@link CacheBudget}.
+ *
+ * @param hits count of lookups found in the cache
+ * @param misses count of lookups not found in the cache
+ * @param evictions count of char infos evicted to keep the budget
+ * @param evictedBytes bytes of the char infos evicted
+ * @param entries count of char infos cached
+ * @param usedBytes bytes of the char infos cached
+ * @param maxBytes maximum bytes of the budget
+ */
+public record CacheStats(long hits, long misses, long evictions, long evictedBytes,
+                         int entries, long usedBytes, long maxBytes) {
+
+    /**
+     * Get the hit rate.
+     * @return hits divided by lookups, or 0 if there is no lookup
+     */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
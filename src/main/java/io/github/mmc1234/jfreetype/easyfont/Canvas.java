@@ -0,0 +1,100 @@
+package io.github.mmc1234.jfreetype.easyfont;
+
+import jdk.incubator.foreign.MemorySegment;
+
+import java.nio.ByteBuffer;
+
+import static jdk.incubator.foreign.ValueLayout.JAVA_BYTE;
+
+/**
+ * Pixels owned by the caller, which {@link EasyFont#renderString} draws chars into.<br/>
+ * Chars are composited over the pixels (source over destination) and clipped at the bounds of the canvas.
+ *
+ * @param pixels memory of the pixels
+ * @param width width in pixels
+ * @param height height in pixels
+ * @param stride bytes between the starts of two rows
+ * @param format pixel format
+ */
+public record Canvas(MemorySegment pixels, int width, int height, int stride, CanvasFormat format) {
+
+    public Canvas {
+        if (width < 0 || height < 0 || stride < (long) width * format.bytesPerPixel())
+            throw new IllegalArgumentException("Invalid canvas: width = " + width + ", height = " + height +
+                    ", stride = " + stride);
+        if (height > 0 && pixels.byteSize() < (long) (height - 1) * stride + (long) width * format.bytesPerPixel())
+            throw new IllegalArgumentException("Canvas needs more bytes than " + pixels.byteSize());
+    }
+
+    /**
+     * Create a canvas of a byte array.
+     * @param pixels the pixels
+     * @param width width in pixels
+     * @param height height in pixels
+     * @param stride bytes between the starts of two rows
+     * @param format pixel format
+     * @return a canvas
+     */
+    public static Canvas of(byte[] pixels, int width, int height, int stride, CanvasFormat format) {
+        return new Canvas(MemorySegment.ofArray(pixels), width, height, stride, format);
+    }
+
+    /**
+     * Create a canvas of a buffer, from its position to its limit.
+     * @param pixels the pixels
+     * @param width width in pixels
+     * @param height height in pixels
+     * @param stride bytes between the starts of two rows
+     * @param format pixel format
+     * @return a canvas
+     */
+    public static Canvas of(ByteBuffer pixels, int width, int height, int stride, CanvasFormat format) {
+        return new Canvas(MemorySegment.ofByteBuffer(pixels), width, height, stride, format);
+    }
+
+    /**
+     * Composite the coverage of a char.
+     * @param info a rendered char
+     * @param left x of the left column of the char on the canvas
+     * @param top y of the top row of the char on the canvas
+     * @param argb color of the char
+     */
+    void draw(CharInfo info, int left, int top, int argb) {
+        int fromX = Math.max(0, left), toX = Math.min(width, left + info.width());
+        int fromY = Math.max(0, top), toY = Math.min(height, top + info.height());
+        if (fromX >= toX || fromY >= toY)
+            return;
+        byte[] coverage = info.buffer();
+        int alpha = argb >>> 24;
+        int bytesPerPixel = format.bytesPerPixel();
+        // Channel offsets of red and blue in a pixel
+        int red = format == CanvasFormat.RGBA_PREMULTIPLIED ? 0 : 2, blue = 2 - red;
+        for (int y = fromY; y < toY; y++) {
+            int source = (y - top) * info.stride() - left;
+            long target = (long) y * stride;
+            for (int x = fromX; x < toX; x++) {
+                int a = div255((coverage[source + x] & 0xFF) * alpha);
+                if (a == 0)
+                    continue;
+                long offset = target + (long) x * bytesPerPixel;
+                if (bytesPerPixel == 1) {
+                    blend(offset, a, a);
+                } else {
+                    blend(offset + red, div255((argb >> 16 & 0xFF) * a), a);
+                    blend(offset + 1, div255((argb >> 8 & 0xFF) * a), a);
+                    blend(offset + blue, div255((argb & 0xFF) * a), a);
+                    blend(offset + 3, a, a);
+                }
+            }
+        }
+    }
+
+    private void blend(long offset, int source, int alpha) {
+        int target = pixels.get(JAVA_BYTE, offset) & 0xFF;
+        pixels.set(JAVA_BYTE, offset, (byte) (source + div255(target * (255 - alpha))));
+    }
+
+    private static int div255(int value) {
+        return (value + 128 + ((value + 128) >> 8)) >> 8;
+    }
+}
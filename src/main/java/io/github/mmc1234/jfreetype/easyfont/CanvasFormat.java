@@ -0,0 +1,33 @@
+package io.github.mmc1234.jfreetype.easyfont;
+
+/**
+ * Pixel format of a {@link Canvas}.
+ */
+public enum CanvasFormat {
+    /**
+     * One byte of coverage per pixel. Chars are composited with the alpha of the color only.
+     */
+    GRAY(1),
+    /**
+     * Four bytes per pixel in blue, green, red, alpha order, with premultiplied alpha.
+     */
+    BGRA_PREMULTIPLIED(4),
+    /**
+     * Four bytes per pixel in red, green, blue, alpha order, with premultiplied alpha.
+     */
+    RGBA_PREMULTIPLIED(4);
+
+    private final int bytesPerPixel;
+
+    CanvasFormat(int bytesPerPixel) {
+        this.bytesPerPixel = bytesPerPixel;
+    }
+
+    /**
+     * Get bytes used by a pixel.
+     * @return bytes of a pixel
+     */
+    public int bytesPerPixel() {
+        return bytesPerPixel;
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.mmc1234.jfreetype.easyfont;
+
+import java.awt.Point;
+import java.awt.Transparency;
+import java.awt.color.ColorSpace;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.ComponentColorModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.IndexColorModel;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+
+/**
+ * Converts rendered chars into images without per-pixel {@link BufferedImage#setRGB} calls.<br/>
+ * Every method makes at most one pass over the luminance buffer of the char. Methods named {@code wrap}
+ * make no copy at all, so the image shares the buffer of the char and must not be modified.
+ */
+public final class CharImages {
+
+    private static final ColorModel GRAY = new ComponentColorModel(ColorSpace.getInstance(ColorSpace.CS_GRAY),
+            new int[]{8}, false, true, Transparency.OPAQUE, DataBuffer.TYPE_BYTE);
+
+    private CharImages() {
+    }
+
+    /**
+     * Wrap the luminance buffer into a single band raster. No pixel is copied.
+     * @param info a rendered char
+     * @return a raster sharing the buffer of the char
+     */
+    public static WritableRaster wrapRaster(CharInfo info) {
+        checkRendered(info);
+        DataBufferByte data = new DataBufferByte(info.buffer(), info.buffer().length);
+        return Raster.createInterleavedRaster(data, info.width(), info.height(), info.stride(), 1,
+                new int[]{0}, new Point());
+    }
+
+    /**
+     * Wrap the luminance buffer into a {@link BufferedImage#TYPE_BYTE_GRAY} image. No pixel is copied.
+     * @param info a rendered char
+     * @return an image sharing the buffer of the char
+     */
+    public static BufferedImage wrapGray(CharInfo info) {
+        return new BufferedImage(GRAY, wrapRaster(info), false, null);
+    }
+
+    /**
+     * Copy the luminance buffer into a {@link BufferedImage#TYPE_BYTE_GRAY} image.
+     * @param info a rendered char
+     * @return an image owning its pixels
+     */
+    public static BufferedImage toGray(CharInfo info) {
+        checkRendered(info);
+        BufferedImage image = new BufferedImage(info.width(), info.height(), BufferedImage.TYPE_BYTE_GRAY);
+        copyRows(info, ((DataBufferByte) image.getRaster().getDataBuffer()).getData());
+        return image;
+    }
+
+    /**
+     * Copy the luminance buffer into an indexed image whose palette maps a coverage to a color with that alpha,
+     * so the image can be drawn as an alpha mask.
+     * @param info a rendered char
+     * @param argb color of the char, its alpha is multiplied by the coverage
+     * @return an image owning its pixels
+     */
+    public static BufferedImage toAlphaMask(CharInfo info, int argb) {
+        checkRendered(info);
+        byte[] reds = new byte[256], greens = new byte[256], blues = new byte[256], alphas = new byte[256];
+        int alpha = argb >>> 24;
+        for (int i = 0; i < 256; i++) {
+            reds[i] = (byte) (argb >> 16);
+            greens[i] = (byte) (argb >> 8);
+            blues[i] = (byte) argb;
+            alphas[i] = (byte) ((i * alpha + 127) / 255);
+        }
+        IndexColorModel colorModel = new IndexColorModel(8, 256, reds, greens, blues, alphas);
+        BufferedImage image = new BufferedImage(info.width(), info.height(), BufferedImage.TYPE_BYTE_INDEXED, colorModel);
+        copyRows(info, ((DataBufferByte) image.getRaster().getDataBuffer()).getData());
+        return image;
+    }
+
+    /**
+     * Convert the luminance buffer into a {@link BufferedImage#TYPE_INT_ARGB_PRE} image of a color.
+     * @param info a rendered char
+     * @param argb color of the char, its alpha is multiplied by the coverage
+     * @return an image owning its pixels
+     */
+    public static BufferedImage toPremultipliedArgb(CharInfo info, int argb) {
+        checkRendered(info);
+        int alpha = argb >>> 24, red = argb >> 16 & 0xFF, green = argb >> 8 & 0xFF, blue = argb & 0xFF;
+        int[] colors = new int[256];
+        for (int i = 0; i < 256; i++) {
+            int a = (i * alpha + 127) / 255;
+            colors[i] = a << 24 | (red * a + 127) / 255 << 16 | (green * a + 127) / 255 << 8 | (blue * a + 127) / 255;
+        }
+        BufferedImage image = new BufferedImage(info.width(), info.height(), BufferedImage.TYPE_INT_ARGB_PRE);
+        fillRows(info, ((DataBufferInt) image.getRaster().getDataBuffer()).getData(), colors);
+        return image;
+    }
+
+    /**
+     * Convert the luminance buffer into a gray {@link BufferedImage#TYPE_INT_BGR} image.
+     * @param info a rendered char
+     * @return an image owning its pixels
+     */
+    public static BufferedImage toIntBgr(CharInfo info) {
+        checkRendered(info);
+        int[] colors = new int[256];
+        for (int i = 0; i < 256; i++)
+            colors[i] = i | i << 8 | i << 16;
+        BufferedImage image = new BufferedImage(info.width(), info.height(), BufferedImage.TYPE_INT_BGR);
+        fillRows(info, ((DataBufferInt) image.getRaster().getDataBuffer()).getData(), colors);
+        return image;
+    }
+
+    private static void copyRows(CharInfo info, byte[] pixels) {
+        int width = info.width(), stride = info.stride();
+        if (stride == width)
+            System.arraycopy(info.buffer(), 0, pixels, 0, width * info.height());
+        else
+            for (int i = 0; i < info.height(); i++)
+                System.arraycopy(info.buffer(), i * stride, pixels, i * width, width);
+    }
+
+    private static void fillRows(CharInfo info, int[] pixels, int[] colors) {
+        byte[] buffer = info.buffer();
+        int width = info.width(), stride = info.stride();
+        for (int i = 0; i < info.height(); i++) {
+            int from = i * stride, to = i * width;
+            for (int j = 0; j < width; j++)
+                pixels[to + j] = colors[buffer[from + j] & 0xFF];
+        }
+    }
+
+    private static void checkRendered(CharInfo info) {
+        if (!info.isRendered())
+            throw new IllegalArgumentException("Char is not rendered: " + info.getCharAsString());
+    }
+}
@@ -1,9 +1,12 @@
 package io.github.mmc1234.jfreetype.easyfont;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
- * Information of a char.
+ * Information of a char.<br/>
+ * Two infos are equal if they have the same char, glyph, size, box and advance and the same pixels,
+ * so renders of different {@link RenderConfig}s are told apart. The hash code only uses the codepoint and the size.
  *
  * @param codepoint codepoint of the char
  * @param size size of the font
@@ -13,12 +16,36 @@ import java.util.Objects;
  * @param minY minimum y of the char box
  * @param maxX maximum x of the char box
  * @param maxY maximum y of the char box
- * @param bitmap luminance bitmap, maybe null
+ * @param advance horizontal advance of the char in 26.6 pixel format
+ * @param buffer luminance bitmap stored row by row, maybe null
+ * @param stride bytes between the starts of two rows in the buffer
  */
 public record CharInfo(int codepoint, int charIndex,
                        int size, int width, int height,
-                       long minX, long minY, long maxX, long maxY,
-                       byte[][] bitmap) {
+                       long minX, long minY, long maxX, long maxY, long advance,
+                       byte[] buffer, int stride) {
+
+    /**
+     * Create information from a bitmap in rows.
+     *
+     * @param codepoint codepoint of the char
+     * @param size size of the font
+     * @param width width of the char
+     * @param height height of the char
+     * @param minX minimum x of the char box
+     * @param minY minimum y of the char box
+     * @param maxX maximum x of the char box
+     * @param maxY maximum y of the char box
+     * @param advance horizontal advance of the char in 26.6 pixel format
+     * @param bitmap luminance bitmap, maybe null
+     */
+    public CharInfo(int codepoint, int charIndex,
+                    int size, int width, int height,
+                    long minX, long minY, long maxX, long maxY, long advance,
+                    byte[][] bitmap) {
+        this(codepoint, charIndex, size, width, height, minX, minY, maxX, maxY, advance,
+                flatten(bitmap, width), width);
+    }
 
     /**
      * Get the string of codepoint.
@@ -28,14 +55,69 @@ public record CharInfo(int codepoint, int charIndex,
         return new String(Character.toChars(codepoint));
     }
 
+    /**
+     * Check whether the char has been rendered.
+     * @return true if the buffer is present
+     */
+    public boolean isRendered() {
+        return buffer != null;
+    }
+
+    /**
+     * Get the luminance of a pixel.
+     * @param x x of the pixel
+     * @param y y of the pixel, from the top
+     * @return luminance from 0 to 255
+     */
+    public int getLuminance(int x, int y) {
+        return buffer[y * stride + x] & 0xFF;
+    }
+
+    /**
+     * Get the luminance bitmap in rows. Rows are copied from the buffer on every call.
+     * @return luminance bitmap, maybe null
+     */
+    public byte[][] bitmap() {
+        if (buffer == null)
+            return null;
+        byte[][] bitmap = new byte[height][width];
+        for (int i = 0; i < height; i++)
+            System.arraycopy(buffer, i * stride, bitmap[i], 0, width);
+        return bitmap;
+    }
+
+    private static byte[] flatten(byte[][] bitmap, int width) {
+        if (bitmap == null)
+            return null;
+        byte[] buffer = new byte[bitmap.length * width];
+        for (int i = 0; i < bitmap.length; i++)
+            System.arraycopy(bitmap[i], 0, buffer, i * width, width);
+        return buffer;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         CharInfo charInfo = (CharInfo) o;
-        return codepoint == charInfo.codepoint && size == charInfo.size;
+        return codepoint == charInfo.codepoint && charIndex == charInfo.charIndex && size == charInfo.size
+                && width == charInfo.width && height == charInfo.height
+                && minX == charInfo.minX && minY == charInfo.minY && maxX == charInfo.maxX && maxY == charInfo.maxY
+                && advance == charInfo.advance && samePixels(charInfo);
+    }
+
+    // The strides may differ, bytes after the width of a row are ignored
+    private boolean samePixels(CharInfo other) {
+        if (buffer == null || other.buffer == null)
+            return buffer == other.buffer;
+        for (int i = 0; i < height; i++)
+            if (!Arrays.equals(buffer, i * stride, i * stride + width,
+                    other.buffer, i * other.stride, i * other.stride + width))
+                return false;
+        return true;
     }
 
+    // Also the slot of the deprecated CharInfoMap
     @Override
     public int hashCode() {
         return Objects.hash(codepoint, size);
@@ -0,0 +1,143 @@
+package io.github.mmc1234.jfreetype.easyfont;
+
+import java.util.function.Consumer;
+
+/**
+ * A cache of char infos with least-recently-used eviction under a {@link CacheBudget}.<br/>
+ * Keys are packed by {@link LongCharInfoMap#key}.
+ */
+public class CharInfoCache {
+
+    private final LongObjectMap<Entry> entries;
+    private CacheBudget budget;
+
+    /**
+     * Create a cache.
+     * @param budget budget of the cache
+     */
+    public CharInfoCache(CacheBudget budget) {
+        this.budget = budget;
+        entries = new LongObjectMap<>();
+    }
+
+    /**
+     * Get record chars count.
+     * @return count of the chars
+     */
+    public int getRecordChars() {
+        return entries.size();
+    }
+
+    /**
+     * Get the budget of the cache.
+     * @return the budget
+     */
+    public CacheBudget getBudget() {
+        return budget;
+    }
+
+    /**
+     * Bind the cache to another budget. All char infos will be removed.
+     * @param budget the new budget
+     */
+    public void setBudget(CacheBudget budget) {
+        clear();
+        this.budget = budget;
+    }
+
+    /**
+     * Get a char info.
+     * @param codepoint a char
+     * @param size a size
+     * @param loadFlags load flags used to load the char
+     * @return a char info, or null
+     */
+    public CharInfo get(int codepoint, int size, int loadFlags) {
+        return get(LongCharInfoMap.key(codepoint, size, loadFlags));
+    }
+
+    /**
+     * Get a char info and mark it as recently used.
+     * @param key a packed key
+     * @return a char info, or null
+     */
+    public CharInfo get(long key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            budget.recordMiss();
+            return null;
+        }
+        budget.recordHit(entry);
+        return entry.info;
+    }
+
+    /**
+     * Put char information into this. Other char infos may be evicted to keep the budget.
+     * @param key a packed key
+     * @param info a char info
+     */
+    public void put(long key, CharInfo info) {
+        Entry entry = new Entry(this, key, info, CacheBudget.byteSizeOf(info));
+        Entry replaced = entries.put(key, entry);
+        if (replaced != null)
+            budget.remove(replaced);
+        budget.add(entry);
+    }
+
+    /**
+     * Remove a char info.
+     * @param key a packed key
+     * @return the char info removed, or null
+     */
+    public CharInfo remove(long key) {
+        Entry entry = entries.remove(key);
+        if (entry == null)
+            return null;
+        budget.remove(entry);
+        return entry.info;
+    }
+
+    /**
+     * Remove all char infos.
+     */
+    public void clear() {
+        entries.forEach(budget::remove);
+        entries.clear();
+    }
+
+    /**
+     * Iterate over all char infos.
+     * @param action action to apply
+     */
+    public void forEach(Consumer<CharInfo> action) {
+        entries.forEach(entry -> action.accept(entry.info));
+    }
+
+    void forEachEntry(Consumer<Entry> action) {
+        entries.forEach(action);
+    }
+
+    void evict(Entry entry) {
+        entries.remove(entry.key);
+        budget.remove(entry);
+    }
+
+    /**
+     * A node in the least-recently-used list of a {@link CacheBudget}.
+     */
+    static final class Entry {
+        final CharInfoCache owner;
+        final long key;
+        final CharInfo info;
+        final long bytes;
+        Entry prev;
+        Entry next;
+
+        Entry(CharInfoCache owner, long key, CharInfo info, long bytes) {
+            this.owner = owner;
+            this.key = key;
+            this.info = info;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -4,16 +4,18 @@ import java.util.Objects;
 
 /**
  * A hash map to save char infos.
+ * @deprecated boxes on every lookup, use {@link LongCharInfoMap} instead
  */
+@Deprecated
 public class CharInfoMap {
 
     private CharInfo[] charInfos;
     private int recordChars;
 
     /**
-     * Package-private
+     * Create an empty map.
      */
-    CharInfoMap() {
+    public CharInfoMap() {
         charInfos = new CharInfo[65536];
         recordChars = 0;
     }
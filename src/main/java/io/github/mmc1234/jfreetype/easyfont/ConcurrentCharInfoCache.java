@@ -0,0 +1,132 @@
+package io.github.mmc1234.jfreetype.easyfont;
+
+/**
+ * A thread-safe cache of char infos.<br/>
+ * Keys are spread over lock-striped {@link CharInfoCache}s. Every stripe has its own {@link CacheBudget}
+ * holding an equal share of the bytes, so eviction is least-recently-used within a stripe.
+ */
+public class ConcurrentCharInfoCache {
+
+    private final CharInfoCache[] stripes;
+    private final int mask;
+
+    /**
+     * Create a cache with a stripe count fitting the available processors.
+     * @param maxBytes maximum bytes cached, see {@link CacheBudget#byteSizeOf}
+     */
+    public ConcurrentCharInfoCache(long maxBytes) {
+        this(maxBytes, Math.min(64, Runtime.getRuntime().availableProcessors() * 4));
+    }
+
+    /**
+     * Create a cache.
+     * @param maxBytes maximum bytes cached, see {@link CacheBudget#byteSizeOf}
+     * @param stripes count of the stripes, rounded up to a power of two
+     */
+    public ConcurrentCharInfoCache(long maxBytes, int stripes) {
+        if (stripes <= 0)
+            throw new IllegalArgumentException("Invalid stripes: " + stripes);
+        int count = Integer.highestOneBit(stripes - 1) << 1;
+        if (count == 0)
+            count = 1;
+        long stripeBytes = Math.max(1, maxBytes / count);
+        this.stripes = new CharInfoCache[count];
+        for (int i = 0; i < count; i++)
+            this.stripes[i] = new CharInfoCache(new CacheBudget(stripeBytes));
+        mask = count - 1;
+    }
+
+    /**
+     * Create a cache never evicting anything.
+     * @return a cache
+     */
+    public static ConcurrentCharInfoCache unlimited() {
+        return new ConcurrentCharInfoCache(Long.MAX_VALUE);
+    }
+
+    private CharInfoCache stripe(long key) {
+        return stripes[(int) (key * 0x9E3779B97F4A7C15L >>> 40) & mask];
+    }
+
+    /**
+     * Get a char info and mark it as recently used.
+     * @param key a packed key, see {@link LongCharInfoMap#key}
+     * @return a char info, or null
+     */
+    public CharInfo get(long key) {
+        CharInfoCache cache = stripe(key);
+        synchronized (cache) {
+            return cache.get(key);
+        }
+    }
+
+    /**
+     * Put char information into this. Other char infos may be evicted to keep the budget.
+     * @param key a packed key, see {@link LongCharInfoMap#key}
+     * @param info a char info
+     */
+    public void put(long key, CharInfo info) {
+        CharInfoCache cache = stripe(key);
+        synchronized (cache) {
+            cache.put(key, info);
+        }
+    }
+
+    /**
+     * Remove a char info.
+     * @param key a packed key, see {@link LongCharInfoMap#key}
+     * @return the char info removed, or null
+     */
+    public CharInfo remove(long key) {
+        CharInfoCache cache = stripe(key);
+        synchronized (cache) {
+            return cache.remove(key);
+        }
+    }
+
+    /**
+     * Remove all char infos.
+     */
+    public void clear() {
+        for (CharInfoCache cache : stripes)
+            synchronized (cache) {
+                cache.clear();
+            }
+    }
+
+    /**
+     * Get record chars count.
+     * @return count of the chars
+     */
+    public int getRecordChars() {
+        int chars = 0;
+        for (CharInfoCache cache : stripes)
+            synchronized (cache) {
+                chars += cache.getRecordChars();
+            }
+        return chars;
+    }
+
+    /**
+     * Get statistics summed over all stripes.
+     * @return a snapshot of the statistics
+     */
+    public CacheStats getStats() {
+        long hits = 0, misses = 0, evictions = 0, evictedBytes = 0, usedBytes = 0, maxBytes = 0;
+        int entries = 0;
+        for (CharInfoCache cache : stripes) {
+            CacheStats stats;
+            synchronized (cache) {
+                stats = cache.getBudget().getStats();
+            }
+            hits += stats.hits();
+            misses += stats.misses();
+            evictions += stats.evictions();
+            evictedBytes += stats.evictedBytes();
+            entries += stats.entries();
+            usedBytes += stats.usedBytes();
+            maxBytes += stats.maxBytes();
+        }
+        return new CacheStats(hits, misses, evictions, evictedBytes, entries, usedBytes, maxBytes);
+    }
+}
@@ -0,0 +1,237 @@
+package io.github.mmc1234.jfreetype.easyfont;
+
+import io.github.mmc1234.jfreetype.core.FTFace;
+import io.github.mmc1234.jfreetype.util.Scope;
+import jdk.incubator.foreign.MemorySegment;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A thread-safe {@link EasyFont}.<br/>
+ * The font holds several faces opened from the same font data. Every call borrows a face for its own use,
+ * so as many threads as faces can load chars at the same time, and all faces share one
+ * {@link ConcurrentCharInfoCache}.
+ */
+public class ConcurrentEasyFont implements AutoCloseable {
+
+    private final Scope scope;
+    private final MemorySegment face;
+    private final BlockingQueue<FaceRenderer> idleRenderers;
+    private final FaceRenderer[] renderers;
+    private final ConcurrentCharInfoCache charInfos;
+    // Index of each config, stored in the keys of the cache in place of load flags like EasyFont does
+    private final ConcurrentMap<RenderConfig, Integer> configIds = new ConcurrentHashMap<>();
+    // Calls hold the read lock while they use a face, close holds the write lock
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private boolean closed;
+
+    /**
+     * Create an instance.
+     * @param spread spread of the library of the faces
+     * @param faces instances of face opened from the same font data
+     * @param scope shared scope of the font, closed with the font
+     * @param charInfos cache of the font
+     */
+    ConcurrentEasyFont(SdfSpread spread, MemorySegment[] faces, Scope scope, ConcurrentCharInfoCache charInfos) {
+        this.scope = scope;
+        this.charInfos = charInfos;
+        face = faces[0];
+        configIds.put(RenderConfig.DEFAULT, 0);
+        renderers = new FaceRenderer[faces.length];
+        idleRenderers = new ArrayBlockingQueue<>(faces.length);
+        for (int i = 0; i < faces.length; i++) {
+            renderers[i] = new FaceRenderer(spread, faces[i], scope, 32);
+            idleRenderers.add(renderers[i]);
+        }
+    }
+
+    private <T> T withRenderer(Function<FaceRenderer, T> action) {
+        closeLock.readLock().lock();
+        try {
+            if (closed)
+                throw new IllegalStateException("Font is closed");
+            FaceRenderer renderer;
+            try {
+                renderer = idleRenderers.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a face", e);
+            }
+            try {
+                return action.apply(renderer);
+            } finally {
+                idleRenderers.add(renderer);
+            }
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    private int getConfigId(RenderConfig config) {
+        Integer id = configIds.get(config);
+        if (id != null)
+            return id;
+        // Ids are added under the lock so that no two configs get the same one
+        synchronized (configIds) {
+            id = configIds.get(config);
+            if (id == null) {
+                if (configIds.size() == 1 << LongCharInfoMap.LOAD_FLAGS_BITS)
+                    throw new IllegalStateException("Too many render configs");
+                id = configIds.size();
+                configIds.put(config, id);
+            }
+            return id;
+        }
+    }
+
+    /**
+     * Get count of the faces, which is the maximum count of threads loading chars at the same time.
+     * @return count of the faces
+     */
+    public int getFaceCount() {
+        return renderers.length;
+    }
+
+    /**
+     * Get ascender of the font
+     * @return the ascender
+     */
+    public short getAscender() {
+        return FTFace.ASCENDER.get(face);
+    }
+
+    /**
+     * Get descender of the font.
+     * @return the descender
+     */
+    public short getDescender() {
+        return FTFace.DESCENDER.get(face);
+    }
+
+    /**
+     * Get index of the char.
+     * @param codepoint a char
+     * @return index of the char
+     */
+    public int getCharIndex(int codepoint) {
+        return withRenderer(renderer -> renderer.getCharIndex(codepoint));
+    }
+
+    /**
+     * Get information of a codepoint.
+     * @param codepoint a char
+     * @param size pixel size of the char
+     * @return information of the char
+     */
+    public CharInfo getCharInfo(int codepoint, int size) {
+        return getCharInfo(codepoint, size, RenderConfig.DEFAULT);
+    }
+
+    /**
+     * Get information of a codepoint loaded with a config.
+     * @param codepoint a char
+     * @param size pixel size of the char
+     * @param config how to load the char
+     * @return information of the char
+     */
+    public CharInfo getCharInfo(int codepoint, int size, RenderConfig config) {
+        long key = LongCharInfoMap.key(codepoint, size, getConfigId(config));
+        CharInfo saved = charInfos.get(key);
+        if (saved != null)
+            return saved;
+        return load(key, codepoint, size, config, false);
+    }
+
+    /**
+     * Get information of a codepoint and render it.
+     * @param codepoint a char
+     * @param size pixel size of the char
+     * @return information of the char
+     */
+    public CharInfo getCharInfoAndRender(int codepoint, int size) {
+        return getCharInfoAndRender(codepoint, size, RenderConfig.DEFAULT);
+    }
+
+    /**
+     * Get information of a codepoint and render it with a config.
+     * @param codepoint a char
+     * @param size pixel size of the char
+     * @param config how to load and render the char
+     * @return information of the char
+     */
+    public CharInfo getCharInfoAndRender(int codepoint, int size, RenderConfig config) {
+        long key = LongCharInfoMap.key(codepoint, size, getConfigId(config));
+        CharInfo saved = charInfos.get(key);
+        if (saved != null && saved.isRendered())
+            return saved;
+        return load(key, codepoint, size, config, true);
+    }
+
+    private CharInfo load(long key, int codepoint, int size, RenderConfig config, boolean render) {
+        // Cached while holding the face, so that close never leaves chars behind
+        return withRenderer(renderer -> {
+            renderer.setSize(size);
+            CharInfo info = renderer.load(codepoint, config, render);
+            charInfos.put(key, info);
+            return info;
+        });
+    }
+
+    /**
+     * Get information of chars in the string.
+     * @param str string to get information
+     * @param size pixel size of the chars
+     * @param render whether to render the chars
+     * @return stream of the information
+     */
+    public Stream<CharInfo> getCharInfoStream(String str, int size, boolean render) {
+        return str.codePoints().mapToObj(render ?
+                codepoint -> getCharInfoAndRender(codepoint, size) : codepoint -> getCharInfo(codepoint, size));
+    }
+
+    /**
+     * Get a bitmap of a char.
+     * @param codepoint char to get the bitmap
+     * @param size pixel size of the char
+     * @return bitmap of the char
+     */
+    public BufferedImage getCharBitmap(int codepoint, int size) {
+        return EasyFont.charInfoToBitmap(getCharInfoAndRender(codepoint, size));
+    }
+
+    /**
+     * Get char information cache.
+     * @return cache of the chars
+     */
+    public ConcurrentCharInfoCache getCharInfos() {
+        return charInfos;
+    }
+
+    /**
+     * Close the font. Waits until the calls using a face have returned, later calls throw
+     * {@link IllegalStateException}. Like other faces, it should be closed in the thread owning the library.
+     */
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            if (closed)
+                return;
+            closed = true;
+            charInfos.clear();
+            for (FaceRenderer renderer : renderers)
+                renderer.done();
+            scope.close();
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+    }
+}
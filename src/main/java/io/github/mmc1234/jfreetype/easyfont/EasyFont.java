@@ -1,23 +1,33 @@
 package io.github.mmc1234.jfreetype.easyfont;
 
 import io.github.mmc1234.jfreetype.core.FTFace;
-import io.github.mmc1234.jfreetype.core.FTGlyphSlot;
 import io.github.mmc1234.jfreetype.core.FTRenderMode;
-import io.github.mmc1234.jfreetype.glyph.FTBitmapGlyph;
-import io.github.mmc1234.jfreetype.image.FTBBox;
-import io.github.mmc1234.jfreetype.image.FTBitmap;
-import io.github.mmc1234.jfreetype.image.FTPixelMode;
+import io.github.mmc1234.jfreetype.image.OutlineDecomposer;
+import io.github.mmc1234.jfreetype.image.PathConsumer;
 import io.github.mmc1234.jfreetype.util.Scope;
 import jdk.incubator.foreign.*;
 
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
 import java.awt.image.BufferedImage;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
-import static io.github.mmc1234.jfreetype.core.FTErrors.*;
 import static io.github.mmc1234.jfreetype.core.FreeTypeFace.*;
-import static io.github.mmc1234.jfreetype.core.FreeTypeGlyph.*;
-import static io.github.mmc1234.jfreetype.glyph.FTGlyphBBoxMode.*;
-import static io.github.mmc1234.jfreetype.util.VarUtils.*;
 
 /**
  * A quicker way to use FreeType.
@@ -25,21 +35,48 @@ import static io.github.mmc1234.jfreetype.util.VarUtils.*;
 public class EasyFont implements AutoCloseable {
 
     private final MemorySegment face;
-    private final Scope scope;
-    private final CharInfoMap charInfos;
+    private final FaceRenderer renderer;
+    private final CharInfoCache charInfos;
+    private final FaceSource source;
+    // Chars rendered by preload, merged into the cache by the thread using the font
+    private final Queue<CharInfo> preloaded = new ConcurrentLinkedQueue<>();
+    private final Supplier<FontIdentity> identitySupplier;
+    private FontIdentity identity;
+    private GlyphCacheFile cacheFile;
+    // Index of the config of the font to index in the cache file, and the other way round
+    private int[] toFileConfig = new int[0];
+    private int[] fromFileConfig = new int[0];
+    // Configs used by the font, the index of a config is stored in the keys of the cache instead of load flags
+    private final List<RenderConfig> configs = new ArrayList<>();
+    private final Map<RenderConfig, Integer> configIds = new HashMap<>();
+    private RenderConfig lastConfig = RenderConfig.DEFAULT;
+    private int lastConfigId;
+    // Unhinted advances can be read from the metrics tables without loading glyphs
+    private final int advanceFlags = FT_LOAD_NO_BITMAP | FT_LOAD_NO_HINTING;
     private int size = 32;
+    // Signed distance fields are rendered once at this size and scaled to every other
+    private int sdfSize = 64;
+    // Outlines in font units by glyph index in the high half of the key and load flags in the low half
+    private final LongObjectMap<Path2D.Float> paths = new LongObjectMap<>();
 
     /**
      * Create an instance.
+     * @param spread spread of the library of the face
      * @param face instance of face
      * @param scope scope of font
+     * @param budget budget of the char info cache
+     * @param source source opening clones of the face
+     * @param identitySupplier supplier computing identity of the font
      */
-    EasyFont(MemorySegment face, Scope scope) {
+    EasyFont(SdfSpread spread, MemorySegment face, Scope scope, CacheBudget budget, FaceSource source,
+             Supplier<FontIdentity> identitySupplier) {
         this.face = face;
-        this.scope = scope;
-        charInfos = new CharInfoMap();
-        checkCode(FTSetPixelSizes(face.address(), 0, size));
-        FTSetTransform(face.address(), MemoryAddress.NULL, MemoryAddress.NULL);
+        this.source = source;
+        this.identitySupplier = identitySupplier;
+        renderer = new FaceRenderer(spread, face, scope, size);
+        charInfos = new CharInfoCache(budget);
+        configIds.put(RenderConfig.DEFAULT, 0);
+        configs.add(RenderConfig.DEFAULT);
     }
 
     /**
@@ -47,19 +84,10 @@ public class EasyFont implements AutoCloseable {
      * @param size size to set the font
      */
     public void setSize(int size) {
-        checkCode(FTSetPixelSizes(face.address(), 0, size));
+        renderer.setSize(size);
         this.size = size;
     }
 
-    private MemorySegment loadChar(int index) {
-        checkCode(FTLoadGlyph(face.address(), index, FT_LOAD_NO_BITMAP | FT_LOAD_FORCE_AUTOHINT));
-        FTFace.GLYPH.get(face);
-        MemorySegment slot = scope.getSegment(FTFace.GLYPH.handle(), face, FTGlyphSlot.STRUCT_LAYOUT);
-        MemorySegment ptrGlyph = scope.newAddress();
-        checkCode(FTGetGlyph(slot.address(), ptrGlyph));
-        return ptrGlyph;
-    }
-
     /**
      * Get ascender of the font
      * @return the ascender
@@ -82,7 +110,7 @@ public class EasyFont implements AutoCloseable {
      * @return index of the char
      */
     public int getCharIndex(int codepoint) {
-        return FTGetCharIndex(face.address(), codepoint);
+        return renderer.getCharIndex(codepoint);
     }
 
     /**
@@ -91,24 +119,28 @@ public class EasyFont implements AutoCloseable {
      * @return information of the char
      */
     public CharInfo getCharInfo(int codepoint) {
-        CharInfo saved = charInfos.getCharInfo(codepoint, size);
+        return getCharInfo(codepoint, RenderConfig.DEFAULT);
+    }
+
+    /**
+     * Get information of a codepoint loaded with a config.
+     * @param codepoint a char
+     * @param config how to load the char
+     * @return information of the char
+     */
+    public CharInfo getCharInfo(int codepoint, RenderConfig config) {
+        if (!preloaded.isEmpty())
+            mergePreloaded();
+        int configId = getConfigId(config);
+        long key = LongCharInfoMap.key(codepoint, size, configId);
+        CharInfo saved = charInfos.get(key);
         if (saved != null)
             return saved;
 
-        int charIndex = getCharIndex(codepoint);
-        MemorySegment ptrGlyph = loadChar(charIndex);
-
-        MemorySegment bbox = scope.newSegment(FTBBox.STRUCT_LAYOUT);
-        FTGlyphGetCBox(starAddress(ptrGlyph), FT_GLYPH_BBOX_TRUNCATE.value(), bbox);
-        long minX = FTBBox.X_MIN.get(bbox);
-        long minY = FTBBox.Y_MIN.get(bbox);
-        long maxX = FTBBox.X_MAX.get(bbox);
-        long maxY = FTBBox.Y_MAX.get(bbox);
-        int width = Math.toIntExact(maxX - minX);
-        int height = Math.toIntExact(maxY - minY);
-
-        CharInfo info = new CharInfo(codepoint, charIndex, size, width, height, minX, minY, maxX, maxY, null);
-        charInfos.putCharInfo(info);
+        CharInfo info = findInCacheFile(codepoint, size, configId);
+        if (info == null)
+            info = renderer.load(codepoint, config, false);
+        charInfos.put(key, info);
         return info;
     }
 
@@ -118,47 +150,208 @@ public class EasyFont implements AutoCloseable {
      * @return information of the char
      */
     public CharInfo getCharInfoAndRender(int codepoint) {
-        CharInfo saved = charInfos.getCharInfo(codepoint, size);
-        if (saved != null && saved.bitmap() != null)
+        return getCharInfoAndRender(codepoint, RenderConfig.DEFAULT);
+    }
+
+    /**
+     * Get information of a codepoint and render it with a config.
+     * @param codepoint a char
+     * @param config how to load and render the char
+     * @return information of the char
+     */
+    public CharInfo getCharInfoAndRender(int codepoint, RenderConfig config) {
+        return getRendered(codepoint, config, size);
+    }
+
+    /**
+     * Get the signed distance field of a codepoint, rendered with {@link RenderConfig#SDF}.
+     * @param codepoint a char
+     * @return information of the char at the SDF size
+     * @see #getSdfCharInfo(int, RenderConfig)
+     */
+    public CharInfo getSdfCharInfo(int codepoint) {
+        return getSdfCharInfo(codepoint, RenderConfig.SDF);
+    }
+
+    /**
+     * Get the signed distance field of a codepoint. The field is rendered once at the SDF size of the font whatever
+     * the current size is, and cached for every size: to draw the char at a size, scale the bitmap, the box, the
+     * advance and the spread by {@code size / info.size()}. A value of 128 is on the outline, 0 and 255 are at
+     * the spread of the config outside and inside.
+     * @param codepoint a char
+     * @param config how to load and render the char, the render mode must be {@code FT_RENDER_MODE_SDF}
+     * @return information of the char at the SDF size
+     */
+    public CharInfo getSdfCharInfo(int codepoint, RenderConfig config) {
+        if (!config.isSdf())
+            throw new IllegalArgumentException("Not an SDF config: " + config.renderMode());
+        return getRendered(codepoint, config, sdfSize);
+    }
+
+    private CharInfo getRendered(int codepoint, RenderConfig config, int size) {
+        if (!preloaded.isEmpty())
+            mergePreloaded();
+        int configId = getConfigId(config);
+        long key = LongCharInfoMap.key(codepoint, size, configId);
+        CharInfo saved = charInfos.get(key);
+        if (saved != null && saved.isRendered())
             return saved;
 
-        int charIndex = getCharIndex(codepoint);
-        MemorySegment ptrGlyph = loadChar(charIndex);
-
-        MemorySegment slot = scope.getSegment(FTFace.GLYPH.handle(), face, FTGlyphSlot.STRUCT_LAYOUT);
-        checkCode(FTRenderGlyph(slot.address(), FTRenderMode.FT_RENDER_MODE_NORMAL));
-        checkCode(FTGlyphToBitmap(ptrGlyph, FTRenderMode.FT_RENDER_MODE_NORMAL, MemoryAddress.NULL, true));
-
-        MemorySegment bbox = scope.newSegment(FTBBox.STRUCT_LAYOUT);
-        FTGlyphGetCBox(starAddress(ptrGlyph), FT_GLYPH_BBOX_TRUNCATE.value(), bbox);
-        long minX = FTBBox.X_MIN.get(bbox);
-        long minY = FTBBox.Y_MIN.get(bbox);
-        long maxX = FTBBox.X_MAX.get(bbox);
-        long maxY = FTBBox.Y_MAX.get(bbox);
-        int width = Math.toIntExact(maxX - minX);
-        int height = Math.toIntExact(maxY - minY);
-
-        MemorySegment bitmap = scope.getSegment(FTBitmapGlyph.BITMAP.handle(),
-                star(ptrGlyph, FTBitmapGlyph.STRUCT_LAYOUT), FTBitmap.STRUCT_LAYOUT);
-        if(FTBitmap.PIXEL_MODE.get(bitmap) != FTPixelMode.FT_PIXEL_MODE_GRAY.value())
-            throw new RuntimeException("Invalid pixel mode");
-
-        MemoryAddress buffer = FTBitmap.BUFFER.get(bitmap);
-        int pitch = FTBitmap.PITCH.get(bitmap);
-
-        byte[][] luminanceArray = new byte[height][width];
-        for (int i = 0; i < height; i++)
-            for (int j = 0; j < width; j++) {
-                byte gray = buffer.get(ValueLayout.JAVA_BYTE, ((long) i * pitch) + j);
-                luminanceArray[i][j] = gray;
+        CharInfo info = findInCacheFile(codepoint, size, configId);
+        if (info == null) {
+            if (size == this.size) {
+                info = renderer.load(codepoint, config, true);
+            } else {
+                renderer.setSize(size);
+                try {
+                    info = renderer.load(codepoint, config, true);
+                } finally {
+                    renderer.setSize(this.size);
+                }
             }
-
-        CharInfo info = new CharInfo(codepoint, charIndex, size,
-                width, height, minX, minY, maxX, maxY, luminanceArray);
-        charInfos.putCharInfo(info);
+        }
+        charInfos.put(key, info);
         return info;
     }
 
+    /**
+     * Send the outline of a codepoint at the current size to a consumer, e.g. for a vector renderer.
+     * @param codepoint a char
+     * @param decomposer decomposer of the library, see {@link EasyFontLibrary#getOutlineDecomposer()}
+     * @param consumer consumer of the outline, in 26.6 pixel format with y upwards
+     * @return advance of the char in 26.6 pixel format
+     */
+    public long decompose(int codepoint, OutlineDecomposer decomposer, PathConsumer consumer) {
+        return decompose(codepoint, RenderConfig.DEFAULT, decomposer, consumer);
+    }
+
+    /**
+     * Send the outline of a codepoint loaded with a config to a consumer.
+     * @param codepoint a char
+     * @param config how to load the char, bitmaps are never loaded
+     * @param decomposer decomposer of the library, see {@link EasyFontLibrary#getOutlineDecomposer()}
+     * @param consumer consumer of the outline, in 26.6 pixel format with y upwards
+     * @return advance of the char in 26.6 pixel format
+     */
+    public long decompose(int codepoint, RenderConfig config, OutlineDecomposer decomposer, PathConsumer consumer) {
+        return renderer.decompose(codepoint, config, decomposer, consumer);
+    }
+
+    /**
+     * Get the outline of a codepoint in font units with y upwards.
+     * @param codepoint a char
+     * @param decomposer decomposer of the library, see {@link EasyFontLibrary#getOutlineDecomposer()}
+     * @return a new path
+     */
+    public Path2D.Float getGlyphPath(int codepoint, OutlineDecomposer decomposer) {
+        return new Path2D.Float(getCachedPath(getCharIndex(codepoint), 0, decomposer));
+    }
+
+    /**
+     * Get the outline of a codepoint scaled to a size, in pixels with y downwards and the origin on the baseline,
+     * as {@link java.awt.Graphics2D} expects. The outline is unhinted, so sizes need not be integers.
+     * @param codepoint a char
+     * @param size size in pixels
+     * @param decomposer decomposer of the library, see {@link EasyFontLibrary#getOutlineDecomposer()}
+     * @return a new path
+     */
+    public Path2D.Float getGlyphPath(int codepoint, float size, OutlineDecomposer decomposer) {
+        int unitsPerEm = Short.toUnsignedInt(FTFace.UNITS_PER_EM.get(face));
+        if (unitsPerEm == 0)
+            throw new UnsupportedOperationException("Font is not scalable");
+        float scale = size / unitsPerEm;
+        return getGlyphPath(codepoint, 0, new AffineTransform(scale, 0, 0, -scale, 0, 0), decomposer);
+    }
+
+    /**
+     * Get the outline of a codepoint in font units transformed by a matrix.<br/>
+     * The outline is loaded once for each glyph and load flags, later calls only transform the cached outline.
+     * @param codepoint a char
+     * @param loadFlags load flags, {@code FT_LOAD_NO_SCALE} is always added
+     * @param transform transform from font units with y upwards
+     * @param decomposer decomposer of the library, see {@link EasyFontLibrary#getOutlineDecomposer()}
+     * @return a new path
+     */
+    public Path2D.Float getGlyphPath(int codepoint, int loadFlags, AffineTransform transform,
+                                     OutlineDecomposer decomposer) {
+        return new Path2D.Float(getCachedPath(getCharIndex(codepoint), loadFlags, decomposer), transform);
+    }
+
+    /**
+     * Get count of the outlines in the cache.
+     * @return count of the outlines
+     */
+    public int getCachedPathCount() {
+        return paths.size();
+    }
+
+    /**
+     * Discard the cached outlines.
+     */
+    public void clearCachedPaths() {
+        paths.clear();
+    }
+
+    private Path2D.Float getCachedPath(int glyphIndex, int loadFlags, OutlineDecomposer decomposer) {
+        long key = (long) glyphIndex << 32 | (loadFlags & 0xFFFFFFFFL);
+        Path2D.Float path = paths.get(key);
+        if (path == null) {
+            path = renderer.loadPath(glyphIndex, loadFlags, decomposer);
+            paths.put(key, path);
+        }
+        return path;
+    }
+
+    /**
+     * Set the size signed distance fields are rendered at. Larger sizes keep sharper corners when scaled up.
+     * @param sdfSize size in pixels
+     */
+    public void setSdfSize(int sdfSize) {
+        if (sdfSize <= 0)
+            throw new IllegalArgumentException("Invalid SDF size: " + sdfSize);
+        this.sdfSize = sdfSize;
+    }
+
+    /**
+     * Get the size signed distance fields are rendered at.
+     * @return size in pixels
+     */
+    public int getSdfSize() {
+        return sdfSize;
+    }
+
+    private int getConfigId(RenderConfig config) {
+        // Most calls use the same config as the last one
+        if (config == lastConfig)
+            return lastConfigId;
+        Integer id = configIds.get(config);
+        if (id == null) {
+            if (configs.size() == 1 << LongCharInfoMap.LOAD_FLAGS_BITS)
+                throw new IllegalStateException("Too many render configs");
+            id = configs.size();
+            configs.add(config);
+            configIds.put(config, id);
+        }
+        lastConfig = config;
+        lastConfigId = id;
+        return id;
+    }
+
+    private CharInfo findInCacheFile(int codepoint, int size, int configId) {
+        if (cacheFile == null || configId >= toFileConfig.length || toFileConfig[configId] < 0)
+            return null;
+        return cacheFile.get(LongCharInfoMap.key(codepoint, size, toFileConfig[configId]));
+    }
+
+    /**
+     * Get the configs the font has been asked for, in the order of first use.
+     * {@link RenderConfig#DEFAULT} is always the first.
+     * @return configs of the font
+     */
+    public List<RenderConfig> getRenderConfigs() {
+        return List.copyOf(configs);
+    }
+
     /**
      * Get information of chars in the string.
      * @param str string to get information
@@ -168,6 +361,242 @@ public class EasyFont implements AutoCloseable {
         return str.codePoints().mapToObj(render ? this::getCharInfoAndRender : this::getCharInfo);
     }
 
+    /**
+     * Get information of chars in the string loaded with a config.
+     * @param str string to get information
+     * @param config how to load and render the chars
+     * @param render whether to render the chars
+     * @return stream of the information
+     */
+    public Stream<CharInfo> getCharInfoStream(String str, RenderConfig config, boolean render) {
+        return str.codePoints().mapToObj(render ?
+                codepoint -> getCharInfoAndRender(codepoint, config) : codepoint -> getCharInfo(codepoint, config));
+    }
+
+    /**
+     * Get metrics of chars in the text.
+     * @param text text to measure
+     * @return metrics of the chars
+     */
+    public TextMetrics measure(CharSequence text) {
+        int length = text.length();
+        int[] codepoints = new int[Character.codePointCount(text, 0, length)];
+        for (int i = 0, j = 0; i < length; j++) {
+            int codepoint = Character.codePointAt(text, i);
+            codepoints[j] = codepoint;
+            i += Character.charCount(codepoint);
+        }
+        return measure(codepoints);
+    }
+
+    /**
+     * Get metrics of the chars. Each distinct char is looked up only once.
+     * @param codepoints chars to measure
+     * @return metrics of the chars
+     */
+    public TextMetrics measure(int[] codepoints) {
+        int length = codepoints.length;
+        int[] glyphIndices = new int[length];
+        long[] advances = new long[length];
+        long[] minX = new long[length];
+        long[] minY = new long[length];
+        long[] maxX = new long[length];
+        long[] maxY = new long[length];
+        LongObjectMap<CharInfo> distinct = new LongObjectMap<>(Math.min(length, 256));
+        for (int i = 0; i < length; i++) {
+            int codepoint = codepoints[i];
+            CharInfo info = distinct.get(codepoint);
+            if (info == null) {
+                info = getCharInfo(codepoint);
+                distinct.put(codepoint, info);
+            }
+            glyphIndices[i] = info.charIndex();
+            advances[i] = info.advance();
+            minX[i] = info.minX();
+            minY[i] = info.minY();
+            maxX[i] = info.maxX();
+            maxY[i] = info.maxY();
+        }
+        return new TextMetrics(glyphIndices, advances, minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Get unhinted advances of the glyphs from start to start + count - 1 in one native call.
+     * Only the metrics tables of the face are read if possible, no glyph is loaded.
+     * @param start first glyph index
+     * @param count count of the glyphs
+     * @return horizontal advances in 16.16 pixel format
+     */
+    public long[] measureAdvances(int start, int count) {
+        long[] advances = new long[count];
+        renderer.getAdvances(start, count, advanceFlags, advances, 0);
+        return advances;
+    }
+
+    /**
+     * Get advances of the glyphs from start to start + count - 1 as they are loaded with a config, e.g. hinted
+     * advances matching {@link #getCharInfo(int, RenderConfig)}. The metrics tables are read if the load flags
+     * allow it, otherwise FreeType loads every glyph. The transform of the config is ignored.
+     * @param start first glyph index
+     * @param count count of the glyphs
+     * @param config config whose load flags are used
+     * @return horizontal advances in 16.16 pixel format
+     */
+    public long[] measureAdvances(int start, int count, RenderConfig config) {
+        long[] advances = new long[count];
+        renderer.getAdvances(start, count, config.loadFlags(), advances, 0);
+        return advances;
+    }
+
+    /**
+     * Get unhinted advances of the glyphs. When the indices are close to each other, as in most runs of text,
+     * the advances of the whole range are read in one native call.
+     * @param glyphIndices indices of the glyphs in the face
+     * @return horizontal advances in 16.16 pixel format
+     */
+    public long[] measureAdvances(int[] glyphIndices) {
+        int length = glyphIndices.length;
+        long[] advances = new long[length];
+        if (length == 0)
+            return advances;
+        int min = Integer.MAX_VALUE, max = 0;
+        for (int glyphIndex : glyphIndices) {
+            min = Math.min(min, glyphIndex);
+            max = Math.max(max, glyphIndex);
+        }
+        long span = (long) max - min + 1;
+        if (span <= 2L * length + 64) {
+            long[] range = new long[(int) span];
+            renderer.getAdvances(min, (int) span, advanceFlags, range, 0);
+            for (int i = 0; i < length; i++)
+                advances[i] = range[glyphIndices[i] - min];
+        } else {
+            for (int i = 0; i < length; i++)
+                renderer.getAdvances(glyphIndices[i], 1, advanceFlags, advances, i);
+        }
+        return advances;
+    }
+
+    /**
+     * Get unhinted advances of chars in the text, without loading the glyphs if possible.
+     * @param text text to measure
+     * @return horizontal advances in 16.16 pixel format, one for each char
+     */
+    public long[] measureAdvances(CharSequence text) {
+        return measureAdvances(text.codePoints().map(this::getCharIndex).toArray());
+    }
+
+    /**
+     * Render chars at the sizes on all cores, so that later calls find them in the cache.<br/>
+     * Every thread renders with its own library and clone of the face, and the font can be used
+     * while the chars are rendered. Rendered chars are merged into the cache by the next call of the font
+     * in the thread using it. Chars the face has no glyph for are skipped.
+     * @param codepoints chars to render
+     * @param sizes pixel sizes to render the chars at
+     * @return future completed with the statistics when all chars are rendered
+     */
+    public CompletableFuture<PreloadStats> preload(IntStream codepoints, int... sizes) {
+        return preload(ForkJoinPool.commonPool(), Runtime.getRuntime().availableProcessors(), codepoints, sizes);
+    }
+
+    /**
+     * Render all chars of a charset in the Basic Multilingual Plane, e.g. GB2312 or ISO-8859-1.
+     * See {@link #preload(IntStream, int...)}.
+     * @param charset charset of the chars
+     * @param sizes pixel sizes to render the chars at
+     * @return future completed with the statistics when all chars are rendered
+     */
+    public CompletableFuture<PreloadStats> preload(Charset charset, int... sizes) {
+        CharsetEncoder encoder = charset.newEncoder();
+        return preload(IntStream.rangeClosed(0, Character.MAX_VALUE)
+                .filter(c -> !Character.isSurrogate((char) c) && encoder.canEncode((char) c)), sizes);
+    }
+
+    /**
+     * Render all chars of a Unicode block. See {@link #preload(IntStream, int...)}.
+     * @param block block of the chars
+     * @param sizes pixel sizes to render the chars at
+     * @return future completed with the statistics when all chars are rendered
+     */
+    public CompletableFuture<PreloadStats> preload(Character.UnicodeBlock block, int... sizes) {
+        // Blocks are ranges starting at a multiple of 16 and ending before one, so every 16th codepoint is enough
+        int start = 0;
+        while (start <= Character.MAX_CODE_POINT && Character.UnicodeBlock.of(start) != block)
+            start += 16;
+        int end = start;
+        while (end <= Character.MAX_CODE_POINT && Character.UnicodeBlock.of(end) == block)
+            end += 16;
+        return preload(IntStream.range(start, end), sizes);
+    }
+
+    /**
+     * Render chars at the sizes. See {@link #preload(IntStream, int...)}.
+     * @param executor executor running the rendering threads
+     * @param threads count of the rendering threads
+     * @param codepoints chars to render
+     * @param sizes pixel sizes to render the chars at
+     * @return future completed with the statistics when all chars are rendered
+     */
+    public CompletableFuture<PreloadStats> preload(Executor executor, int threads, IntStream codepoints, int... sizes) {
+        if (threads <= 0)
+            throw new IllegalArgumentException("Invalid threads: " + threads);
+        if (sizes.length == 0)
+            throw new IllegalArgumentException("No size to preload");
+        for (int size : sizes)
+            LongCharInfoMap.key(0, size, 0);
+        int[] chars = codepoints.distinct().toArray();
+        return new FontPreloader(source, chars, sizes.clone(), RenderConfig.DEFAULT)
+                .start(Math.max(1, Math.min(threads, chars.length)), executor, preloaded::addAll);
+    }
+
+    private void mergePreloaded() {
+        CharInfo info;
+        while ((info = preloaded.poll()) != null)
+            charInfos.put(LongCharInfoMap.key(info.codepoint(), info.size(), 0), info);
+    }
+
+    /**
+     * Draw the text into a canvas, no image is created for the chars.
+     * See {@link #renderString(CharSequence, RenderConfig, Canvas, int, int, int)}.
+     * @param text text to draw
+     * @param canvas pixels to draw into
+     * @param x x of the origin of the first char
+     * @param baseline y of the baseline
+     * @param argb color of the text
+     * @return advance of the text in 26.6 pixel format
+     */
+    public long renderString(CharSequence text, Canvas canvas, int x, int baseline, int argb) {
+        return renderString(text, RenderConfig.DEFAULT, canvas, x, baseline, argb);
+    }
+
+    /**
+     * Draw the text into a canvas with a config. Chars are rendered through the cache and composited over
+     * the canvas at their advances, parts out of the canvas are clipped.
+     * @param text text to draw
+     * @param config how to load and render the chars, the SDF render mode is not supported
+     * @param canvas pixels to draw into
+     * @param x x of the origin of the first char
+     * @param baseline y of the baseline
+     * @param argb color of the text
+     * @return advance of the text in 26.6 pixel format
+     */
+    public long renderString(CharSequence text, RenderConfig config, Canvas canvas, int x, int baseline, int argb) {
+        FTRenderMode renderMode = config.renderMode();
+        if (renderMode != FTRenderMode.FT_RENDER_MODE_NORMAL && renderMode != FTRenderMode.FT_RENDER_MODE_LIGHT
+                && renderMode != FTRenderMode.FT_RENDER_MODE_MONO)
+            throw new IllegalArgumentException("Render mode can't be drawn into a canvas: " + renderMode);
+        long pen = (long) x << 6;
+        for (int i = 0, length = text.length(); i < length; ) {
+            int codepoint = Character.codePointAt(text, i);
+            i += Character.charCount(codepoint);
+            CharInfo info = getCharInfoAndRender(codepoint, config);
+            int origin = (int) ((pen + 32) >> 6);
+            canvas.draw(info, origin + (int) info.minX(), baseline - (int) info.maxY(), argb);
+            pen += info.advance();
+        }
+        return pen - ((long) x << 6);
+    }
+
     /**
      * Get a bitmap of a char.
      * @param codepoint char to get the bitmap
@@ -187,28 +616,109 @@ public class EasyFont implements AutoCloseable {
     }
 
     /**
-     * Parse a CharInfo into a bitmap.
+     * Parse a CharInfo into a bitmap. See {@link CharImages} for other image types.
      * @param info information of the char
      * @return bitmap of the char
      */
     public static BufferedImage charInfoToBitmap(CharInfo info) {
-        BufferedImage image = new BufferedImage(info.width(), info.height(), BufferedImage.TYPE_INT_BGR);
-        for (int i = 0; i < info.height(); i++)
-            for (int j = 0; j < info.width(); j++) {
-                int gray = info.bitmap()[i][j] & 0xFF;
-                image.setRGB(j, i, gray | (gray << 8) | (gray << 16));
-            }
-        return image;
+        return CharImages.toIntBgr(info);
     }
 
     /**
-     * Get char information map.
-     * @return map of the chars
+     * Get char information cache.
+     * @return cache of the chars
      */
-    public CharInfoMap getCharInfos() {
+    public CharInfoCache getCharInfos() {
+        if (!preloaded.isEmpty())
+            mergePreloaded();
         return charInfos;
     }
 
+    /**
+     * Use a cache budget owned by this font instead of the one shared by the library.
+     * All cached char infos will be removed.
+     * @param budget budget of the char info cache
+     */
+    public void setCacheBudget(CacheBudget budget) {
+        charInfos.setBudget(budget);
+    }
+
+    /**
+     * Get identity of the font. The font data is hashed on the first call.
+     * @return identity of the font
+     */
+    public FontIdentity getIdentity() {
+        if (identity == null)
+            identity = identitySupplier.get();
+        return identity;
+    }
+
+    /**
+     * Map a cache file written by {@link #saveCacheFile}. Chars missing in the cache are looked up in the file
+     * before they are loaded by FreeType. A file of another font or FreeType version is ignored.
+     * The file stays mapped until another file is loaded or the font is closed.
+     * @param file the cache file, which may not exist
+     * @return the mapped file
+     */
+    public GlyphCacheFile loadCacheFile(Path file) {
+        if (cacheFile != null)
+            cacheFile.close();
+        cacheFile = GlyphCacheFile.open(file, getIdentity());
+        fromFileConfig = new int[cacheFile.getConfigCount()];
+        for (int i = 0; i < fromFileConfig.length; i++)
+            fromFileConfig[i] = getConfigId(cacheFile.getConfig(i));
+        toFileConfig = new int[configs.size()];
+        Arrays.fill(toFileConfig, -1);
+        for (int i = 0; i < fromFileConfig.length; i++)
+            toFileConfig[fromFileConfig[i]] = i;
+        return cacheFile;
+    }
+
+    /**
+     * Write rendered chars of the cache, and chars of the mapped cache file, to a cache file.
+     * The mapped file is closed before writing, since a mapped file can't be replaced on some systems,
+     * and the written file is mapped in its place.
+     * @param file the cache file
+     */
+    public void saveCacheFile(Path file) {
+        if (!preloaded.isEmpty())
+            mergePreloaded();
+        List<CharInfoCache.Entry> entries = new ArrayList<>();
+        charInfos.forEachEntry(entry -> {
+            if (entry.info.isRendered())
+                entries.add(entry);
+        });
+        int mapped = cacheFile == null ? 0 : cacheFile.size();
+        long[] keys = new long[entries.size() + mapped];
+        CharInfo[] infos = new CharInfo[keys.length];
+        LongObjectMap<CharInfo> cached = new LongObjectMap<>(entries.size());
+        int count = 0;
+        for (CharInfoCache.Entry entry : entries) {
+            cached.put(entry.key, entry.info);
+            keys[count] = entry.key;
+            infos[count++] = entry.info;
+        }
+        for (int i = 0; i < mapped; i++) {
+            long fileKey = cacheFile.keyAt(i);
+            long key = LongCharInfoMap.key(LongCharInfoMap.codepointOf(fileKey), LongCharInfoMap.sizeOf(fileKey),
+                    fromFileConfig[LongCharInfoMap.loadFlagsOf(fileKey)]);
+            if (cached.get(key) == null) {
+                keys[count] = key;
+                infos[count++] = cacheFile.infoAt(i);
+            }
+        }
+        if (cacheFile != null) {
+            cacheFile.close();
+            cacheFile = null;
+        }
+        try {
+            GlyphCacheFile.write(file, getIdentity(), configs.toArray(new RenderConfig[0]),
+                    Arrays.copyOf(keys, count), Arrays.copyOf(infos, count));
+        } finally {
+            loadCacheFile(file);
+        }
+    }
+
     /**
      * Face instance.
      * @return face instance
@@ -219,6 +729,11 @@ public class EasyFont implements AutoCloseable {
 
     @Override
     public void close() {
-        checkCode(FTDoneFace(face.address()));
+        preloaded.clear();
+        charInfos.clear();
+        paths.clear();
+        if (cacheFile != null)
+            cacheFile.close();
+        renderer.done();
     }
 }
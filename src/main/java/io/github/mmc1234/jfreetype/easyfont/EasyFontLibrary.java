@@ -4,10 +4,20 @@ import io.github.mmc1234.jfreetype.core.FTErrors;
 import io.github.mmc1234.jfreetype.core.FTFace;
 import io.github.mmc1234.jfreetype.core.FreeTypeFace;
 import io.github.mmc1234.jfreetype.core.FreeTypeLibrary;
+import io.github.mmc1234.jfreetype.image.OutlineDecomposer;
 import io.github.mmc1234.jfreetype.util.Scope;
 import io.github.mmc1234.jfreetype.util.VarUtils;
 import jdk.incubator.foreign.MemoryAddress;
 import jdk.incubator.foreign.MemorySegment;
+import jdk.incubator.foreign.ResourceScope;
+import jdk.incubator.foreign.ValueLayout;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Supplier;
 
 /**
  * A quicker way to use FreeType.
@@ -16,15 +26,35 @@ public class EasyFontLibrary implements AutoCloseable {
 
     private final Scope resourceScope;
     private final MemoryAddress library;
+    private final SdfSpread spread;
+    private final CacheBudget cacheBudget;
+    private final int freeTypeVersion;
+    private OutlineDecomposer decomposer;
 
     /**
-     * Create a library.
+     * Create a library. Fonts of the library cache chars without limit.
      */
     public EasyFontLibrary() {
-        resourceScope = Scope.newScope();
+        this(CacheBudget.unlimited());
+    }
+
+    /**
+     * Create a library.
+     * @param cacheBudget budget of char info caches shared by fonts of the library
+     */
+    public EasyFontLibrary(CacheBudget cacheBudget) {
+        this.cacheBudget = cacheBudget;
+        resourceScope = Scope.newArena();
         MemorySegment ptrLibrary = resourceScope.newAddress();
         FTErrors.checkCode(FreeTypeLibrary.FTInitFreeType(ptrLibrary));
         library = VarUtils.starAddress(ptrLibrary);
+        spread = new SdfSpread(library);
+        MemorySegment major = resourceScope.newInt();
+        MemorySegment minor = resourceScope.newInt();
+        MemorySegment patch = resourceScope.newInt();
+        FreeTypeLibrary.FTLibraryVersion(library, major, minor, patch);
+        freeTypeVersion = FontIdentity.version(major.get(ValueLayout.JAVA_INT, 0),
+                minor.get(ValueLayout.JAVA_INT, 0), patch.get(ValueLayout.JAVA_INT, 0));
     }
 
     /**
@@ -34,10 +64,14 @@ public class EasyFontLibrary implements AutoCloseable {
      * @return a font instance
      */
     public EasyFont createFont(String file, int faceIndex) {
-        MemorySegment ptrFace = resourceScope.newAddress();
-        MemoryAddress name = resourceScope.newString(file).address();
-        FTErrors.checkCode(FreeTypeFace.FTNewFace(library, name, faceIndex, ptrFace));
-        return new EasyFont(resourceScope.star(ptrFace, FTFace.STRUCT_LAYOUT), resourceScope);
+        FaceSource source = (library, scope) -> {
+            MemorySegment ptrFace = scope.newAddress();
+            MemoryAddress name = scope.newString(file).address();
+            FTErrors.checkCode(FreeTypeFace.FTNewFace(library, name, faceIndex, ptrFace));
+            return scope.star(ptrFace, FTFace.STRUCT_LAYOUT);
+        };
+        return new EasyFont(spread, source.open(library, resourceScope), resourceScope, cacheBudget, source,
+                () -> new FontIdentity(FontIdentity.hash(Path.of(file)), faceIndex, freeTypeVersion));
     }
 
     /**
@@ -48,9 +82,19 @@ public class EasyFontLibrary implements AutoCloseable {
      * @return a font instance
      */
     public EasyFont createFontInMemory(MemoryAddress base, long length, int faceIndex) {
-        MemorySegment ptrFace = resourceScope.newAddress();
-        FTErrors.checkCode(FreeTypeFace.FTNewMemoryFace(library, base, length, faceIndex, ptrFace));
-        return new EasyFont(resourceScope.star(ptrFace, FTFace.STRUCT_LAYOUT), resourceScope);
+        return createFontInMemory(base, length, faceIndex, () -> new FontIdentity(FontIdentity.hash(
+                MemorySegment.ofAddress(base, length, ResourceScope.globalScope()).asByteBuffer()),
+                faceIndex, freeTypeVersion));
+    }
+
+    private EasyFont createFontInMemory(MemoryAddress base, long length, int faceIndex,
+                                        Supplier<FontIdentity> identity) {
+        FaceSource source = (library, scope) -> {
+            MemorySegment ptrFace = scope.newAddress();
+            FTErrors.checkCode(FreeTypeFace.FTNewMemoryFace(library, base, length, faceIndex, ptrFace));
+            return scope.star(ptrFace, FTFace.STRUCT_LAYOUT);
+        };
+        return new EasyFont(spread, source.open(library, resourceScope), resourceScope, cacheBudget, source, identity);
     }
 
     /**
@@ -61,12 +105,83 @@ public class EasyFontLibrary implements AutoCloseable {
      */
     public EasyFont createFontInMemory(byte[] data, int faceIndex) {
         MemorySegment base = MemorySegment.ofArray(data);
-        return createFontInMemory(base.address(), data.length, faceIndex);
+        return createFontInMemory(base.address(), data.length, faceIndex,
+                () -> new FontIdentity(FontIdentity.hash(ByteBuffer.wrap(data)), faceIndex, freeTypeVersion));
+    }
+
+    /**
+     * Create a thread-safe font from a file. The file is read once and shared by all faces of the font.
+     * @param file file name of the font
+     * @param faceIndex index of the face
+     * @param faces count of the faces, which is the maximum count of threads loading chars at the same time
+     * @param cacheBytes maximum bytes cached by the font
+     * @return a font instance
+     */
+    public ConcurrentEasyFont createConcurrentFont(String file, int faceIndex, int faces, long cacheBytes) {
+        try {
+            return createConcurrentFontInMemory(Files.readAllBytes(Path.of(file)), faceIndex, faces, cacheBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Create a thread-safe font from a byte array.
+     * @param data font data
+     * @param faceIndex index of the face
+     * @param faces count of the faces, which is the maximum count of threads loading chars at the same time
+     * @param cacheBytes maximum bytes cached by the font
+     * @return a font instance
+     */
+    public ConcurrentEasyFont createConcurrentFontInMemory(byte[] data, int faceIndex, int faces, long cacheBytes) {
+        if (faces <= 0)
+            throw new IllegalArgumentException("Invalid faces: " + faces);
+        Scope fontScope = Scope.newSharedArena();
+        MemorySegment[] faceSegments = new MemorySegment[faces];
+        try {
+            // Faces read the data until they are discarded, so it lives in the scope of the font
+            MemorySegment base = fontScope.newByteArray(data.length);
+            base.copyFrom(MemorySegment.ofArray(data));
+            for (int i = 0; i < faces; i++) {
+                MemorySegment ptrFace = fontScope.newAddress();
+                FTErrors.checkCode(FreeTypeFace.FTNewMemoryFace(library, base.address(), data.length, faceIndex, ptrFace));
+                faceSegments[i] = fontScope.star(ptrFace, FTFace.STRUCT_LAYOUT);
+            }
+            return new ConcurrentEasyFont(spread, faceSegments, fontScope, new ConcurrentCharInfoCache(cacheBytes));
+        } catch (RuntimeException e) {
+            for (MemorySegment face : faceSegments)
+                if (face != null)
+                    FreeTypeFace.FTDoneFace(face.address());
+            fontScope.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Get the cache budget shared by fonts of the library.
+     * @return the cache budget
+     */
+    public CacheBudget getCacheBudget() {
+        return cacheBudget;
+    }
+
+    /**
+     * Get the outline decomposer of the library, whose upcall stubs are created on the first call
+     * and released with the library.
+     * @return the decomposer
+     */
+    public OutlineDecomposer getOutlineDecomposer() {
+        if (decomposer == null)
+            decomposer = new OutlineDecomposer();
+        return decomposer;
     }
 
     @Override
     public void close() {
+        if (decomposer != null)
+            decomposer.close();
         FTErrors.checkCode(FreeTypeLibrary.FTDoneFreeType(library));
+        spread.close();
         resourceScope.close();
     }
 }
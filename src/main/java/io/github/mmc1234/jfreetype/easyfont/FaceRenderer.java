@@ -0,0 +1,348 @@
+package io.github.mmc1234.jfreetype.easyfont;
+
+import io.github.mmc1234.jfreetype.core.FTFace;
+import io.github.mmc1234.jfreetype.core.FTGlyphSlot;
+import io.github.mmc1234.jfreetype.glyph.FTBitmapGlyph;
+import io.github.mmc1234.jfreetype.image.FTBBox;
+import io.github.mmc1234.jfreetype.image.FTBitmap;
+import io.github.mmc1234.jfreetype.image.FTGlyphFormat;
+import io.github.mmc1234.jfreetype.image.FTOutline;
+import io.github.mmc1234.jfreetype.image.FTPixelMode;
+import io.github.mmc1234.jfreetype.image.FTVector;
+import io.github.mmc1234.jfreetype.image.OutlineDecomposer;
+import io.github.mmc1234.jfreetype.image.PathConsumer;
+import io.github.mmc1234.jfreetype.types.FTMatrix;
+import io.github.mmc1234.jfreetype.util.Scope;
+import jdk.incubator.foreign.*;
+
+import java.awt.geom.Path2D;
+import java.util.Arrays;
+
+import static io.github.mmc1234.jfreetype.core.FTErrors.*;
+import static io.github.mmc1234.jfreetype.core.FreeTypeFace.*;
+import static io.github.mmc1234.jfreetype.core.FreeTypeGlyph.*;
+import static io.github.mmc1234.jfreetype.glyph.FTGlyphBBoxMode.*;
+import static io.github.mmc1234.jfreetype.util.LayoutBuilder.ALIGNED_LONG;
+import static io.github.mmc1234.jfreetype.util.VarUtils.*;
+
+/**
+ * Loads and renders chars of one face. Package-private, not thread-safe.
+ */
+class FaceRenderer {
+
+    // Chars and coverage bytes rendered by one call of the glyph run shim
+    private static final int RUN_LENGTH = 256;
+    private static final int RUN_BUFFER_BYTES = 1 << 18;
+
+    private final SdfSpread spread;
+    private final MemorySegment face;
+    private final Scope scope;
+    private final MemorySegment slot;
+    // Out parameters, allocated once and reused by every load
+    private final MemorySegment ptrGlyph;
+    private final MemorySegment bbox;
+    private final MemorySegment matrix;
+    private final MemorySegment delta;
+    // Glyph index + 1 of each codepoint in pages of 256 codepoints, 0 until the codepoint is looked up
+    private final int[][] charIndices = new int[(Character.MAX_CODE_POINT + 1) >> 8][];
+    // Charmap of the face when the indices were looked up, the indices are dropped when another one is selected
+    private MemoryAddress charmap = MemoryAddress.NULL;
+    // Arguments of the glyph run shim, allocated on the first run
+    private MemorySegment runCodepoints;
+    private MemorySegment runMetrics;
+    private MemorySegment runBuffer;
+    // FT_Fixed array for the advances, grown on demand
+    private MemorySegment advances;
+    private int size;
+    // Config whose transform is set to the face
+    private RenderConfig transform;
+
+    /**
+     * Create a renderer.
+     * @param spread spread of the library of the face
+     * @param face instance of face
+     * @param scope scope of font
+     * @param size initial size of the face
+     */
+    FaceRenderer(SdfSpread spread, MemorySegment face, Scope scope, int size) {
+        this.spread = spread;
+        this.face = face;
+        this.scope = scope;
+        // face->glyph never changes during the lifetime of the face
+        slot = scope.getSegment(FTFace.GLYPH.handle(), face, FTGlyphSlot.STRUCT_LAYOUT);
+        ptrGlyph = scope.newAddress();
+        bbox = scope.newSegment(FTBBox.STRUCT_LAYOUT);
+        matrix = scope.newSegment(FTMatrix.STRUCT_LAYOUT);
+        delta = scope.newSegment(FTVector.STRUCT_LAYOUT);
+        checkCode(FTSetPixelSizes(face.address(), 0, size));
+        FTSetTransform(face.address(), MemoryAddress.NULL, MemoryAddress.NULL);
+        transform = RenderConfig.DEFAULT;
+        this.size = size;
+    }
+
+    void setSize(int size) {
+        if (this.size == size)
+            return;
+        checkCode(FTSetPixelSizes(face.address(), 0, size));
+        this.size = size;
+    }
+
+    /**
+     * Get index of a char. Each codepoint is looked up by FreeType once for each charmap selected in the face.
+     * @param codepoint a char
+     * @return index of the char, 0 if the face has no glyph for it
+     */
+    int getCharIndex(int codepoint) {
+        if (codepoint < 0 || codepoint > Character.MAX_CODE_POINT)
+            return FTGetCharIndex(face.address(), codepoint);
+        // The caller may select another charmap through the face
+        MemoryAddress selected = FTFace.CHARMAP.get(face);
+        if (!selected.equals(charmap)) {
+            Arrays.fill(charIndices, null);
+            charmap = selected;
+        }
+        int[] page = charIndices[codepoint >> 8];
+        if (page == null)
+            page = charIndices[codepoint >> 8] = new int[256];
+        int index = page[codepoint & 0xFF];
+        if (index == 0) {
+            index = FTGetCharIndex(face.address(), codepoint) + 1;
+            page[codepoint & 0xFF] = index;
+        }
+        return index - 1;
+    }
+
+    private void setTransform(RenderConfig config) {
+        if (transform.hasSameTransform(config))
+            return;
+        if (config.isIdentity()) {
+            FTSetTransform(face.address(), MemoryAddress.NULL, MemoryAddress.NULL);
+        } else {
+            set(FTMatrix.XX.handle(), matrix, config.xx());
+            set(FTMatrix.XY.handle(), matrix, config.xy());
+            set(FTMatrix.YX.handle(), matrix, config.yx());
+            set(FTMatrix.YY.handle(), matrix, config.yy());
+            set(FTVector.X.handle(), delta, config.offsetX());
+            set(FTVector.Y.handle(), delta, config.offsetY());
+            FTSetTransform(face.address(), matrix.address(), delta.address());
+        }
+        transform = config;
+    }
+
+    /**
+     * Load a char at the current size. No native memory is allocated apart from the glyph image
+     * FreeType creates, which is released before returning.
+     * @param codepoint a char
+     * @param config how to load and render the char
+     * @param render whether to render the bitmap
+     * @return information of the char
+     */
+    CharInfo load(int codepoint, RenderConfig config, boolean render) {
+        if (!render || !config.isSdf())
+            return loadGlyph(codepoint, config, render);
+        // Other faces of the library must not change the spread until the glyph is rendered
+        synchronized (spread) {
+            spread.set(config.spread());
+            return loadGlyph(codepoint, config, true);
+        }
+    }
+
+    private CharInfo loadGlyph(int codepoint, RenderConfig config, boolean render) {
+        int charIndex = getCharIndex(codepoint);
+        setTransform(config);
+        checkCode(FTLoadGlyph(face.address(), charIndex, config.loadFlags()));
+        long advance = FTVector.X.get(FTGlyphSlot.ADVANCE.get(slot));
+        checkCode(FTGetGlyph(slot.address(), ptrGlyph));
+        try {
+            if (render)
+                checkCode(FTGlyphToBitmap(ptrGlyph, config.renderMode(), MemoryAddress.NULL, true));
+
+            FTGlyphGetCBox(starAddress(ptrGlyph), FT_GLYPH_BBOX_TRUNCATE.value(), bbox);
+            long minX = FTBBox.X_MIN.get(bbox);
+            long minY = FTBBox.Y_MIN.get(bbox);
+            long maxX = FTBBox.X_MAX.get(bbox);
+            long maxY = FTBBox.Y_MAX.get(bbox);
+            int width = Math.toIntExact(maxX - minX);
+            int height = Math.toIntExact(maxY - minY);
+
+            byte[] luminance = render ? copyBitmap(width, height) : null;
+            return new CharInfo(codepoint, charIndex, size,
+                    width, height, minX, minY, maxX, maxY, advance, luminance, width);
+        } finally {
+            // Either the glyph from FTGetGlyph or the bitmap glyph replacing it
+            FTDoneGlyph(starAddress(ptrGlyph));
+        }
+    }
+
+    /**
+     * Render chars at the current size. With the native glyph run shim, up to {@value #RUN_LENGTH} chars
+     * cost one downcall. Chars the shim stops at, and all chars without the shim, are rendered by {@link #load}.
+     * @param codepoints chars
+     * @param from index of the first char
+     * @param count count of the chars
+     * @param config how to load and render the chars
+     * @param dest array receiving the chars at the same indices, null for chars without a glyph
+     */
+    void renderRun(int[] codepoints, int from, int count, RenderConfig config, CharInfo[] dest) {
+        if (!config.isSdf()) {
+            renderGlyphs(codepoints, from, count, config, dest);
+            return;
+        }
+        synchronized (spread) {
+            spread.set(config.spread());
+            renderGlyphs(codepoints, from, count, config, dest);
+        }
+    }
+
+    private void renderGlyphs(int[] codepoints, int from, int count, RenderConfig config, CharInfo[] dest) {
+        if (!GlyphRun.isAvailable()) {
+            for (int i = from; i < from + count; i++)
+                dest[i] = getCharIndex(codepoints[i]) == 0 ? null : load(codepoints[i], config, true);
+            return;
+        }
+        if (runCodepoints == null) {
+            runCodepoints = scope.newIntArray(RUN_LENGTH);
+            runMetrics = scope.newLongArray(RUN_LENGTH * GlyphRun.METRICS);
+            runBuffer = scope.newByteArray(RUN_BUFFER_BYTES);
+        }
+        setTransform(config);
+        int done = 0;
+        while (done < count) {
+            int length = Math.min(count - done, RUN_LENGTH);
+            MemorySegment.copy(codepoints, from + done, runCodepoints, ValueLayout.JAVA_INT, 0, length);
+            int rendered = GlyphRun.render(face.address(), runCodepoints, length, config.loadFlags(),
+                    config.renderMode().value(), runMetrics, runBuffer);
+            for (int i = 0; i < rendered; i++)
+                dest[from + done + i] = toCharInfo(codepoints[from + done + i], i);
+            done += rendered;
+            // The shim stopped at a char failing to render or not fitting into the buffer
+            if (rendered < length) {
+                int codepoint = codepoints[from + done];
+                dest[from + done] = getCharIndex(codepoint) == 0 ? null : load(codepoint, config, true);
+                done++;
+            }
+        }
+    }
+
+    private CharInfo toCharInfo(int codepoint, int index) {
+        long base = (long) index * GlyphRun.METRICS;
+        int charIndex = (int) runMetrics.getAtIndex(ValueLayout.JAVA_LONG, base + GlyphRun.GLYPH_INDEX);
+        if (charIndex == 0)
+            return null;
+        long left = runMetrics.getAtIndex(ValueLayout.JAVA_LONG, base + GlyphRun.LEFT);
+        long top = runMetrics.getAtIndex(ValueLayout.JAVA_LONG, base + GlyphRun.TOP);
+        int width = (int) runMetrics.getAtIndex(ValueLayout.JAVA_LONG, base + GlyphRun.WIDTH);
+        int height = (int) runMetrics.getAtIndex(ValueLayout.JAVA_LONG, base + GlyphRun.ROWS);
+        long advance = runMetrics.getAtIndex(ValueLayout.JAVA_LONG, base + GlyphRun.ADVANCE);
+        long offset = runMetrics.getAtIndex(ValueLayout.JAVA_LONG, base + GlyphRun.OFFSET);
+        byte[] luminance = new byte[width * height];
+        MemorySegment.copy(runBuffer, ValueLayout.JAVA_BYTE, offset, luminance, 0, luminance.length);
+        // The same box as the bitmap glyph of load
+        return new CharInfo(codepoint, charIndex, size, width, height,
+                left, top - height, left + width, top, advance, luminance, width);
+    }
+
+    /**
+     * Load the outline of a char at the current size and send it to a consumer.
+     * @param codepoint a char
+     * @param config how to load the char, bitmaps are never loaded
+     * @param decomposer decomposer of the library
+     * @param consumer consumer of the outline
+     * @return advance of the char in 26.6 pixel format
+     */
+    long decompose(int codepoint, RenderConfig config, OutlineDecomposer decomposer, PathConsumer consumer) {
+        setTransform(config);
+        checkCode(FTLoadGlyph(face.address(), getCharIndex(codepoint), config.loadFlags() | FT_LOAD_NO_BITMAP));
+        if (FTGlyphSlot.FORMAT.get(slot) != FTGlyphFormat.FT_GLYPH_FORMAT_OUTLINE.value())
+            throw new RuntimeException("Glyph has no outline: " + codepoint);
+        decomposer.decompose(FTGlyphSlot.OUTLINE.get(slot), consumer);
+        return FTVector.X.get(FTGlyphSlot.ADVANCE.get(slot));
+    }
+
+    /**
+     * Load the outline of a glyph in font units and build a path of it. The size and the transform
+     * of the face are ignored.
+     * @param glyphIndex index of the glyph
+     * @param loadFlags load flags, {@code FT_LOAD_NO_SCALE} is always added
+     * @param decomposer decomposer of the library
+     * @return the path in font units with y upwards
+     */
+    Path2D.Float loadPath(int glyphIndex, int loadFlags, OutlineDecomposer decomposer) {
+        checkCode(FTLoadGlyph(face.address(), glyphIndex,
+                loadFlags | FT_LOAD_NO_SCALE | FT_LOAD_NO_BITMAP | FT_LOAD_IGNORE_TRANSFORM));
+        if (FTGlyphSlot.FORMAT.get(slot) != FTGlyphFormat.FT_GLYPH_FORMAT_OUTLINE.value())
+            throw new RuntimeException("Glyph has no outline: " + glyphIndex);
+        MemorySegment outline = FTGlyphSlot.OUTLINE.get(slot);
+        PathBuilder builder = new PathBuilder(1);
+        decomposer.decompose(outline, builder);
+        return builder.build((FTOutline.FLAGS.get(outline) & FTOutline.FT_OUTLINE_EVEN_ODD_FILL) != 0);
+    }
+
+    /**
+     * Get advances of the glyphs from start to start + count - 1 at the current size in one native call.
+     * The fast path of FreeType is tried first, glyphs are only loaded if the face has no quick way.
+     * @param start first glyph index
+     * @param count count of the glyphs
+     * @param loadFlags load flags
+     * @param dest array to store the advances
+     * @param offset index of the first advance in the array
+     */
+    void getAdvances(int start, int count, int loadFlags, long[] dest, int offset) {
+        if (count == 0)
+            return;
+        int capacity = advances == null ? 0 : (int) (advances.byteSize() / ALIGNED_LONG.byteSize());
+        if (capacity < count)
+            advances = scope.newSegmentArray(ALIGNED_LONG, Math.max(count, Math.max(64, capacity * 2)));
+        int code = FTGetAdvances(face.address(), start, count, loadFlags | FT_ADVANCE_FLAG_FAST_ONLY, advances);
+        if ((code & 0xFF) == UNIMPLEMENTED_FEATURE)
+            code = FTGetAdvances(face.address(), start, count, loadFlags, advances);
+        checkCode(code);
+        for (int i = 0; i < count; i++)
+            dest[offset + i] = advances.getAtIndex(ValueLayout.JAVA_INT, i);
+    }
+
+    private byte[] copyBitmap(int width, int height) {
+        MemorySegment bitmap = scope.getSegment(FTBitmapGlyph.BITMAP.handle(),
+                star(ptrGlyph, FTBitmapGlyph.STRUCT_LAYOUT), FTBitmap.STRUCT_LAYOUT);
+        int pixelMode = FTBitmap.PIXEL_MODE.get(bitmap);
+        boolean mono = pixelMode == FTPixelMode.FT_PIXEL_MODE_MONO.value();
+        if (!mono && pixelMode != FTPixelMode.FT_PIXEL_MODE_GRAY.value())
+            throw new RuntimeException("Invalid pixel mode");
+
+        MemoryAddress buffer = FTBitmap.BUFFER.get(bitmap);
+        int pitch = FTBitmap.PITCH.get(bitmap);
+        if (pitch < 0)
+            throw new RuntimeException("Invalid pitch");
+        int rows = Math.min(height, FTBitmap.ROWS.get(bitmap));
+        int columns = Math.min(width, FTBitmap.WIDTH.get(bitmap));
+
+        byte[] luminance = new byte[width * height];
+        MemorySegment source = MemorySegment.ofAddress(buffer, (long) pitch * rows, ResourceScope.globalScope());
+        if (mono)
+            expandMono(source, pitch, rows, columns, luminance, width);
+        else if (pitch == width && columns == width)
+            MemorySegment.copy(source, ValueLayout.JAVA_BYTE, 0, luminance, 0, rows * width);
+        else
+            for (int i = 0; i < rows; i++)
+                MemorySegment.copy(source, ValueLayout.JAVA_BYTE, (long) i * pitch, luminance, i * width, columns);
+        return luminance;
+    }
+
+    // 1 bit per pixel, the most significant bit first
+    private static void expandMono(MemorySegment source, int pitch, int rows, int columns, byte[] luminance, int width) {
+        byte[] row = new byte[pitch];
+        for (int i = 0; i < rows; i++) {
+            MemorySegment.copy(source, ValueLayout.JAVA_BYTE, (long) i * pitch, row, 0, pitch);
+            for (int j = 0; j < columns; j++)
+                if ((row[j >> 3] & (0x80 >> (j & 7))) != 0)
+                    luminance[i * width + j] = (byte) 0xFF;
+        }
+    }
+
+    /**
+     * Discard the face.
+     */
+    void done() {
+        checkCode(FTDoneFace(face.address()));
+    }
+}
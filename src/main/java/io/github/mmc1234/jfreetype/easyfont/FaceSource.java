@@ -0,0 +1,20 @@
+package io.github.mmc1234.jfreetype.easyfont;
+
+import io.github.mmc1234.jfreetype.util.Scope;
+import jdk.incubator.foreign.MemoryAddress;
+import jdk.incubator.foreign.MemorySegment;
+
+/**
+ * Opens a new face of the same font data as a font, so that the face can be used by another thread.
+ */
+@FunctionalInterface
+interface FaceSource {
+
+    /**
+     * Open a face.
+     * @param library library to create the face
+     * @param scope scope of the face, it must not be closed before the face is discarded
+     * @return instance of face
+     */
+    MemorySegment open(MemoryAddress library, Scope scope);
+}
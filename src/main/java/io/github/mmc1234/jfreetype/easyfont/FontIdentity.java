@@ -0,0 +1,59 @@
+package io.github.mmc1234.jfreetype.easyfont;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Identity of a font, which decides whether chars rendered in another run can be used.
+ *
+ * @param contentHash hash of the font data, see {@link #hash}
+ * @param faceIndex index of the face in the font data
+ * @param freeTypeVersion version of FreeType rendering the chars, see {@link #version}
+ */
+public record FontIdentity(long contentHash, int faceIndex, int freeTypeVersion) {
+
+    /**
+     * Pack a FreeType version into an int.
+     * @param major major version
+     * @param minor minor version
+     * @param patch patch version
+     * @return the packed version
+     */
+    public static int version(int major, int minor, int patch) {
+        return major << 16 | (minor & 0xFF) << 8 | patch & 0xFF;
+    }
+
+    /**
+     * Hash font data with SHA-256.
+     * @param data font data, read from its position to its limit
+     * @return the first 8 bytes of the digest
+     */
+    public static long hash(ByteBuffer data) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(data);
+            return ByteBuffer.wrap(digest.digest()).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Hash a font file with SHA-256. The file is mapped instead of read into the heap.
+     * @param file the font file
+     * @return the first 8 bytes of the digest
+     */
+    public static long hash(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return hash(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
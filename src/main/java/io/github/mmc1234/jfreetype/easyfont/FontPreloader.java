@@ -0,0 +1,117 @@
+package io.github.mmc1234.jfreetype.easyfont;
+
+import io.github.mmc1234.jfreetype.core.FreeTypeLibrary;
+import io.github.mmc1234.jfreetype.util.Scope;
+import jdk.incubator.foreign.MemoryAddress;
+import jdk.incubator.foreign.MemorySegment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import static io.github.mmc1234.jfreetype.core.FTErrors.checkCode;
+import static io.github.mmc1234.jfreetype.util.VarUtils.starAddress;
+
+/**
+ * Renders chars of a font on several threads. Every thread owns a library and a clone of the face,
+ * so no FreeType object is shared between threads.
+ */
+class FontPreloader {
+
+    private final FaceSource source;
+    private final int[] codepoints;
+    private final int[] sizes;
+    private final RenderConfig config;
+
+    FontPreloader(FaceSource source, int[] codepoints, int[] sizes, RenderConfig config) {
+        this.source = source;
+        this.codepoints = codepoints;
+        this.sizes = sizes;
+        this.config = config;
+    }
+
+    /**
+     * Render the chars.
+     * @param threads count of the threads
+     * @param executor executor running the threads
+     * @param consumer called in the rendering threads with the chars each thread has rendered
+     * @return future completed when every thread has finished
+     */
+    CompletableFuture<PreloadStats> start(int threads, Executor executor, Consumer<List<CharInfo>> consumer) {
+        long start = System.nanoTime();
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Part>[] parts = new CompletableFuture[threads];
+        for (int i = 0; i < threads; i++) {
+            int first = i;
+            parts[i] = CompletableFuture.supplyAsync(() -> render(first, threads), executor)
+                    .thenApply(part -> {
+                        consumer.accept(part.infos);
+                        return part;
+                    });
+        }
+        return CompletableFuture.allOf(parts).thenApply(ignored -> {
+            int glyphs = 0, missing = 0;
+            long bytes = 0;
+            for (CompletableFuture<Part> part : parts) {
+                Part p = part.join();
+                glyphs += p.infos.size();
+                missing += p.missing;
+                bytes += p.bytes;
+            }
+            return new PreloadStats(glyphs, missing, bytes, threads,
+                    Duration.ofNanos(System.nanoTime() - start));
+        });
+    }
+
+    // Chars first, first + step, first + 2 * step... so that every thread gets chars of all blocks
+    private Part render(int first, int step) {
+        Part part = new Part();
+        Scope scope = Scope.newArena();
+        try {
+            MemorySegment ptrLibrary = scope.newAddress();
+            checkCode(FreeTypeLibrary.FTInitFreeType(ptrLibrary));
+            MemoryAddress library = starAddress(ptrLibrary);
+            SdfSpread spread = new SdfSpread(library);
+            try {
+                FaceRenderer renderer = new FaceRenderer(spread, source.open(library, scope), scope, sizes[0]);
+                try {
+                    int[] chars = new int[(codepoints.length - first + step - 1) / step];
+                    for (int i = 0; i < chars.length; i++)
+                        chars[i] = codepoints[first + i * step];
+                    CharInfo[] infos = new CharInfo[chars.length];
+                    for (int i = 0; i < sizes.length; i++) {
+                        renderer.setSize(sizes[i]);
+                        renderer.renderRun(chars, 0, chars.length, config, infos);
+                        for (CharInfo info : infos) {
+                            if (info == null) {
+                                // A char without a glyph misses at every size, but is counted once
+                                if (i == 0)
+                                    part.missing++;
+                                continue;
+                            }
+                            part.infos.add(info);
+                            part.bytes += CacheBudget.byteSizeOf(info);
+                        }
+                    }
+                } finally {
+                    renderer.done();
+                }
+            } finally {
+                checkCode(FreeTypeLibrary.FTDoneFreeType(library));
+                spread.close();
+            }
+        } finally {
+            scope.close();
+        }
+        return part;
+    }
+
+    private static final class Part {
+        final List<CharInfo> infos = new ArrayList<>();
+        int missing;
+        long bytes;
+    }
+}
@@ -0,0 +1,303 @@
+package io.github.mmc1234.jfreetype.easyfont;
+
+import io.github.mmc1234.jfreetype.core.FTRenderMode;
+import jdk.incubator.foreign.MemorySegment;
+import jdk.incubator.foreign.ResourceScope;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Rendered char infos stored in a file, which is mapped into memory so that chars rendered in an earlier run
+ * are served without calling FreeType.<br/>
+ * The file starts with a header holding the {@link FontIdentity} of the font, followed by the
+ * {@link RenderConfig}s of the chars, an index of (key, offset) pairs sorted by the packed key of
+ * {@link LongCharInfoMap#key} holding the index of the config in place of load flags, and the records of the chars.
+ * A file written for another font, face or FreeType version is ignored, and so is a damaged file.<br/>
+ * Chars are copied out of the mapping on lookup, the mapping itself is read-only and thread-safe.
+ * The file stays mapped until the instance is closed.
+ */
+public final class GlyphCacheFile implements AutoCloseable {
+
+    /**
+     * Magic number of the file, "JFGC".
+     */
+    public static final int MAGIC = 0x4A464743;
+    /**
+     * Version of the file format.
+     */
+    public static final int FORMAT_VERSION = 3;
+
+    // magic, format version, content hash, face index, FreeType version, count, count of the configs
+    private static final int HEADER_BYTES = 32;
+    // load flags, render mode, xx, xy, yx, yy, offset x, offset y, spread
+    private static final int CONFIG_BYTES = 36;
+    private static final int INDEX_BYTES = 16;
+    // codepoint, char index, size, width, height, padding, min x, min y, max x, max y, advance
+    private static final int RECORD_BYTES = 64;
+
+    private final FontIdentity identity;
+    // Scope of the mapping, null without a file
+    private final ResourceScope scope;
+    private final ByteBuffer buffer;
+    private final int count;
+    private final RenderConfig[] configs;
+    private final int indexOffset;
+
+    private GlyphCacheFile(FontIdentity identity, ResourceScope scope, ByteBuffer buffer, int count,
+                           RenderConfig[] configs) {
+        this.identity = identity;
+        this.scope = scope;
+        this.buffer = buffer;
+        this.count = count;
+        this.configs = configs;
+        indexOffset = HEADER_BYTES + configs.length * CONFIG_BYTES;
+    }
+
+    /**
+     * Map a file. A missing file, a file of another identity or a damaged file gives an empty instance.
+     * @param file the file
+     * @param identity identity of the font
+     * @return the mapped file
+     */
+    public static GlyphCacheFile open(Path file, FontIdentity identity) {
+        ResourceScope scope = ResourceScope.newSharedScope();
+        try {
+            long size = Files.size(file);
+            if (size >= HEADER_BYTES && size <= Integer.MAX_VALUE) {
+                ByteBuffer buffer = MemorySegment.mapFile(file, 0, size, FileChannel.MapMode.READ_ONLY, scope)
+                        .asByteBuffer();
+                GlyphCacheFile cacheFile = read(identity, scope, buffer);
+                if (cacheFile != null)
+                    return cacheFile;
+            }
+        } catch (NoSuchFileException e) {
+            // Nothing saved yet
+        } catch (IOException e) {
+            scope.close();
+            throw new UncheckedIOException(e);
+        }
+        scope.close();
+        return empty(identity);
+    }
+
+    // Check every field read by lookups, so that a damaged file never reads outside the mapping
+    private static GlyphCacheFile read(FontIdentity identity, ResourceScope scope, ByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION
+                || buffer.getLong(8) != identity.contentHash() || buffer.getInt(16) != identity.faceIndex()
+                || buffer.getInt(20) != identity.freeTypeVersion())
+            return null;
+        int count = buffer.getInt(24);
+        int configCount = buffer.getInt(28);
+        long recordsOffset = HEADER_BYTES + (long) configCount * CONFIG_BYTES + (long) count * INDEX_BYTES;
+        if (count < 0 || configCount < 0 || recordsOffset > buffer.capacity())
+            return null;
+        RenderConfig[] configs = new RenderConfig[configCount];
+        FTRenderMode[] renderModes = FTRenderMode.values();
+        for (int i = 0; i < configCount; i++) {
+            int offset = HEADER_BYTES + i * CONFIG_BYTES;
+            int renderMode = buffer.getInt(offset + 4);
+            int spread = buffer.getInt(offset + 32);
+            if (renderMode < 0 || renderMode >= FTRenderMode.FT_RENDER_MODE_MAX.value() || spread < 2 || spread > 32)
+                return null;
+            try {
+                configs[i] = new RenderConfig(buffer.getInt(offset), renderModes[renderMode],
+                        buffer.getInt(offset + 8), buffer.getInt(offset + 12),
+                        buffer.getInt(offset + 16), buffer.getInt(offset + 20),
+                        buffer.getInt(offset + 24), buffer.getInt(offset + 28), spread);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        int indexOffset = HEADER_BYTES + configCount * CONFIG_BYTES;
+        for (int i = 0; i < count; i++) {
+            long key = buffer.getLong(indexOffset + i * INDEX_BYTES);
+            // Lookups search the keys by bisection
+            if (i > 0 && key <= buffer.getLong(indexOffset + (i - 1) * INDEX_BYTES))
+                return null;
+            if (LongCharInfoMap.loadFlagsOf(key) >= configCount)
+                return null;
+            long offset = buffer.getLong(indexOffset + i * INDEX_BYTES + 8);
+            if (offset < recordsOffset || offset > buffer.capacity() - RECORD_BYTES)
+                return null;
+            int width = buffer.getInt((int) offset + 12);
+            int height = buffer.getInt((int) offset + 16);
+            if (width < 0 || height < 0 || (long) width * height > buffer.capacity() - offset - RECORD_BYTES)
+                return null;
+        }
+        return new GlyphCacheFile(identity, scope, buffer, count, configs);
+    }
+
+    /**
+     * Create an instance holding no char.
+     * @param identity identity of the font
+     * @return an empty instance
+     */
+    public static GlyphCacheFile empty(FontIdentity identity) {
+        return new GlyphCacheFile(identity, null, null, 0, new RenderConfig[0]);
+    }
+
+    /**
+     * Get identity of the font.
+     * @return identity of the font
+     */
+    public FontIdentity getIdentity() {
+        return identity;
+    }
+
+    /**
+     * Get count of the chars stored.
+     * @return count of the chars
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Get count of the configs of the chars.
+     * @return count of the configs
+     */
+    public int getConfigCount() {
+        return configs.length;
+    }
+
+    /**
+     * Get a config of the chars.
+     * @param index index of the config, stored in the keys of the chars
+     * @return the config
+     */
+    public RenderConfig getConfig(int index) {
+        return configs[index];
+    }
+
+    /**
+     * Get a char info.
+     * @param key a packed key
+     * @return a rendered char info, or null
+     */
+    public CharInfo get(long key) {
+        int low = 0, high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midKey = buffer.getLong(indexOffset + mid * INDEX_BYTES);
+            if (midKey < key)
+                low = mid + 1;
+            else if (midKey > key)
+                high = mid - 1;
+            else
+                return read((int) buffer.getLong(indexOffset + mid * INDEX_BYTES + 8));
+        }
+        return null;
+    }
+
+    /**
+     * Get the key at a position of the index.
+     * @param index position in the index, from 0 to {@link #size()} - 1
+     * @return a packed key
+     */
+    public long keyAt(int index) {
+        return buffer.getLong(indexOffset + index * INDEX_BYTES);
+    }
+
+    /**
+     * Get the char info at a position of the index.
+     * @param index position in the index, from 0 to {@link #size()} - 1
+     * @return a rendered char info
+     */
+    public CharInfo infoAt(int index) {
+        return read((int) buffer.getLong(indexOffset + index * INDEX_BYTES + 8));
+    }
+
+    private CharInfo read(int offset) {
+        int width = buffer.getInt(offset + 12);
+        int height = buffer.getInt(offset + 16);
+        byte[] luminance = new byte[width * height];
+        buffer.get(offset + RECORD_BYTES, luminance);
+        return new CharInfo(buffer.getInt(offset), buffer.getInt(offset + 4), buffer.getInt(offset + 8),
+                width, height,
+                buffer.getLong(offset + 24), buffer.getLong(offset + 32),
+                buffer.getLong(offset + 40), buffer.getLong(offset + 48), buffer.getLong(offset + 56),
+                luminance, width);
+    }
+
+    /**
+     * Unmap the file. Chars can't be read afterwards.
+     */
+    @Override
+    public void close() {
+        if (scope != null)
+            scope.close();
+    }
+
+    /**
+     * Write rendered char infos to a file. The file is written next to the target and moved over it.
+     * A mapped file can't be replaced on some systems such as Windows, so an instance mapping the target
+     * must be closed first.
+     * @param file the file
+     * @param identity identity of the font
+     * @param configs configs of the chars, indexed by the keys
+     * @param keys packed keys of the chars
+     * @param infos rendered char infos, same order as the keys
+     */
+    static void write(Path file, FontIdentity identity, RenderConfig[] configs, long[] keys, CharInfo[] infos) {
+        int count = keys.length;
+        Integer[] order = new Integer[count];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, Comparator.comparingLong(i -> keys[i]));
+
+        int indexOffset = HEADER_BYTES + configs.length * CONFIG_BYTES;
+        long bytes = indexOffset + (long) count * INDEX_BYTES;
+        for (CharInfo info : infos)
+            bytes += RECORD_BYTES + (long) info.width() * info.height();
+        if (bytes > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Too many chars for a cache file: " + bytes + " bytes");
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) bytes);
+        buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(identity.contentHash())
+                .putInt(identity.faceIndex()).putInt(identity.freeTypeVersion()).putInt(count).putInt(configs.length);
+        for (RenderConfig config : configs)
+            buffer.putInt(config.loadFlags()).putInt(config.renderMode().value())
+                    .putInt(config.xx()).putInt(config.xy()).putInt(config.yx()).putInt(config.yy())
+                    .putInt(config.offsetX()).putInt(config.offsetY()).putInt(config.spread());
+        int offset = indexOffset + count * INDEX_BYTES;
+        for (int i : order) {
+            buffer.putLong(keys[i]).putLong(offset);
+            offset += RECORD_BYTES + infos[i].width() * infos[i].height();
+        }
+        for (int i : order) {
+            CharInfo info = infos[i];
+            buffer.putInt(info.codepoint()).putInt(info.charIndex()).putInt(info.size())
+                    .putInt(info.width()).putInt(info.height()).putInt(0)
+                    .putLong(info.minX()).putLong(info.minY()).putLong(info.maxX()).putLong(info.maxY())
+                    .putLong(info.advance());
+            for (int row = 0; row < info.height(); row++)
+                buffer.put(info.buffer(), row * info.stride(), info.width());
+        }
+        buffer.flip();
+
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try {
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                    while (buffer.hasRemaining())
+                        channel.write(buffer);
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
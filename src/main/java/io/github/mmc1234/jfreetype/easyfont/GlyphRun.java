@@ -0,0 +1,57 @@
+package io.github.mmc1234.jfreetype.easyfont;
+
+import io.github.mmc1234.jfreetype.internal.GlyphRunShim;
+import jdk.incubator.foreign.Addressable;
+import jdk.incubator.foreign.MemoryAddress;
+import jdk.incubator.foreign.MemorySegment;
+
+import static io.github.mmc1234.jfreetype.internal.LibraryUtil.rethrow;
+
+/**
+ * Binding of {@code jft_render_glyph_run} in the optional native shim, see {@code src/main/c}. Package-private.
+ */
+final class GlyphRun {
+
+    // Values of each glyph in the metrics array
+    static final int GLYPH_INDEX = 0;
+    static final int LEFT = 1;
+    static final int TOP = 2;
+    static final int WIDTH = 3;
+    static final int ROWS = 4;
+    static final int ADVANCE = 5;
+    static final int OFFSET = 6;
+    static final int METRICS = 8;
+
+    private GlyphRun() {
+    }
+
+    /**
+     * Check whether the shim is loaded.
+     * @return whether runs can be rendered in one downcall
+     */
+    static boolean isAvailable() {
+        return GlyphRunShim.JFT_RENDER_GLYPH_RUN.HANDLE != null;
+    }
+
+    /**
+     * Load and render chars at the current size of a face in one downcall.
+     * @param face handle of the face
+     * @param codepoints int array of the chars
+     * @param count count of the chars
+     * @param loadFlags load flags
+     * @param renderMode render mode
+     * @param metrics long array receiving {@link #METRICS} values for each char
+     * @param buffer buffer receiving the coverage of the glyphs
+     * @return count of the chars done, the char after them has to be rendered without the shim
+     */
+    static int render(MemoryAddress face, MemorySegment codepoints, int count, int loadFlags, int renderMode,
+                      MemorySegment metrics, MemorySegment buffer) {
+        try {
+            return (int) GlyphRunShim.JFT_RENDER_GLYPH_RUN.HANDLE.invokeExact((Addressable) face,
+                    (Addressable) codepoints, count, loadFlags, renderMode, (Addressable) metrics,
+                    (Addressable) buffer, buffer.byteSize());
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+}
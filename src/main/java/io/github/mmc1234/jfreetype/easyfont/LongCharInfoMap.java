@@ -0,0 +1,103 @@
+package io.github.mmc1234.jfreetype.easyfont;
+
+/**
+ * A hash map to save char infos, keyed by a packed long.<br/>
+ * The key packs codepoint, size and load flags (see {@link #key}), so lookups never box
+ * and never allocate. {@link EasyFont} stores the index of a {@link RenderConfig} in place of the load flags.
+ */
+public class LongCharInfoMap extends LongObjectMap<CharInfo> {
+
+    /**
+     * Bits used by the codepoint in a key. Unicode ends at 0x10FFFF.
+     */
+    public static final int CODEPOINT_BITS = 21;
+
+    /**
+     * Bits used by the size in a key.
+     */
+    public static final int SIZE_BITS = 18;
+
+    /**
+     * Bits used by the load flags in a key. FreeType defines flags up to bit 24.
+     */
+    public static final int LOAD_FLAGS_BITS = 25;
+
+    private static final long CODEPOINT_MASK = (1L << CODEPOINT_BITS) - 1;
+    private static final long SIZE_MASK = (1L << SIZE_BITS) - 1;
+    private static final long LOAD_FLAGS_MASK = (1L << LOAD_FLAGS_BITS) - 1;
+
+    /**
+     * Create an empty map.
+     */
+    public LongCharInfoMap() {
+        super();
+    }
+
+    /**
+     * Create an empty map.
+     * @param expectedChars count of the chars expected to be stored without rehash
+     */
+    public LongCharInfoMap(int expectedChars) {
+        super(expectedChars);
+    }
+
+    /**
+     * Pack a key.
+     * @param codepoint a char
+     * @param size a size
+     * @param loadFlags load flags used to load the char
+     * @return the packed key
+     */
+    public static long key(int codepoint, int size, int loadFlags) {
+        if ((codepoint & ~CODEPOINT_MASK) != 0 || (size & ~SIZE_MASK) != 0 || (loadFlags & ~LOAD_FLAGS_MASK) != 0)
+            throw new IllegalArgumentException("Key out of range: codepoint = " + codepoint +
+                    ", size = " + size + ", load flags = " + loadFlags);
+        return codepoint | (long) size << CODEPOINT_BITS | (long) loadFlags << (CODEPOINT_BITS + SIZE_BITS);
+    }
+
+    /**
+     * Get the codepoint of a packed key.
+     * @param key a packed key
+     * @return the codepoint
+     */
+    public static int codepointOf(long key) {
+        return (int) (key & CODEPOINT_MASK);
+    }
+
+    /**
+     * Get the size of a packed key.
+     * @param key a packed key
+     * @return the size
+     */
+    public static int sizeOf(long key) {
+        return (int) (key >>> CODEPOINT_BITS & SIZE_MASK);
+    }
+
+    /**
+     * Get the load flags of a packed key.
+     * @param key a packed key
+     * @return the load flags
+     */
+    public static int loadFlagsOf(long key) {
+        return (int) (key >>> (CODEPOINT_BITS + SIZE_BITS) & LOAD_FLAGS_MASK);
+    }
+
+    /**
+     * Get record chars count.
+     * @return count of the chars
+     */
+    public int getRecordChars() {
+        return size();
+    }
+
+    /**
+     * Get a char info.
+     * @param codepoint a char
+     * @param size a size
+     * @param loadFlags load flags used to load the char
+     * @return a char info, or null
+     */
+    public CharInfo get(int codepoint, int size, int loadFlags) {
+        return get(key(codepoint, size, loadFlags));
+    }
+}
@@ -0,0 +1,181 @@
+package io.github.mmc1234.jfreetype.easyfont;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * An open-addressing hash map with primitive long keys.<br/>
+ * Lookups never box and never allocate. Collisions are resolved by linear probing over a power-of-two
+ * table, and removal shifts the following entries back instead of leaving tombstones.
+ *
+ * @param <V> type of the values
+ */
+public class LongObjectMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final float MAX_LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int threshold;
+
+    /**
+     * Create an empty map.
+     */
+    public LongObjectMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create an empty map.
+     * @param expectedSize count of the entries expected to be stored without rehash
+     */
+    public LongObjectMap(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Get count of the entries.
+     * @return count of the entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get a value.
+     * @param key a key
+     * @return the value, or null
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int index = mix(key) & mask;
+        Object value;
+        while ((value = values[index]) != null) {
+            if (keys[index] == key)
+                return (V) value;
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Put a value into this.
+     * @param key a key
+     * @param value a value, not null
+     * @return the value replaced, or null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (value == null)
+            throw new NullPointerException("value");
+        int index = mix(key) & mask;
+        Object source;
+        while ((source = values[index]) != null) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return (V) source;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > threshold)
+            rehash(values.length << 1);
+        return null;
+    }
+
+    /**
+     * Remove a value.
+     * @param key a key
+     * @return the value removed, or null
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int index = mix(key) & mask;
+        Object value;
+        while ((value = values[index]) != null) {
+            if (keys[index] == key) {
+                shiftBack(index);
+                size--;
+                return (V) value;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Remove all values.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Iterate over all values.
+     * @param action action to apply
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super V> action) {
+        for (Object value : values)
+            if (value != null)
+                action.accept((V) value);
+    }
+
+    private void shiftBack(int hole) {
+        int index = hole;
+        while (true) {
+            index = (index + 1) & mask;
+            Object value = values[index];
+            if (value == null)
+                break;
+            int home = mix(keys[index]) & mask;
+            // The entry may fill the hole only if its home slot is not in (hole, index]
+            if (((index - home) & mask) >= ((index - hole) & mask)) {
+                keys[hole] = keys[index];
+                values[hole] = value;
+                hole = index;
+            }
+        }
+        values[hole] = null;
+    }
+
+    private void rehash(int capacity) {
+        long[] sourceKeys = keys;
+        Object[] sourceValues = values;
+        allocate(capacity);
+        for (int i = 0; i < sourceValues.length; i++) {
+            Object value = sourceValues[i];
+            if (value == null)
+                continue;
+            int index = mix(sourceKeys[i]) & mask;
+            while (values[index] != null)
+                index = (index + 1) & mask;
+            keys[index] = sourceKeys[i];
+            values[index] = value;
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * MAX_LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        long capacity = Math.max(2, (long) Math.ceil(Math.max(expectedSize, 1) / MAX_LOAD_FACTOR));
+        if (capacity > 1 << 30)
+            throw new IllegalArgumentException("Too many entries: " + expectedSize);
+        return Integer.highestOneBit((int) capacity - 1) << 1;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ h >>> 32);
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.mmc1234.jfreetype.easyfont;
+
+import io.github.mmc1234.jfreetype.image.PathConsumer;
+
+import java.awt.geom.Path2D;
+
+/**
+ * Builds a {@link Path2D.Float} from the path operations of an outline.<br/>
+ * Coordinates are multiplied by a scale and keep y upwards, so a scale of {@code 1f / 64} turns 26.6 pixels
+ * into pixels and a scale of 1 keeps font units of a glyph loaded with {@code FT_LOAD_NO_SCALE}.
+ * The implicitly closed contours of FreeType are closed explicitly.
+ */
+public class PathBuilder implements PathConsumer {
+
+    private final float scale;
+    private Path2D.Float path;
+    private boolean open;
+
+    /**
+     * Create a builder.
+     * @param scale factor applied to every coordinate
+     */
+    public PathBuilder(float scale) {
+        this.scale = scale;
+        path = new Path2D.Float(Path2D.WIND_NON_ZERO);
+    }
+
+    @Override
+    public void moveTo(int x, int y) {
+        if (open)
+            path.closePath();
+        path.moveTo(x * scale, y * scale);
+        open = true;
+    }
+
+    @Override
+    public void lineTo(int x, int y) {
+        path.lineTo(x * scale, y * scale);
+    }
+
+    @Override
+    public void conicTo(int cx, int cy, int x, int y) {
+        path.quadTo(cx * scale, cy * scale, x * scale, y * scale);
+    }
+
+    @Override
+    public void cubicTo(int c1x, int c1y, int c2x, int c2y, int x, int y) {
+        path.curveTo(c1x * scale, c1y * scale, c2x * scale, c2y * scale, x * scale, y * scale);
+    }
+
+    /**
+     * Close the last contour and take the path. The builder starts a new path afterwards.
+     * @param evenOdd whether the outline is filled with the even-odd rule instead of the nonzero rule
+     * @return the path
+     */
+    public Path2D.Float build(boolean evenOdd) {
+        if (open)
+            path.closePath();
+        Path2D.Float result = path;
+        result.setWindingRule(evenOdd ? Path2D.WIND_EVEN_ODD : Path2D.WIND_NON_ZERO);
+        path = new Path2D.Float(Path2D.WIND_NON_ZERO);
+        open = false;
+        return result;
+    }
+}
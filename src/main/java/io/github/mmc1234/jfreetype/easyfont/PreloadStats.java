@@ -0,0 +1,24 @@
+package io.github.mmc1234.jfreetype.easyfont;
+
+import java.time.Duration;
+
+/**
+ * Statistics of a preload of {@link EasyFont}.
+ *
+ * @param glyphs count of the chars rendered, counted once for every size
+ * @param missing count of the chars skipped because the face has no glyph for them, counted once for all sizes
+ * @param bytes bytes of the char infos rendered, see {@link CacheBudget#byteSizeOf}
+ * @param threads count of the threads rendering the chars
+ * @param elapsed time from the call of preload to the end of rendering
+ */
+public record PreloadStats(int glyphs, int missing, long bytes, int threads, Duration elapsed) {
+
+    /**
+     * Get the rendering throughput.
+     * @return glyphs rendered per second
+     */
+    public double glyphsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : glyphs * 1e9 / nanos;
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.mmc1234.jfreetype.easyfont;
+
+import io.github.mmc1234.jfreetype.core.FTRenderMode;
+
+import static io.github.mmc1234.jfreetype.core.FTLoadFlags.*;
+
+/**
+ * How chars are loaded and rendered. An {@link EasyFont} caches chars of every config it is asked for
+ * in the same cache, so one face serves all of them.
+ *
+ * @param loadFlags load flags passed to {@code FT_Load_Glyph}, including {@code FT_LOAD_TARGET_XXX}
+ * @param renderMode mode used to render the bitmap, LCD modes are not supported since a {@link CharInfo}
+ *                   holds one byte per pixel
+ * @param xx matrix coefficient of the transform in 16.16 format
+ * @param xy matrix coefficient of the transform in 16.16 format
+ * @param yx matrix coefficient of the transform in 16.16 format
+ * @param yy matrix coefficient of the transform in 16.16 format
+ * @param offsetX horizontal subpixel offset applied after the matrix in 26.6 format
+ * @param offsetY vertical subpixel offset applied after the matrix in 26.6 format
+ * @param spread distance in pixels mapped to the full range of a signed distance field, from 2 to 32,
+ *               only used by {@link FTRenderMode#FT_RENDER_MODE_SDF}
+ */
+public record RenderConfig(int loadFlags, FTRenderMode renderMode,
+                           int xx, int xy, int yx, int yy,
+                           int offsetX, int offsetY, int spread) {
+
+    /**
+     * 1.0 in 16.16 format.
+     */
+    public static final int ONE = 0x10000;
+
+    /**
+     * Spread of the configs of this class, the default of FreeType.
+     */
+    public static final int DEFAULT_SPREAD = 8;
+
+    /**
+     * Config used by {@link EasyFont} when no config is given: auto-hinted outlines rendered in
+     * 256 gray levels, without transform.
+     */
+    public static final RenderConfig DEFAULT = new RenderConfig(FT_LOAD_NO_BITMAP | FT_LOAD_FORCE_AUTOHINT,
+            FTRenderMode.FT_RENDER_MODE_NORMAL, ONE, 0, 0, ONE, 0, 0, DEFAULT_SPREAD);
+
+    /**
+     * Config of signed distance fields: unhinted outlines, so that a field rendered at one size can be scaled
+     * to any other, see {@link EasyFont#getSdfCharInfo}.
+     */
+    public static final RenderConfig SDF = new RenderConfig(FT_LOAD_NO_BITMAP | FT_LOAD_NO_HINTING,
+            FTRenderMode.FT_RENDER_MODE_SDF, ONE, 0, 0, ONE, 0, 0, DEFAULT_SPREAD);
+
+    public RenderConfig {
+        if (renderMode == null || renderMode == FTRenderMode.FT_RENDER_MODE_MAX)
+            throw new IllegalArgumentException("Invalid render mode: " + renderMode);
+        // Subpixel bitmaps are 3 times wider or higher than the char
+        if (renderMode == FTRenderMode.FT_RENDER_MODE_LCD || renderMode == FTRenderMode.FT_RENDER_MODE_LCD_V)
+            throw new IllegalArgumentException("Unsupported render mode: " + renderMode);
+        if (spread < 2 || spread > 32)
+            throw new IllegalArgumentException("Invalid spread: " + spread);
+    }
+
+    /**
+     * Copy the config with other load flags.
+     * @param loadFlags load flags
+     * @return a config
+     */
+    public RenderConfig withLoadFlags(int loadFlags) {
+        return new RenderConfig(loadFlags, renderMode, xx, xy, yx, yy, offsetX, offsetY, spread);
+    }
+
+    /**
+     * Copy the config with another render mode.
+     * @param renderMode render mode
+     * @return a config
+     */
+    public RenderConfig withRenderMode(FTRenderMode renderMode) {
+        return new RenderConfig(loadFlags, renderMode, xx, xy, yx, yy, offsetX, offsetY, spread);
+    }
+
+    /**
+     * Copy the config with another transform matrix.
+     * @param xx matrix coefficient in 16.16 format
+     * @param xy matrix coefficient in 16.16 format
+     * @param yx matrix coefficient in 16.16 format
+     * @param yy matrix coefficient in 16.16 format
+     * @return a config
+     */
+    public RenderConfig withTransform(int xx, int xy, int yx, int yy) {
+        return new RenderConfig(loadFlags, renderMode, xx, xy, yx, yy, offsetX, offsetY, spread);
+    }
+
+    /**
+     * Copy the config with another subpixel offset.
+     * @param offsetX horizontal offset in 26.6 format, 0 to 63 for a subpixel
+     * @param offsetY vertical offset in 26.6 format, 0 to 63 for a subpixel
+     * @return a config
+     */
+    public RenderConfig withSubpixelOffset(int offsetX, int offsetY) {
+        return new RenderConfig(loadFlags, renderMode, xx, xy, yx, yy, offsetX, offsetY, spread);
+    }
+
+    /**
+     * Copy the config with another spread.
+     * @param spread spread of signed distance fields in pixels, from 2 to 32
+     * @return a config
+     */
+    public RenderConfig withSpread(int spread) {
+        return new RenderConfig(loadFlags, renderMode, xx, xy, yx, yy, offsetX, offsetY, spread);
+    }
+
+    /**
+     * Check whether the config renders signed distance fields.
+     * @return true if the render mode is {@link FTRenderMode#FT_RENDER_MODE_SDF}
+     */
+    public boolean isSdf() {
+        return renderMode == FTRenderMode.FT_RENDER_MODE_SDF;
+    }
+
+    /**
+     * Check whether the config leaves the outlines untransformed.
+     * @return true if the matrix is identity and the offset is zero
+     */
+    public boolean isIdentity() {
+        return xx == ONE && xy == 0 && yx == 0 && yy == ONE && offsetX == 0 && offsetY == 0;
+    }
+
+    /**
+     * Check whether two configs have the same transform and offset.
+     * @param other another config
+     * @return true if the transforms are the same
+     */
+    public boolean hasSameTransform(RenderConfig other) {
+        return xx == other.xx && xy == other.xy && yx == other.yx && yy == other.yy
+                && offsetX == other.offsetX && offsetY == other.offsetY;
+    }
+}
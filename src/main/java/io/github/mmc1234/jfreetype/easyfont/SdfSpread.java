@@ -0,0 +1,62 @@
+package io.github.mmc1234.jfreetype.easyfont;
+
+import io.github.mmc1234.jfreetype.util.Scope;
+import jdk.incubator.foreign.MemoryAddress;
+import jdk.incubator.foreign.MemorySegment;
+import jdk.incubator.foreign.ValueLayout;
+
+import static io.github.mmc1234.jfreetype.core.FTErrors.checkCode;
+import static io.github.mmc1234.jfreetype.core.FreeTypeLibrary.FTPropertySet;
+
+/**
+ * Spread of the signed distance field renderers of one library. The spread is a property of the library,
+ * not of a face, so every face of the library shares one instance. A face rendering a signed distance field
+ * holds the lock of the instance from {@link #set(int)} until the glyph is rendered, otherwise another face
+ * could change the spread in between. Package-private.
+ */
+final class SdfSpread implements AutoCloseable {
+
+    private final MemoryAddress library;
+    // Faces of a concurrent font set the spread from any thread
+    private final Scope scope = Scope.newSharedScope();
+    private final MemorySegment value;
+    private final MemorySegment sdfModule;
+    private final MemorySegment bsdfModule;
+    private final MemorySegment property;
+    // Spread set to the SDF modules, 0 until the first SDF render
+    private int spread;
+
+    /**
+     * Create the spread of a library.
+     * @param library the library
+     */
+    SdfSpread(MemoryAddress library) {
+        this.library = library;
+        value = scope.newInt();
+        sdfModule = scope.newString("sdf");
+        bsdfModule = scope.newString("bsdf");
+        property = scope.newString("spread");
+    }
+
+    /**
+     * Set the spread of the library. FreeType is only called when the spread differs from the current one.
+     * The caller must hold the lock of this instance until the glyph is rendered.
+     * @param spread spread in pixels
+     */
+    void set(int spread) {
+        if (!Thread.holdsLock(this))
+            throw new IllegalStateException("Spread set without the lock");
+        if (this.spread == spread)
+            return;
+        value.set(ValueLayout.JAVA_INT, 0, spread);
+        // Outlines are rendered by the sdf module, bitmaps by the bsdf module
+        checkCode(FTPropertySet(library, sdfModule, property, value.address()));
+        checkCode(FTPropertySet(library, bsdfModule, property, value.address()));
+        this.spread = spread;
+    }
+
+    @Override
+    public void close() {
+        scope.close();
+    }
+}
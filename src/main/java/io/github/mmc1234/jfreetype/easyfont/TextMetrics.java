@@ -0,0 +1,35 @@
+package io.github.mmc1234.jfreetype.easyfont;
+
+/**
+ * Metrics of a run of chars, stored as one array per field. The element i of every array
+ * belongs to the char i of the run.
+ *
+ * @param glyphIndices indices of the glyphs in the face
+ * @param advances horizontal advances in 26.6 pixel format
+ * @param minX minimum x of the char boxes
+ * @param minY minimum y of the char boxes
+ * @param maxX maximum x of the char boxes
+ * @param maxY maximum y of the char boxes
+ */
+public record TextMetrics(int[] glyphIndices, long[] advances,
+                          long[] minX, long[] minY, long[] maxX, long[] maxY) {
+
+    /**
+     * Get count of the chars.
+     * @return count of the chars
+     */
+    public int length() {
+        return glyphIndices.length;
+    }
+
+    /**
+     * Get the sum of the advances.
+     * @return total advance in 26.6 pixel format
+     */
+    public long getTotalAdvance() {
+        long total = 0;
+        for (long advance : advances)
+            total += advance;
+        return total;
+    }
+}
@@ -86,7 +86,7 @@ public final class FTBitmap {
         STRUCT_LAYOUT = builder.getGroupLayout();
         SEQUENCE_LAYOUT = builder.getSequenceLayout();
         ROWS = builder.newInt("rows");
-        WIDTH = builder.newInt("rows");
+        WIDTH = builder.newInt("width");
         PITCH = builder.newInt("pitch");
         BUFFER = builder.newAddress("buffer");
         NUM_GRAYS = builder.newShort("num_grays");
@@ -0,0 +1,85 @@
+package io.github.mmc1234.jfreetype.image;
+
+import io.github.mmc1234.jfreetype.struct.AddressField;
+import io.github.mmc1234.jfreetype.struct.IntField;
+import io.github.mmc1234.jfreetype.struct.LongField;
+import io.github.mmc1234.jfreetype.util.LayoutBuilder;
+import jdk.incubator.foreign.MemoryLayout;
+
+/**
+ * A structure to hold various function pointers used during outline decomposition
+ * in order to emit segments, conic, and cubic Beziers.
+ *
+ * @apiNote The point coordinates sent to the emitters are the transformed version of the original coordinates
+ * (this is important for high accuracy during scan-conversion). The transformation is simple:
+ * <pre>{@code
+ *   x' = (x << shift) - delta
+ *   y' = (y << shift) - delta
+ * }</pre>
+ * Set the values of shift and delta to 0 to get the original point coordinates.
+ * @implNote In freetype/ftimage.h
+ * <pre>{@code
+ *   typedef struct  FT_Outline_Funcs_
+ *   {
+ *     FT_Outline_MoveToFunc   move_to;
+ *     FT_Outline_LineToFunc   line_to;
+ *     FT_Outline_ConicToFunc  conic_to;
+ *     FT_Outline_CubicToFunc  cubic_to;
+ *
+ *     int                     shift;
+ *     FT_Pos                  delta;
+ *
+ *   } FT_Outline_Funcs;
+ * }</pre>
+ */
+public final class FTOutlineFuncs {
+
+    public static final MemoryLayout STRUCT_LAYOUT;
+    public static final MemoryLayout SEQUENCE_LAYOUT;
+
+    /**
+     * The ‘move to’ emitter, {@code int (*)(const FT_Vector* to, void* user)}.
+     */
+    public static final AddressField MOVE_TO;
+
+    /**
+     * The segment emitter, {@code int (*)(const FT_Vector* to, void* user)}.
+     */
+    public static final AddressField LINE_TO;
+
+    /**
+     * The second-order Bezier arc emitter,
+     * {@code int (*)(const FT_Vector* control, const FT_Vector* to, void* user)}.
+     */
+    public static final AddressField CONIC_TO;
+
+    /**
+     * The third-order Bezier arc emitter,
+     * {@code int (*)(const FT_Vector* control1, const FT_Vector* control2, const FT_Vector* to, void* user)}.
+     */
+    public static final AddressField CUBIC_TO;
+
+    /**
+     * The shift that is applied to coordinates before they are sent to the emitter.
+     */
+    public static final IntField SHIFT;
+
+    /**
+     * The delta that is applied to coordinates before they are sent to the emitter, but after the shift.
+     */
+    public static final LongField DELTA;
+
+    static {
+        LayoutBuilder builder = new LayoutBuilder("AAAAIL", new String[]{
+                "move_to", "line_to", "conic_to", "cubic_to", "shift", "delta"
+        });
+        STRUCT_LAYOUT = builder.getGroupLayout();
+        SEQUENCE_LAYOUT = builder.getSequenceLayout();
+        MOVE_TO = builder.newAddress("move_to");
+        LINE_TO = builder.newAddress("line_to");
+        CONIC_TO = builder.newAddress("conic_to");
+        CUBIC_TO = builder.newAddress("cubic_to");
+        SHIFT = builder.newInt("shift");
+        DELTA = builder.newLong("delta");
+    }
+}
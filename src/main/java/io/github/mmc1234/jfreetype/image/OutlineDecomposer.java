@@ -0,0 +1,158 @@
+package io.github.mmc1234.jfreetype.image;
+
+import io.github.mmc1234.jfreetype.util.FunctionDescriptorUtils;
+import io.github.mmc1234.jfreetype.util.VarUtils;
+import jdk.incubator.foreign.CLinker;
+import jdk.incubator.foreign.MemoryAddress;
+import jdk.incubator.foreign.MemorySegment;
+import jdk.incubator.foreign.NativeSymbol;
+import jdk.incubator.foreign.ResourceScope;
+import jdk.incubator.foreign.ValueLayout;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+
+import static io.github.mmc1234.jfreetype.core.FTErrors.checkCode;
+import static io.github.mmc1234.jfreetype.core.FreeTypeOutline.FTOutlineDecompose;
+import static io.github.mmc1234.jfreetype.util.LayoutBuilder.ALIGNED_LONG;
+
+/**
+ * Streams outlines into {@link PathConsumer}s with {@code FT_Outline_Decompose}.<br/>
+ * The upcall stubs of the emitters and the {@link FTOutlineFuncs} table are created once by the constructor and
+ * reused by every call, e.g. one decomposer per library, so decomposing a glyph allocates nothing. Emitters read
+ * the points straight from the addresses FreeType passes. An exception thrown by the consumer stops the
+ * decomposition and is thrown again by {@link #decompose}.<br/>
+ * Not thread-safe, like the library it belongs to.
+ */
+public final class OutlineDecomposer implements AutoCloseable {
+
+    // Coordinates are FT_Pos, a C long
+    private static final long POSITION_BYTES = ALIGNED_LONG.byteSize();
+    // Returned by the emitters to stop the decomposition, FT_Err_Invalid_Argument
+    private static final int ABORT = 0x06;
+
+    private final ResourceScope scope;
+    private final MemorySegment funcs;
+    private PathConsumer consumer;
+    private Throwable failure;
+
+    /**
+     * Create the upcall stubs and the table of emitters.
+     */
+    public OutlineDecomposer() {
+        scope = ResourceScope.newSharedScope();
+        try {
+            funcs = MemorySegment.allocateNative(FTOutlineFuncs.STRUCT_LAYOUT, scope);
+            VarUtils.set(FTOutlineFuncs.MOVE_TO.handle(), funcs, upcall("moveTo", "IAA").address());
+            VarUtils.set(FTOutlineFuncs.LINE_TO.handle(), funcs, upcall("lineTo", "IAA").address());
+            VarUtils.set(FTOutlineFuncs.CONIC_TO.handle(), funcs, upcall("conicTo", "IAAA").address());
+            VarUtils.set(FTOutlineFuncs.CUBIC_TO.handle(), funcs, upcall("cubicTo", "IAAAA").address());
+            VarUtils.set(FTOutlineFuncs.SHIFT.handle(), funcs, 0);
+            VarUtils.set(FTOutlineFuncs.DELTA.handle(), funcs, 0);
+        } catch (RuntimeException e) {
+            scope.close();
+            throw e;
+        }
+    }
+
+    // Every parameter of the emitters is a pointer
+    private NativeSymbol upcall(String name, String descriptor) {
+        Class<?>[] parameters = new Class<?>[descriptor.length() - 1];
+        Arrays.fill(parameters, MemoryAddress.class);
+        try {
+            MethodHandle target = MethodHandles.lookup()
+                    .findVirtual(OutlineDecomposer.class, name, MethodType.methodType(int.class, parameters))
+                    .bindTo(this);
+            return CLinker.systemCLinker().upcallStub(target, FunctionDescriptorUtils.of(descriptor), scope);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Send the path operations of an outline to a consumer.
+     * @param outline an {@link FTOutline}, e.g. {@code FTGlyphSlot.OUTLINE} of a slot
+     * @param consumer consumer of the operations
+     */
+    public void decompose(MemorySegment outline, PathConsumer consumer) {
+        if (this.consumer != null)
+            throw new IllegalStateException("Decomposer is already in use");
+        this.consumer = consumer;
+        try {
+            int code = FTOutlineDecompose(outline.address(), funcs.address(), MemoryAddress.NULL);
+            if (failure != null) {
+                if (failure instanceof RuntimeException e)
+                    throw e;
+                if (failure instanceof Error e)
+                    throw e;
+                throw new RuntimeException(failure);
+            }
+            checkCode(code);
+        } finally {
+            this.consumer = null;
+            failure = null;
+        }
+    }
+
+    private static int x(MemoryAddress vector) {
+        return POSITION_BYTES == Integer.BYTES ? vector.get(ValueLayout.JAVA_INT, 0)
+                : (int) vector.get(ValueLayout.JAVA_LONG, 0);
+    }
+
+    private static int y(MemoryAddress vector) {
+        return POSITION_BYTES == Integer.BYTES ? vector.get(ValueLayout.JAVA_INT, POSITION_BYTES)
+                : (int) vector.get(ValueLayout.JAVA_LONG, POSITION_BYTES);
+    }
+
+    // Emitters, no exception may cross the native frames of FreeType
+
+    private int moveTo(MemoryAddress to, MemoryAddress user) {
+        try {
+            consumer.moveTo(x(to), y(to));
+            return 0;
+        } catch (Throwable e) {
+            failure = e;
+            return ABORT;
+        }
+    }
+
+    private int lineTo(MemoryAddress to, MemoryAddress user) {
+        try {
+            consumer.lineTo(x(to), y(to));
+            return 0;
+        } catch (Throwable e) {
+            failure = e;
+            return ABORT;
+        }
+    }
+
+    private int conicTo(MemoryAddress control, MemoryAddress to, MemoryAddress user) {
+        try {
+            consumer.conicTo(x(control), y(control), x(to), y(to));
+            return 0;
+        } catch (Throwable e) {
+            failure = e;
+            return ABORT;
+        }
+    }
+
+    private int cubicTo(MemoryAddress control1, MemoryAddress control2, MemoryAddress to, MemoryAddress user) {
+        try {
+            consumer.cubicTo(x(control1), y(control1), x(control2), y(control2), x(to), y(to));
+            return 0;
+        } catch (Throwable e) {
+            failure = e;
+            return ABORT;
+        }
+    }
+
+    /**
+     * Release the upcall stubs.
+     */
+    @Override
+    public void close() {
+        scope.close();
+    }
+}
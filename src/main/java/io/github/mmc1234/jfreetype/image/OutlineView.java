@@ -0,0 +1,203 @@
+package io.github.mmc1234.jfreetype.image;
+
+import jdk.incubator.foreign.MemoryAddress;
+import jdk.incubator.foreign.MemorySegment;
+import jdk.incubator.foreign.ResourceScope;
+import jdk.incubator.foreign.ValueLayout;
+
+import static io.github.mmc1234.jfreetype.util.LayoutBuilder.ALIGNED_LONG;
+
+/**
+ * A view of the arrays of an {@link FTOutline}: points, tags and contour ends are mapped as segments of native
+ * memory once, then read element by element or copied in bulk into primitive arrays the caller reuses.<br/>
+ * A view can be pointed at another outline with {@link #set}, so reading many glyphs allocates nothing. The segments
+ * are valid until FreeType changes the outline, e.g. on the next {@code FT_Load_Glyph} of the slot. Not thread-safe.
+ */
+public final class OutlineView {
+
+    // Coordinates are FT_Pos, a C long
+    private static final ValueLayout POSITION = ALIGNED_LONG;
+
+    private MemorySegment points;
+    private MemorySegment tags;
+    private MemorySegment contours;
+    private int pointCount;
+    private int contourCount;
+    private int flags;
+
+    /**
+     * Create an empty view.
+     */
+    public OutlineView() {
+        clear();
+    }
+
+    /**
+     * Create a view of an outline.
+     * @param outline an {@link FTOutline}, e.g. {@code FTGlyphSlot.OUTLINE} of a slot
+     * @return the view
+     */
+    public static OutlineView of(MemorySegment outline) {
+        return new OutlineView().set(outline);
+    }
+
+    /**
+     * Point the view at an outline.
+     * @param outline an {@link FTOutline}
+     * @return this view
+     */
+    public OutlineView set(MemorySegment outline) {
+        pointCount = Math.max(0, FTOutline.N_POINTS.get(outline));
+        contourCount = Math.max(0, FTOutline.N_CONTOURS.get(outline));
+        flags = FTOutline.FLAGS.get(outline);
+        if (pointCount == 0 || contourCount == 0) {
+            clear();
+            return this;
+        }
+        points = map(FTOutline.POINTS.get(outline), 2 * POSITION.byteSize() * pointCount);
+        tags = map(FTOutline.TAGS.get(outline), pointCount);
+        contours = map(FTOutline.CONTOURS.get(outline), ValueLayout.JAVA_SHORT.byteSize() * contourCount);
+        return this;
+    }
+
+    private void clear() {
+        points = tags = contours = MemorySegment.ofArray(new byte[0]);
+        pointCount = contourCount = 0;
+    }
+
+    private static MemorySegment map(MemoryAddress address, long bytes) {
+        return MemorySegment.ofAddress(address, bytes, ResourceScope.globalScope());
+    }
+
+    /**
+     * Get count of the points.
+     * @return count of the points
+     */
+    public int getPointCount() {
+        return pointCount;
+    }
+
+    /**
+     * Get count of the contours.
+     * @return count of the contours
+     */
+    public int getContourCount() {
+        return contourCount;
+    }
+
+    /**
+     * Get the flags of the outline.
+     * @return {@code FT_OUTLINE_XXX} flags
+     */
+    public int getFlags() {
+        return flags;
+    }
+
+    /**
+     * Get the points, pairs of (x, y) in 26.6 format.
+     * @return segment of the points
+     */
+    public MemorySegment getPoints() {
+        return points;
+    }
+
+    /**
+     * Get the tags, one byte per point.
+     * @return segment of the tags
+     */
+    public MemorySegment getTags() {
+        return tags;
+    }
+
+    /**
+     * Get the index of the last point of every contour, one short per contour.
+     * @return segment of the contour ends
+     */
+    public MemorySegment getContours() {
+        return contours;
+    }
+
+    /**
+     * Get x of a point.
+     * @param index index of the point
+     * @return x in 26.6 format
+     */
+    public int getX(int index) {
+        return getPosition(2 * index);
+    }
+
+    /**
+     * Get y of a point.
+     * @param index index of the point
+     * @return y in 26.6 format
+     */
+    public int getY(int index) {
+        return getPosition(2 * index + 1);
+    }
+
+    /**
+     * Get the tag of a point.
+     * @param index index of the point
+     * @return the tag, bit 0 is set on the curve
+     */
+    public byte getTag(int index) {
+        return tags.get(ValueLayout.JAVA_BYTE, index);
+    }
+
+    /**
+     * Get the last point of a contour.
+     * @param index index of the contour
+     * @return index of the point
+     */
+    public short getContourEnd(int index) {
+        return contours.getAtIndex(ValueLayout.JAVA_SHORT, index);
+    }
+
+    private int getPosition(int index) {
+        if (POSITION.byteSize() == Integer.BYTES)
+            return points.getAtIndex(ValueLayout.JAVA_INT, index);
+        return (int) points.getAtIndex(ValueLayout.JAVA_LONG, index);
+    }
+
+    /**
+     * Copy the points as (x, y) pairs.
+     * @param dest array of at least {@code offset + 2 * getPointCount()} elements
+     * @param offset index of the first x in the array
+     */
+    public void copyPoints(int[] dest, int offset) {
+        if (POSITION.byteSize() == Integer.BYTES) {
+            MemorySegment.copy(points, ValueLayout.JAVA_INT, 0, dest, offset, 2 * pointCount);
+        } else {
+            for (int i = 0; i < 2 * pointCount; i++)
+                dest[offset + i] = (int) points.getAtIndex(ValueLayout.JAVA_LONG, i);
+        }
+    }
+
+    /**
+     * Copy the points as (x, y) pairs in pixels.
+     * @param dest array of at least {@code offset + 2 * getPointCount()} elements
+     * @param offset index of the first x in the array
+     */
+    public void copyPoints(float[] dest, int offset) {
+        for (int i = 0; i < 2 * pointCount; i++)
+            dest[offset + i] = getPosition(i) / 64f;
+    }
+
+    /**
+     * Copy the tags.
+     * @param dest array of at least {@code offset + getPointCount()} elements
+     * @param offset index of the first tag in the array
+     */
+    public void copyTags(byte[] dest, int offset) {
+        MemorySegment.copy(tags, ValueLayout.JAVA_BYTE, 0, dest, offset, pointCount);
+    }
+
+    /**
+     * Copy the contour ends.
+     * @param dest array of at least {@code offset + getContourCount()} elements
+     * @param offset index of the first contour end in the array
+     */
+    public void copyContours(short[] dest, int offset) {
+        MemorySegment.copy(contours, ValueLayout.JAVA_SHORT, 0, dest, offset, contourCount);
+    }
+}
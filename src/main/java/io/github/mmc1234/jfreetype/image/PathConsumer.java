@@ -0,0 +1,42 @@
+package io.github.mmc1234.jfreetype.image;
+
+/**
+ * Receives the path operations of an outline, see {@link OutlineDecomposer}.<br/>
+ * Coordinates are in 26.6 format with y upwards. Every contour starts with {@link #moveTo} and is implicitly closed.
+ */
+public interface PathConsumer {
+
+    /**
+     * Start a contour.
+     * @param x x of the first point
+     * @param y y of the first point
+     */
+    void moveTo(int x, int y);
+
+    /**
+     * Add a line from the current point.
+     * @param x x of the end point
+     * @param y y of the end point
+     */
+    void lineTo(int x, int y);
+
+    /**
+     * Add a second-order Bezier arc from the current point.
+     * @param cx x of the control point
+     * @param cy y of the control point
+     * @param x x of the end point
+     * @param y y of the end point
+     */
+    void conicTo(int cx, int cy, int x, int y);
+
+    /**
+     * Add a third-order Bezier arc from the current point.
+     * @param c1x x of the first control point
+     * @param c1y y of the first control point
+     * @param c2x x of the second control point
+     * @param c2y y of the second control point
+     * @param x x of the end point
+     * @param y y of the end point
+     */
+    void cubicTo(int c1x, int c1y, int c2x, int c2y, int x, int y);
+}
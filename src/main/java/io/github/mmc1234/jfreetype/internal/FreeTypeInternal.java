@@ -1,22 +1,46 @@
 package io.github.mmc1234.jfreetype.internal;
 
+import java.lang.invoke.MethodHandles;
+
 import static io.github.mmc1234.jfreetype.internal.LibraryUtil.loadNative;
 
 public class FreeTypeInternal {
 
+    // Every handle is a static final field of a nested class, linked when the class is initialized
+    private static final Class<?>[] BINDINGS = {
+            VersionInternal.class,
+            BaseInterface.class,
+            UnicodeVariationSequences.class,
+            GlyphColorManagement.class,
+            GlyphLayerManagement.class,
+            GlyphManagement.class,
+            // TODO Mac Specific Interface
+            SizeManagement.class,
+            OutlineProcessing.class,
+            GlyphRunShim.class
+    };
+
+    /**
+     * Load the native library. Method handles are linked on their first call.
+     */
     public static boolean loadAll() {
         if(LibraryUtil.isLoaded()) return true;
         loadNative();
-        VersionInternal.loadMethodHandles();
-        BaseInterface.loadMethodHandles();
-        UnicodeVariationSequences.loadMethodHandles();
-        GlyphColorManagement.loadMethodHandles();
-        GlyphLayerManagement.loadMethodHandles();
-        GlyphManagement.loadMethodHandles();
-        // TODO Mac Specific Interface
-        SizeManagement.loadMethodHandles();
-
         return true;
     }
 
+    /**
+     * Link every method handle now, e.g. to find missing symbols at startup.
+     */
+    public static void linkAll() {
+        loadAll();
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            for (Class<?> binding : BINDINGS)
+                for (Class<?> holder : binding.getDeclaredClasses())
+                    lookup.ensureInitialized(holder);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package io.github.mmc1234.jfreetype.internal;
 
+import io.github.mmc1234.jfreetype.color.FTColor;
 import jdk.incubator.foreign.CLinker;
 import jdk.incubator.foreign.FunctionDescriptor;
 
@@ -9,14 +10,17 @@ import static io.github.mmc1234.jfreetype.internal.LibraryUtil.load;
 import static io.github.mmc1234.jfreetype.util.FunctionDescriptorUtils.of;
 
 public class GlyphColorManagement {
-    public static MethodHandle FT_PALETTE_DATA_GET;
-    public static MethodHandle FT_PALETTE_SELECT;
-    public static MethodHandle FT_PALETTE_SET_FOREGROUND_COLOR;
 
-    static void loadMethodHandles() {
-        FT_PALETTE_DATA_GET = load("FT_Palette_Data_Get", of("IAA"));
-        FT_PALETTE_SELECT = load("FT_Palette_Select", of("IASA"));
-        // FT_PALETTE_SET_FOREGROUND_COLOR = load("FT_Palette_Set_Foreground_Color", of("IA1"));
-        // TODO direct struct
+    public static final class FT_PALETTE_DATA_GET {
+        public static final MethodHandle HANDLE = load("FT_Palette_Data_Get", of("IAA"));
+    }
+
+    public static final class FT_PALETTE_SELECT {
+        public static final MethodHandle HANDLE = load("FT_Palette_Select", of("IASA"));
+    }
+
+    // FT_Color is passed by value
+    public static final class FT_PALETTE_SET_FOREGROUND_COLOR {
+        public static final MethodHandle HANDLE = load("FT_Palette_Set_Foreground_Color", of("IA0", FTColor.STRUCT_LAYOUT));
     }
 }
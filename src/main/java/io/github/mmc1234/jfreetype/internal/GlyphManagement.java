@@ -7,20 +7,32 @@ import static io.github.mmc1234.jfreetype.util.FunctionDescriptorUtils.of;
 import static io.github.mmc1234.jfreetype.util.FunctionDescriptorUtils.ofVoid;
 
 public class GlyphManagement {
-    public static MethodHandle FT_NEW_GLYPH;
-    public static MethodHandle FT_GET_GLYPH;
-    public static MethodHandle FT_GLYPH_COPY;
-    public static MethodHandle FT_GLYPH_TRANSFORM;
-    public static MethodHandle FT_GLYPH_GET_C_BOX;
-    public static MethodHandle FT_GLYPH_TO_BITMAP;
-    public static MethodHandle FT_DONE_GLYPH;
-    static void loadMethodHandles() {
-        FT_NEW_GLYPH = load("FT_New_Glyph", of("IAIA"));
-        FT_GET_GLYPH = load("FT_Get_Glyph", of("IAA"));
-        FT_GLYPH_COPY = load("FT_Glyph_Copy", of("IAA"));
-        FT_GLYPH_TRANSFORM = load("FT_Glyph_Transform", of("IAAA"));
-        FT_GLYPH_GET_C_BOX = load("FT_Glyph_Get_CBox", ofVoid("AIA"));
-        FT_GLYPH_TO_BITMAP = load("FT_Glyph_To_Bitmap", of("IAIAI"));
-        FT_DONE_GLYPH = load("FT_Done_Glyph", ofVoid("A"));
+
+    public static final class FT_NEW_GLYPH {
+        public static final MethodHandle HANDLE = load("FT_New_Glyph", of("IAIA"));
+    }
+
+    public static final class FT_GET_GLYPH {
+        public static final MethodHandle HANDLE = load("FT_Get_Glyph", of("IAA"));
+    }
+
+    public static final class FT_GLYPH_COPY {
+        public static final MethodHandle HANDLE = load("FT_Glyph_Copy", of("IAA"));
+    }
+
+    public static final class FT_GLYPH_TRANSFORM {
+        public static final MethodHandle HANDLE = load("FT_Glyph_Transform", of("IAAA"));
+    }
+
+    public static final class FT_GLYPH_GET_C_BOX {
+        public static final MethodHandle HANDLE = load("FT_Glyph_Get_CBox", ofVoid("AIA"));
+    }
+
+    public static final class FT_GLYPH_TO_BITMAP {
+        public static final MethodHandle HANDLE = load("FT_Glyph_To_Bitmap", of("IAIAI"));
+    }
+
+    public static final class FT_DONE_GLYPH {
+        public static final MethodHandle HANDLE = load("FT_Done_Glyph", ofVoid("A"));
     }
 }
@@ -0,0 +1,15 @@
+package io.github.mmc1234.jfreetype.internal;
+
+import java.lang.invoke.MethodHandle;
+
+import static io.github.mmc1234.jfreetype.internal.LibraryUtil.loadShim;
+import static io.github.mmc1234.jfreetype.internal.LibraryUtil.loadSilent;
+import static io.github.mmc1234.jfreetype.util.FunctionDescriptorUtils.of;
+
+public class GlyphRunShim {
+
+    // Null without the shim
+    public static final class JFT_RENDER_GLYPH_RUN {
+        public static final MethodHandle HANDLE = loadShim() ? loadSilent("jft_render_glyph_run", of("IAAIIIAAL")) : null;
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.mmc1234.jfreetype.internal;
 
+import io.github.mmc1234.jfreetype.util.DowncallStats;
 import jdk.incubator.foreign.CLinker;
 import jdk.incubator.foreign.FunctionDescriptor;
 import jdk.incubator.foreign.NativeSymbol;
@@ -13,11 +14,12 @@ import java.util.Optional;
 public class LibraryUtil {
 
     private static volatile boolean loaded = false;
+    private static Boolean shimLoaded;
 
     private static final SymbolLookup SYMBOL_LOOKUP = SymbolLookup.loaderLookup();
     private static final CLinker LINKER = CLinker.systemCLinker();
 
-    public static void loadNative() {
+    public static synchronized void loadNative() {
         if (loaded)
             return;
         String lib = System.getProperty("jfreetype.library");
@@ -25,6 +27,29 @@ public class LibraryUtil {
         loaded = true;
     }
 
+    /**
+     * Load the optional native shim of jfreetype from the path in {@code jfreetype.shim}, or from
+     * {@code jfreetype_shim.dll} ({@code libjfreetype_shim.so} on Linux) in the working directory.
+     * @return whether the shim is loaded
+     */
+    public static synchronized boolean loadShim() {
+        if (shimLoaded == null) {
+            loadNative();
+            String lib = System.getProperty("jfreetype.shim");
+            File file = new File(Objects.requireNonNullElse(lib, System.mapLibraryName("jfreetype_shim")));
+            boolean found = file.isFile();
+            if (found) {
+                try {
+                    System.load(file.getAbsolutePath());
+                } catch (UnsatisfiedLinkError e) {
+                    found = false;
+                }
+            }
+            shimLoaded = found;
+        }
+        return shimLoaded;
+    }
+
     protected static boolean isLoaded() {
         return loaded;
     }
@@ -37,13 +62,33 @@ public class LibraryUtil {
         return SYMBOL_LOOKUP.lookup(name);
     }
 
+    /**
+     * Link a downcall handle. Called by the holder classes of the bindings, so a symbol is linked
+     * on the first call of its function.
+     */
     public static MethodHandle load(String name, FunctionDescriptor fd) {
-        return LINKER.downcallHandle(getNativeSymbol(name), fd);
+        loadNative();
+        return instrument(name, LINKER.downcallHandle(getNativeSymbol(name), fd));
+    }
+
+    /**
+     * Link a downcall handle of a short function that neither blocks nor calls back into Java.
+     * The incubator linker has no critical linkage, so this is the same as {@link #load}, the
+     * java.lang.foreign backend in {@code src/ffm} links these functions as critical.
+     */
+    public static MethodHandle loadCritical(String name, FunctionDescriptor fd) {
+        return load(name, fd);
     }
 
     public static MethodHandle loadSilent(String name, FunctionDescriptor fd) {
+        loadNative();
         Optional<NativeSymbol> symbol =  getNativeSymbolSilent(name);
-        return symbol.map(nativeSymbol -> LINKER.downcallHandle(nativeSymbol, fd)).orElse(null);
+        return symbol.map(nativeSymbol -> instrument(name, LINKER.downcallHandle(nativeSymbol, fd))).orElse(null);
+    }
+
+    // Without -Djfreetype.instrument=true the plain handle is used, so calls cost nothing more
+    private static MethodHandle instrument(String name, MethodHandle handle) {
+        return DowncallStats.isEnabled() ? DowncallStats.instrument(name, handle) : handle;
     }
 
     public static RuntimeException rethrow(Throwable e) {
@@ -0,0 +1,13 @@
+package io.github.mmc1234.jfreetype.internal;
+
+import java.lang.invoke.MethodHandle;
+
+import static io.github.mmc1234.jfreetype.internal.LibraryUtil.load;
+import static io.github.mmc1234.jfreetype.util.FunctionDescriptorUtils.of;
+
+public class OutlineProcessing {
+
+    public static final class FT_OUTLINE_DECOMPOSE {
+        public static final MethodHandle HANDLE = load("FT_Outline_Decompose", of("IAAA"));
+    }
+}
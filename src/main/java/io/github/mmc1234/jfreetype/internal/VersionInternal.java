@@ -6,9 +6,8 @@ import static io.github.mmc1234.jfreetype.internal.LibraryUtil.load;
 import static io.github.mmc1234.jfreetype.util.FunctionDescriptorUtils.ofVoid;
 
 public class VersionInternal {
-    public static MethodHandle FT_LIBRARY_VERSION;
 
-    static void loadMethodHandles() {
-        FT_LIBRARY_VERSION = load("FT_Library_Version", ofVoid("AAAA"));
+    public static final class FT_LIBRARY_VERSION {
+        public static final MethodHandle HANDLE = load("FT_Library_Version", ofVoid("AAAA"));
     }
 }
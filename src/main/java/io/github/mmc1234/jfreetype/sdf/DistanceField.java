@@ -0,0 +1,42 @@
+package io.github.mmc1234.jfreetype.sdf;
+
+/**
+ * A signed distance field of a glyph, 8 bits per channel, rows from top to bottom.<br/>
+ * Values are encoded like {@code FT_RENDER_MODE_SDF}: 128 is on the outline, 255 is inside at the spread or farther
+ * and 0 is outside at the spread or farther. A multi-channel field has three interleaved channels whose median
+ * is the distance, keeping corners sharp when the field is scaled up.
+ *
+ * @param width width in pixels
+ * @param height height in pixels
+ * @param channels 1 for a single channel field, 3 for a multi-channel one
+ * @param left distance from the origin to the left column in pixels, like {@code bitmap_left}
+ * @param top distance from the baseline to the top row in pixels, upwards, like {@code bitmap_top}
+ * @param spread distance in pixels mapped to the full range of values
+ * @param pixels values, {@code width * channels} bytes per row
+ */
+public record DistanceField(int width, int height, int channels, int left, int top, int spread, byte[] pixels) {
+
+    /**
+     * Get a value.
+     * @param x column
+     * @param y row
+     * @param channel channel, 0 for a single channel field
+     * @return value from 0 to 255
+     */
+    public int get(int x, int y, int channel) {
+        return pixels[(y * width + x) * channels + channel] & 0xFF;
+    }
+
+    /**
+     * Get the distance at a pixel, the median of the channels of a multi-channel field.
+     * @param x column
+     * @param y row
+     * @return value from 0 to 255
+     */
+    public int getDistance(int x, int y) {
+        if (channels == 1)
+            return get(x, y, 0);
+        int r = get(x, y, 0), g = get(x, y, 1), b = get(x, y, 2);
+        return Math.max(Math.min(r, g), Math.min(Math.max(r, g), b));
+    }
+}
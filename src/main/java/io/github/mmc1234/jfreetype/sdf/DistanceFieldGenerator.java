@@ -0,0 +1,229 @@
+package io.github.mmc1234.jfreetype.sdf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes signed distance fields of {@link GlyphShape}s in Java, in parallel with fork-join: glyphs are computed
+ * at the same time, and the rows of a large glyph are split into tiles computed at the same time too.<br/>
+ * A single channel field uses the true distance to the outline, signed by the fill rule. A multi-channel field
+ * uses, for every channel, the distance to the edges of that channel signed by the side of the nearest edge, as
+ * described by Chlumsky; pixels whose median disagrees with the fill rule fall back to the true distance.<br/>
+ * Thread-safe.
+ */
+public final class DistanceFieldGenerator {
+
+    // Pixels computed by one task before it stops splitting
+    private static final int TILE_PIXELS = 1024;
+
+    private final ForkJoinPool pool;
+    private final int spread;
+
+    /**
+     * Create a generator running on the common pool.
+     * @param spread distance in pixels mapped to the full range of values
+     */
+    public DistanceFieldGenerator(int spread) {
+        this(ForkJoinPool.commonPool(), spread);
+    }
+
+    /**
+     * Create a generator.
+     * @param pool pool running the tasks
+     * @param spread distance in pixels mapped to the full range of values
+     */
+    public DistanceFieldGenerator(ForkJoinPool pool, int spread) {
+        if (spread <= 0)
+            throw new IllegalArgumentException("Invalid spread: " + spread);
+        this.pool = pool;
+        this.spread = spread;
+    }
+
+    /**
+     * Compute a single channel field.
+     * @param shape a shape
+     * @return the field
+     */
+    public DistanceField generateSdf(GlyphShape shape) {
+        return generate(shape, 1);
+    }
+
+    /**
+     * Compute a multi-channel field.
+     * @param shape a shape
+     * @return the field
+     */
+    public DistanceField generateMsdf(GlyphShape shape) {
+        return generate(shape, 3);
+    }
+
+    /**
+     * Compute fields of several shapes at the same time.
+     * @param shapes shapes
+     * @param multiChannel true for multi-channel fields
+     * @return fields, in the order of the shapes
+     */
+    public List<DistanceField> generateAll(List<GlyphShape> shapes, boolean multiChannel) {
+        List<FieldTask> tasks = new ArrayList<>(shapes.size());
+        for (GlyphShape shape : shapes)
+            tasks.add(newTask(shape, multiChannel ? 3 : 1));
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                ForkJoinTask.invokeAll(tasks);
+            }
+        });
+        List<DistanceField> fields = new ArrayList<>(tasks.size());
+        for (FieldTask task : tasks)
+            fields.add(task.field);
+        return fields;
+    }
+
+    private DistanceField generate(GlyphShape shape, int channels) {
+        FieldTask task = newTask(shape, channels);
+        pool.invoke(task);
+        return task.field;
+    }
+
+    private FieldTask newTask(GlyphShape shape, int channels) {
+        if (shape.isEmpty())
+            return new FieldTask(shape, new DistanceField(0, 0, channels, 0, 0, spread, new byte[0]), 0, 0);
+        int left = (int) Math.floor(shape.getMinX()) - spread;
+        int right = (int) Math.ceil(shape.getMaxX()) + spread;
+        int bottom = (int) Math.floor(shape.getMinY()) - spread;
+        int top = (int) Math.ceil(shape.getMaxY()) + spread;
+        int width = right - left, height = top - bottom;
+        DistanceField field = new DistanceField(width, height, channels, left, top, spread,
+                new byte[width * height * channels]);
+        return new FieldTask(shape, field, 0, height);
+    }
+
+    // Rows from start to end - 1 of a field, split in halves until they are small enough
+    private final class FieldTask extends RecursiveAction {
+
+        private final GlyphShape shape;
+        private final DistanceField field;
+        private final int start;
+        private final int end;
+        // Per channel values of the nearest segment, allocated by leaf tasks of multi-channel fields
+        private double[] nearest;
+        // Orthogonality of the nearest segment, breaking ties at shared end points
+        private double[] orthogonality;
+        private double[] signed;
+
+        FieldTask(GlyphShape shape, DistanceField field, int start, int end) {
+            this.shape = shape;
+            this.field = field;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if ((long) (end - start) * field.width() > TILE_PIXELS && end - start > 1) {
+                int middle = (start + end) >>> 1;
+                invokeAll(new FieldTask(shape, field, start, middle), new FieldTask(shape, field, middle, end));
+                return;
+            }
+            if (field.channels() == 3) {
+                nearest = new double[3];
+                orthogonality = new double[3];
+                signed = new double[3];
+            }
+            for (int row = start; row < end; row++) {
+                float y = field.top() - row - 0.5f;
+                for (int column = 0; column < field.width(); column++) {
+                    float x = field.left() + column + 0.5f;
+                    int offset = (row * field.width() + column) * field.channels();
+                    if (field.channels() == 1)
+                        computeSdf(x, y, field.pixels(), offset);
+                    else
+                        computeMsdf(x, y, field.pixels(), offset);
+                }
+            }
+        }
+
+        private void computeSdf(float x, float y, byte[] pixels, int offset) {
+            float[] segments = shape.segments;
+            double nearest = Double.POSITIVE_INFINITY;
+            for (int i = 0, o = 0; i < shape.segmentCount; i++, o += 4)
+                nearest = Math.min(nearest, distanceSquared(segments, o, x, y));
+            double distance = Math.sqrt(nearest);
+            pixels[offset] = encode(isInside(x, y) ? distance : -distance);
+        }
+
+        private void computeMsdf(float x, float y, byte[] pixels, int offset) {
+            float[] segments = shape.segments;
+            int[] colors = shape.colors;
+            double[] nearest = this.nearest, orthogonality = this.orthogonality, signed = this.signed;
+            Arrays.fill(nearest, Double.POSITIVE_INFINITY);
+            Arrays.fill(orthogonality, 0);
+            Arrays.fill(signed, 0);
+            for (int i = 0, o = 0; i < shape.segmentCount; i++, o += 4) {
+                double squared = distanceSquared(segments, o, x, y);
+                double dx = segments[o + 2] - segments[o], dy = segments[o + 3] - segments[o + 1];
+                double length = Math.sqrt(dx * dx + dy * dy);
+                double cross = length == 0 ? 0 : (dx * (y - segments[o + 1]) - dy * (x - segments[o])) / length;
+                double distance = Math.sqrt(squared);
+                double ortho = distance == 0 ? 1 : Math.abs(cross) / distance;
+                for (int channel = 0; channel < 3; channel++) {
+                    if ((colors[i] & 1 << channel) == 0)
+                        continue;
+                    if (squared < nearest[channel] - 1e-9
+                            || (squared <= nearest[channel] + 1e-9 && ortho > orthogonality[channel])) {
+                        nearest[channel] = squared;
+                        orthogonality[channel] = ortho;
+                        // Left of a segment is inside for counterclockwise contours
+                        signed[channel] = cross * shape.orientation > 0 ? distance : -distance;
+                    }
+                }
+            }
+            boolean inside = isInside(x, y);
+            double median = Math.max(Math.min(signed[0], signed[1]), Math.min(Math.max(signed[0], signed[1]), signed[2]));
+            if ((median > 0) != inside) {
+                double distance = Math.sqrt(Math.min(nearest[0], Math.min(nearest[1], nearest[2])));
+                byte value = encode(inside ? distance : -distance);
+                pixels[offset] = pixels[offset + 1] = pixels[offset + 2] = value;
+                return;
+            }
+            for (int channel = 0; channel < 3; channel++)
+                pixels[offset + channel] = encode(signed[channel]);
+        }
+
+        // Crossings of a ray to the right, counted by direction for the non-zero rule
+        private boolean isInside(float x, float y) {
+            float[] segments = shape.segments;
+            int winding = 0;
+            for (int i = 0, o = 0; i < shape.segmentCount; i++, o += 4) {
+                float x0 = segments[o], y0 = segments[o + 1], x1 = segments[o + 2], y1 = segments[o + 3];
+                if ((y0 <= y) == (y1 <= y))
+                    continue;
+                float side = (x1 - x0) * (y - y0) - (x - x0) * (y1 - y0);
+                if (y0 <= y && side > 0)
+                    winding++;
+                else if (y1 <= y && side < 0)
+                    winding--;
+            }
+            return shape.evenOdd ? (winding & 1) != 0 : winding != 0;
+        }
+
+        private byte encode(double distance) {
+            long value = Math.round(128 + distance * 128 / spread);
+            return (byte) Math.max(0, Math.min(255, value));
+        }
+    }
+
+    private static double distanceSquared(float[] segments, int o, float x, float y) {
+        double x0 = segments[o], y0 = segments[o + 1];
+        double dx = segments[o + 2] - x0, dy = segments[o + 3] - y0;
+        double px = x - x0, py = y - y0;
+        double lengthSquared = dx * dx + dy * dy;
+        double t = lengthSquared == 0 ? 0 : Math.max(0, Math.min(1, (px * dx + py * dy) / lengthSquared));
+        double ex = px - t * dx, ey = py - t * dy;
+        return ex * ex + ey * ey;
+    }
+}
@@ -0,0 +1,446 @@
+package io.github.mmc1234.jfreetype.sdf;
+
+import io.github.mmc1234.jfreetype.image.FTOutline;
+import io.github.mmc1234.jfreetype.image.OutlineView;
+import jdk.incubator.foreign.MemorySegment;
+
+import java.util.Arrays;
+
+/**
+ * Outline of a glyph copied to the heap, with curves flattened into line segments, so that distance fields
+ * are computed without touching native memory and from any thread.<br/>
+ * Coordinates are in pixels with y upwards, like {@link FTOutline} points divided by 64. Every segment remembers
+ * the edge (line, conic or cubic of the outline) it comes from, and every edge has a color for multi-channel fields:
+ * a mask of red (1), green (2) and blue (4) with at least two channels, switched at the corners of the contours.
+ */
+public final class GlyphShape {
+
+    static final int RED = 1, GREEN = 2, BLUE = 4;
+    static final int CYAN = GREEN | BLUE, MAGENTA = RED | BLUE, YELLOW = RED | GREEN, WHITE = RED | GREEN | BLUE;
+
+    // sin of the smallest angle between two edges taken as a corner, about 3 degrees
+    private static final double CORNER_SINE = 0.05;
+    // Maximum distance between a curve and its segments in pixels
+    private static final double TOLERANCE = 0.05;
+
+    // (x0, y0, x1, y1) of the segments
+    final float[] segments;
+    final int segmentCount;
+    // Color of the edge of every segment
+    final int[] colors;
+    final boolean evenOdd;
+    // 1 if filled contours turn counterclockwise, -1 if they turn clockwise
+    final int orientation;
+    private final float minX, minY, maxX, maxY;
+
+    private GlyphShape(float[] segments, int segmentCount, int[] colors, boolean evenOdd) {
+        this.segments = segments;
+        this.segmentCount = segmentCount;
+        this.colors = colors;
+        this.evenOdd = evenOdd;
+        float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY;
+        double area = 0;
+        for (int i = 0; i < segmentCount; i++) {
+            int o = i * 4;
+            minX = Math.min(minX, Math.min(segments[o], segments[o + 2]));
+            maxX = Math.max(maxX, Math.max(segments[o], segments[o + 2]));
+            minY = Math.min(minY, Math.min(segments[o + 1], segments[o + 3]));
+            maxY = Math.max(maxY, Math.max(segments[o + 1], segments[o + 3]));
+            area += (double) segments[o] * segments[o + 3] - (double) segments[o + 2] * segments[o + 1];
+        }
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        orientation = area < 0 ? -1 : 1;
+    }
+
+    /**
+     * Copy an outline, e.g. {@code FTGlyphSlot.OUTLINE} of a glyph loaded with {@code FT_LOAD_NO_BITMAP}.
+     * @param outline an {@link FTOutline}
+     * @return the shape of the outline
+     */
+    public static GlyphShape of(MemorySegment outline) {
+        return of(OutlineView.of(outline));
+    }
+
+    /**
+     * Copy an outline.
+     * @param outline view of an outline
+     * @return the shape of the outline
+     */
+    public static GlyphShape of(OutlineView outline) {
+        int contourCount = outline.getContourCount();
+        int pointCount = outline.getPointCount();
+        Builder builder = new Builder();
+        if (contourCount == 0 || pointCount == 0)
+            return builder.build();
+        builder.evenOdd = (outline.getFlags() & FTOutline.FT_OUTLINE_EVEN_ODD_FILL) != 0;
+        float[] points = new float[2 * pointCount];
+        outline.copyPoints(points, 0);
+        byte[] tags = new byte[pointCount];
+        outline.copyTags(tags, 0);
+        short[] ends = new short[contourCount];
+        outline.copyContours(ends, 0);
+
+        int first = 0;
+        for (int c = 0; c < contourCount; c++) {
+            int last = ends[c];
+            if (last < first || last >= pointCount)
+                throw new IllegalArgumentException("Invalid contour end: " + last);
+            addContour(builder, points, tags, first, last);
+            first = last + 1;
+        }
+        return builder.build();
+    }
+
+    // Tags: bit 0 on the curve, bit 1 third order control point if off the curve
+    private static void addContour(Builder builder, float[] points, byte[] tags, int first, int last) {
+        int count = last - first + 1;
+        // Start on a point on the curve, or between two conic control points
+        int start = -1;
+        for (int i = first; i <= last; i++)
+            if ((tags[i] & 1) != 0) {
+                start = i;
+                break;
+            }
+        float startX, startY;
+        if (start < 0) {
+            startX = (points[2 * last] + points[2 * first]) / 2;
+            startY = (points[2 * last + 1] + points[2 * first + 1]) / 2;
+            start = first;
+            count++;
+        } else {
+            startX = points[2 * start];
+            startY = points[2 * start + 1];
+            start++;
+            if (start > last)
+                start = first;
+        }
+        builder.moveTo(startX, startY);
+        float controlX = 0, controlY = 0, control2X = 0, control2Y = 0;
+        int controls = 0;
+        boolean cubic = false;
+        for (int n = 1; n <= count; n++) {
+            int i = first + (start - first + n - 1) % (last - first + 1);
+            float x = n == count ? startX : points[2 * i], y = n == count ? startY : points[2 * i + 1];
+            int tag = n == count ? 1 : tags[i];
+            if ((tag & 1) != 0) {
+                if (controls == 0)
+                    builder.lineTo(x, y);
+                else if (cubic)
+                    builder.cubicTo(controlX, controlY, control2X, control2Y, x, y);
+                else
+                    builder.quadTo(controlX, controlY, x, y);
+                controls = 0;
+            } else if ((tag & 2) != 0) {
+                if (controls == 0) {
+                    controlX = x;
+                    controlY = y;
+                } else {
+                    control2X = x;
+                    control2Y = y;
+                }
+                controls++;
+                cubic = true;
+            } else {
+                if (controls > 0 && !cubic)
+                    builder.quadTo(controlX, controlY, (controlX + x) / 2, (controlY + y) / 2);
+                controlX = x;
+                controlY = y;
+                controls = 1;
+                cubic = false;
+            }
+        }
+        builder.close();
+    }
+
+    /**
+     * Get count of the line segments.
+     * @return count of the segments
+     */
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+
+    /**
+     * Check whether the shape has no segment.
+     * @return true if nothing is drawn
+     */
+    public boolean isEmpty() {
+        return segmentCount == 0;
+    }
+
+    /**
+     * Get the smallest x of the segments.
+     * @return x in pixels
+     */
+    public float getMinX() {
+        return minX;
+    }
+
+    /**
+     * Get the smallest y of the segments.
+     * @return y in pixels
+     */
+    public float getMinY() {
+        return minY;
+    }
+
+    /**
+     * Get the largest x of the segments.
+     * @return x in pixels
+     */
+    public float getMaxX() {
+        return maxX;
+    }
+
+    /**
+     * Get the largest y of the segments.
+     * @return y in pixels
+     */
+    public float getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * Builds a shape from path operations, in pixels with y upwards. Contours are closed by {@link #close()} or by
+     * the next {@link #moveTo}.
+     */
+    public static final class Builder {
+
+        private float[] segments = new float[64 * 4];
+        private int[] edges = new int[64];
+        private int count;
+        private int edgeCount;
+        private boolean evenOdd;
+        // Colors of the edges, and their tangents at the start and the end
+        private int[] colors = new int[16];
+        private float[] tangents = new float[16 * 4];
+        private int contourEdge = -1;
+        private float startX, startY, x, y;
+
+        /**
+         * Fill with the even-odd rule instead of the non-zero rule.
+         * @param evenOdd true for the even-odd rule
+         * @return the builder
+         */
+        public Builder evenOdd(boolean evenOdd) {
+            this.evenOdd = evenOdd;
+            return this;
+        }
+
+        /**
+         * Start a contour.
+         * @param x x of the first point
+         * @param y y of the first point
+         * @return the builder
+         */
+        public Builder moveTo(float x, float y) {
+            close();
+            contourEdge = edgeCount;
+            startX = this.x = x;
+            startY = this.y = y;
+            return this;
+        }
+
+        /**
+         * Add a line.
+         * @param x x of the end point
+         * @param y y of the end point
+         * @return the builder
+         */
+        public Builder lineTo(float x, float y) {
+            checkContour();
+            if (x == this.x && y == this.y)
+                return this;
+            int edge = newEdge(x - this.x, y - this.y, x - this.x, y - this.y);
+            addSegment(edge, this.x, this.y, x, y);
+            this.x = x;
+            this.y = y;
+            return this;
+        }
+
+        /**
+         * Add a conic Bézier curve.
+         * @param cx x of the control point
+         * @param cy y of the control point
+         * @param x x of the end point
+         * @param y y of the end point
+         * @return the builder
+         */
+        public Builder quadTo(float cx, float cy, float x, float y) {
+            checkContour();
+            float x0 = this.x, y0 = this.y;
+            double deviation = Math.hypot(x0 - 2 * cx + x, y0 - 2 * cy + y) / 4;
+            int steps = Math.max(1, (int) Math.ceil(Math.sqrt(deviation / TOLERANCE)));
+            int edge = newEdge(cx == x0 && cy == y0 ? x - x0 : cx - x0, cx == x0 && cy == y0 ? y - y0 : cy - y0,
+                    cx == x && cy == y ? x - x0 : x - cx, cx == x && cy == y ? y - y0 : y - cy);
+            float px = x0, py = y0;
+            for (int i = 1; i <= steps; i++) {
+                float t = (float) i / steps, u = 1 - t;
+                float nx = i == steps ? x : u * u * x0 + 2 * u * t * cx + t * t * x;
+                float ny = i == steps ? y : u * u * y0 + 2 * u * t * cy + t * t * y;
+                addSegment(edge, px, py, nx, ny);
+                px = nx;
+                py = ny;
+            }
+            this.x = x;
+            this.y = y;
+            return this;
+        }
+
+        /**
+         * Add a cubic Bézier curve.
+         * @param c1x x of the first control point
+         * @param c1y y of the first control point
+         * @param c2x x of the second control point
+         * @param c2y y of the second control point
+         * @param x x of the end point
+         * @param y y of the end point
+         * @return the builder
+         */
+        public Builder cubicTo(float c1x, float c1y, float c2x, float c2y, float x, float y) {
+            checkContour();
+            float x0 = this.x, y0 = this.y;
+            double deviation = 0.75 * Math.max(Math.hypot(x0 - 2 * c1x + c2x, y0 - 2 * c1y + c2y),
+                    Math.hypot(c1x - 2 * c2x + x, c1y - 2 * c2y + y));
+            int steps = Math.max(1, (int) Math.ceil(Math.sqrt(deviation / TOLERANCE)));
+            float startDx = c1x - x0, startDy = c1y - y0, endDx = x - c2x, endDy = y - c2y;
+            if (startDx == 0 && startDy == 0) {
+                startDx = c2x - x0;
+                startDy = c2y - y0;
+            }
+            if (endDx == 0 && endDy == 0) {
+                endDx = x - c1x;
+                endDy = y - c1y;
+            }
+            int edge = newEdge(startDx, startDy, endDx, endDy);
+            float px = x0, py = y0;
+            for (int i = 1; i <= steps; i++) {
+                float t = (float) i / steps, u = 1 - t;
+                float nx = i == steps ? x : u * u * u * x0 + 3 * u * u * t * c1x + 3 * u * t * t * c2x + t * t * t * x;
+                float ny = i == steps ? y : u * u * u * y0 + 3 * u * u * t * c1y + 3 * u * t * t * c2y + t * t * t * y;
+                addSegment(edge, px, py, nx, ny);
+                px = nx;
+                py = ny;
+            }
+            this.x = x;
+            this.y = y;
+            return this;
+        }
+
+        /**
+         * Close the current contour with a line back to its first point, if it is open.
+         * @return the builder
+         */
+        public Builder close() {
+            if (contourEdge < 0)
+                return this;
+            lineTo(startX, startY);
+            colorContour(contourEdge, edgeCount);
+            contourEdge = -1;
+            return this;
+        }
+
+        /**
+         * Create the shape.
+         * @return the shape
+         */
+        public GlyphShape build() {
+            close();
+            int[] segmentColors = new int[count];
+            for (int i = 0; i < count; i++)
+                segmentColors[i] = colors[edges[i]];
+            return new GlyphShape(Arrays.copyOf(segments, count * 4), count, segmentColors, evenOdd);
+        }
+
+        private void checkContour() {
+            if (contourEdge < 0)
+                throw new IllegalStateException("No contour, call moveTo first");
+        }
+
+        private int newEdge(float startDx, float startDy, float endDx, float endDy) {
+            if (edgeCount == colors.length) {
+                colors = Arrays.copyOf(colors, edgeCount * 2);
+                tangents = Arrays.copyOf(tangents, edgeCount * 8);
+            }
+            tangents[edgeCount * 4] = startDx;
+            tangents[edgeCount * 4 + 1] = startDy;
+            tangents[edgeCount * 4 + 2] = endDx;
+            tangents[edgeCount * 4 + 3] = endDy;
+            return edgeCount++;
+        }
+
+        private void addSegment(int edge, float x0, float y0, float x1, float y1) {
+            if (count == edges.length) {
+                segments = Arrays.copyOf(segments, count * 8);
+                edges = Arrays.copyOf(edges, count * 2);
+            }
+            int o = count * 4;
+            segments[o] = x0;
+            segments[o + 1] = y0;
+            segments[o + 2] = x1;
+            segments[o + 3] = y1;
+            edges[count++] = edge;
+        }
+
+        // Edges from first to end - 1 form a closed contour, the color changes at every corner
+        private void colorContour(int first, int end) {
+            int edgeCount = end - first;
+            if (edgeCount == 0)
+                return;
+            int corners = 0, firstCorner = -1;
+            boolean[] corner = new boolean[edgeCount];
+            for (int i = 0; i < edgeCount; i++) {
+                int previous = first + (i + edgeCount - 1) % edgeCount, current = first + i;
+                if (isCorner(previous, current)) {
+                    corner[i] = true;
+                    corners++;
+                    if (firstCorner < 0)
+                        firstCorner = i;
+                }
+            }
+            if (corners == 0) {
+                // Smooth contour, every channel sees every edge
+                Arrays.fill(colors, first, end, WHITE);
+            } else if (corners == 1) {
+                // Teardrop, split the contour in three parts so that the corner keeps two colors
+                int[] parts = {MAGENTA, WHITE, YELLOW};
+                for (int i = 0; i < edgeCount; i++)
+                    colors[first + (firstCorner + i) % edgeCount] = parts[Math.min(2, i * 3 / edgeCount)];
+            } else {
+                int[] cycle = {CYAN, MAGENTA, YELLOW};
+                int color = -1;
+                for (int i = 0; i < edgeCount; i++) {
+                    int index = (firstCorner + i) % edgeCount;
+                    if (corner[index]) {
+                        color++;
+                        // The last part must not have the color of the first one
+                        if (color % 3 == 0 && color > 0 && isLastPart(corner, firstCorner, i, edgeCount))
+                            color++;
+                    }
+                    colors[first + index] = cycle[color % 3];
+                }
+            }
+        }
+
+        private static boolean isLastPart(boolean[] corner, int firstCorner, int i, int edgeCount) {
+            for (int j = i + 1; j < edgeCount; j++)
+                if (corner[(firstCorner + j) % edgeCount])
+                    return false;
+            return true;
+        }
+
+        private boolean isCorner(int previous, int current) {
+            double ax = tangents[previous * 4 + 2], ay = tangents[previous * 4 + 3];
+            double bx = tangents[current * 4], by = tangents[current * 4 + 1];
+            double lengths = Math.hypot(ax, ay) * Math.hypot(bx, by);
+            if (lengths == 0)
+                return false;
+            double dot = (ax * bx + ay * by) / lengths, cross = (ax * by - ay * bx) / lengths;
+            return dot <= 0 || Math.abs(cross) > CORNER_SINE;
+        }
+    }
+}
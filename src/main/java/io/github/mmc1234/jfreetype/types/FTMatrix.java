@@ -0,0 +1,58 @@
+package io.github.mmc1234.jfreetype.types;
+
+import io.github.mmc1234.jfreetype.struct.LongField;
+import io.github.mmc1234.jfreetype.util.LayoutBuilder;
+import jdk.incubator.foreign.MemoryLayout;
+
+/**
+ * A simple structure used to store a 2x2 matrix. Coefficients are in 16.16 fixed-point format.
+ * The computation performed is:
+ * <pre>{@code
+ *   x' = x*xx + y*xy
+ *   y' = x*yx + y*yy
+ * }</pre>
+ *
+ * @implNote In freetype/fttypes.h
+ * <pre>{@code
+ *   typedef struct FT_Matrix_
+ *   {
+ *     FT_Fixed  xx, xy;
+ *     FT_Fixed  yx, yy;
+ *   } FT_Matrix;
+ * }</pre>
+ */
+public final class FTMatrix {
+
+    public static final MemoryLayout STRUCT_LAYOUT;
+    public static final MemoryLayout SEQUENCE_LAYOUT;
+
+    /**
+     * Matrix coefficient.
+     */
+    public static final LongField XX;
+
+    /**
+     * Matrix coefficient.
+     */
+    public static final LongField XY;
+
+    /**
+     * Matrix coefficient.
+     */
+    public static final LongField YX;
+
+    /**
+     * Matrix coefficient.
+     */
+    public static final LongField YY;
+
+    static {
+        LayoutBuilder builder = new LayoutBuilder("LLLL", new String[]{"xx", "xy", "yx", "yy"});
+        STRUCT_LAYOUT = builder.getGroupLayout();
+        SEQUENCE_LAYOUT = builder.getSequenceLayout();
+        XX = builder.newLong("xx");
+        XY = builder.newLong("xy");
+        YX = builder.newLong("yx");
+        YY = builder.newLong("yy");
+    }
+}
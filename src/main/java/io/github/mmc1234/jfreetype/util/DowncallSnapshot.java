@@ -0,0 +1,21 @@
+package io.github.mmc1234.jfreetype.util;
+
+/**
+ * Statistics of the calls of one FreeType function, see {@link DowncallStats}.
+ *
+ * @param name name of the native function
+ * @param count count of the calls
+ * @param totalNanos total time of the calls in nanoseconds
+ * @param p50Nanos median time of a call in nanoseconds
+ * @param p99Nanos 99th percentile of the time of a call in nanoseconds
+ */
+public record DowncallSnapshot(String name, long count, long totalNanos, long p50Nanos, long p99Nanos) {
+
+    /**
+     * Get the mean time of a call.
+     * @return mean time in nanoseconds, 0 without calls
+     */
+    public long meanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+}
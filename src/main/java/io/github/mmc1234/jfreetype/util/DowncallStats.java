@@ -0,0 +1,210 @@
+package io.github.mmc1234.jfreetype.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Counts and times the calls of FreeType functions.<br/>
+ * Instrumentation is enabled with {@code -Djfreetype.instrument=true}. Handles are then wrapped when they are
+ * linked, otherwise the plain handles are used and nothing is recorded. Each thread records into its own counters,
+ * so a snapshot taken while other threads are calling may miss their latest calls.
+ * Times are kept in log-linear buckets with a relative error below 1/16.
+ */
+public final class DowncallStats {
+
+    private static final boolean ENABLED = Boolean.getBoolean("jfreetype.instrument");
+
+    // 16 buckets for each power of two, values below 32 are exact
+    private static final int SUB_BITS = 4;
+    private static final int MAX_SHIFT = 40;
+    private static final int BUCKETS = (MAX_SHIFT + 2) << SUB_BITS;
+
+    private static final Map<String, Binding> BINDINGS = new ConcurrentHashMap<>();
+
+    private static final MethodHandle NANO_TIME;
+    private static final MethodHandle EXIT_VOID;
+    private static final MethodHandle EXIT_INT;
+    private static final MethodHandle EXIT_LONG;
+    private static final MethodHandle EXIT_OBJECT;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            NANO_TIME = lookup.findStatic(System.class, "nanoTime", MethodType.methodType(long.class));
+            EXIT_VOID = lookup.findStatic(DowncallStats.class, "exit",
+                    MethodType.methodType(void.class, Binding.class, Throwable.class, long.class));
+            EXIT_INT = lookup.findStatic(DowncallStats.class, "exit",
+                    MethodType.methodType(int.class, Binding.class, Throwable.class, int.class, long.class));
+            EXIT_LONG = lookup.findStatic(DowncallStats.class, "exit",
+                    MethodType.methodType(long.class, Binding.class, Throwable.class, long.class, long.class));
+            EXIT_OBJECT = lookup.findStatic(DowncallStats.class, "exit",
+                    MethodType.methodType(Object.class, Binding.class, Throwable.class, Object.class, long.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private DowncallStats() {
+    }
+
+    /**
+     * Check whether handles are instrumented when they are linked.
+     * @return whether {@code jfreetype.instrument} is true
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Wrap a handle so that its calls are counted and timed. The type of the handle is kept,
+     * so it can still be called with {@code invokeExact}.
+     * @param name name of the native function
+     * @param target handle to wrap
+     * @return the wrapped handle
+     */
+    public static MethodHandle instrument(String name, MethodHandle target) {
+        Binding binding = BINDINGS.computeIfAbsent(name, Binding::new);
+        Class<?> returnType = target.type().returnType();
+        MethodHandle exit;
+        if (returnType == void.class)
+            exit = EXIT_VOID;
+        else if (returnType == int.class)
+            exit = EXIT_INT;
+        else if (returnType == long.class)
+            exit = EXIT_LONG;
+        else
+            exit = EXIT_OBJECT.asType(MethodType.methodType(returnType,
+                    Binding.class, Throwable.class, returnType, long.class));
+        // (start, args...) -> result, then start = System.nanoTime() is folded in front
+        MethodHandle body = MethodHandles.dropArguments(target, 0, long.class);
+        MethodHandle timed = MethodHandles.tryFinally(body, MethodHandles.insertArguments(exit, 0, binding));
+        return MethodHandles.foldArguments(timed, NANO_TIME);
+    }
+
+    /**
+     * Get statistics of every instrumented function since the start or the last {@link #reset()}.
+     * @return statistics by name of the function
+     */
+    public static Map<String, DowncallSnapshot> snapshot() {
+        Map<String, DowncallSnapshot> snapshots = new TreeMap<>();
+        for (Binding binding : BINDINGS.values())
+            snapshots.put(binding.name, binding.snapshot());
+        return snapshots;
+    }
+
+    /**
+     * Start counting from zero.
+     */
+    public static void reset() {
+        for (Binding binding : BINDINGS.values())
+            binding.reset();
+    }
+
+    static int bucket(long nanos) {
+        if (nanos < 1L << (SUB_BITS + 1))
+            return (int) Math.max(nanos, 0);
+        int shift = Math.min(63 - Long.numberOfLeadingZeros(nanos) - SUB_BITS, MAX_SHIFT);
+        return (shift << SUB_BITS) + (int) Math.min(nanos >>> shift, (2 << SUB_BITS) - 1);
+    }
+
+    // Middle of the values of the bucket
+    static long valueOf(int bucket) {
+        if (bucket < 2 << SUB_BITS)
+            return bucket;
+        int shift = (bucket >> SUB_BITS) - 1;
+        long mantissa = bucket - ((long) shift << SUB_BITS);
+        return (mantissa << shift) + (1L << shift >> 1);
+    }
+
+    private static void exit(Binding binding, Throwable error, long start) {
+        binding.record(System.nanoTime() - start);
+    }
+
+    private static int exit(Binding binding, Throwable error, int result, long start) {
+        binding.record(System.nanoTime() - start);
+        return result;
+    }
+
+    private static long exit(Binding binding, Throwable error, long result, long start) {
+        binding.record(System.nanoTime() - start);
+        return result;
+    }
+
+    private static Object exit(Binding binding, Throwable error, Object result, long start) {
+        binding.record(System.nanoTime() - start);
+        return result;
+    }
+
+    // Counters of one thread, only written by that thread
+    private static final class Recorder {
+        long count;
+        long totalNanos;
+        final long[] buckets = new long[BUCKETS];
+    }
+
+    private static final class Binding {
+        final String name;
+        final List<Recorder> recorders = new CopyOnWriteArrayList<>();
+        final ThreadLocal<Recorder> local = ThreadLocal.withInitial(() -> {
+            Recorder recorder = new Recorder();
+            recorders.add(recorder);
+            return recorder;
+        });
+        // Counters at the last reset, subtracted from every snapshot
+        Recorder baseline = new Recorder();
+
+        Binding(String name) {
+            this.name = name;
+        }
+
+        void record(long nanos) {
+            Recorder recorder = local.get();
+            recorder.count++;
+            recorder.totalNanos += nanos;
+            recorder.buckets[bucket(nanos)]++;
+        }
+
+        synchronized Recorder merge() {
+            Recorder merged = new Recorder();
+            for (Recorder recorder : recorders) {
+                merged.count += recorder.count;
+                merged.totalNanos += recorder.totalNanos;
+                for (int i = 0; i < BUCKETS; i++)
+                    merged.buckets[i] += recorder.buckets[i];
+            }
+            return merged;
+        }
+
+        synchronized void reset() {
+            baseline = merge();
+        }
+
+        synchronized DowncallSnapshot snapshot() {
+            Recorder merged = merge();
+            long count = merged.count - baseline.count;
+            long[] buckets = merged.buckets;
+            for (int i = 0; i < BUCKETS; i++)
+                buckets[i] -= baseline.buckets[i];
+            return new DowncallSnapshot(name, count, merged.totalNanos - baseline.totalNanos,
+                    percentile(buckets, count, 0.5), percentile(buckets, count, 0.99));
+        }
+
+        private static long percentile(long[] buckets, long count, double fraction) {
+            if (count <= 0)
+                return 0;
+            long rank = (long) Math.ceil(count * fraction), seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets[i];
+                if (seen >= rank)
+                    return valueOf(i);
+            }
+            return valueOf(BUCKETS - 1);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import jdk.incubator.foreign.MemoryAddress;
 import jdk.incubator.foreign.MemoryLayout;
 import jdk.incubator.foreign.MemorySegment;
 import jdk.incubator.foreign.ResourceScope;
+import jdk.incubator.foreign.SegmentAllocator;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.VarHandle;
@@ -16,9 +17,11 @@ import static jdk.incubator.foreign.ValueLayout.*;
 public class Scope implements AutoCloseable {
 
     private final ResourceScope scope;
+    private final SegmentAllocator allocator;
 
-    private Scope() {
-        scope = ResourceScope.newConfinedScope();
+    private Scope(ResourceScope scope, SegmentAllocator allocator) {
+        this.scope = scope;
+        this.allocator = allocator;
     }
 
     /**
@@ -26,7 +29,45 @@ public class Scope implements AutoCloseable {
      * @return a new scope
      */
     public static Scope newScope() {
-        return new Scope();
+        ResourceScope scope = ResourceScope.newConfinedScope();
+        return new Scope(scope, SegmentAllocator.nativeAllocator(scope));
+    }
+
+    /**
+     * Create a scope which can be accessed by multiple threads.
+     * The statement should be used in try-with-resource struct.
+     * @return a new scope
+     */
+    public static Scope newSharedScope() {
+        ResourceScope scope = ResourceScope.newSharedScope();
+        return new Scope(scope, SegmentAllocator.nativeAllocator(scope));
+    }
+
+    /**
+     * Create a scope whose segments are slices of larger native blocks, so that small segments such as
+     * out parameters cost no native allocation each. Memory is only released when the scope is closed.
+     * The statement should be used in try-with-resource struct.
+     * @return a new scope
+     */
+    public static Scope newArena() {
+        ResourceScope scope = ResourceScope.newConfinedScope();
+        return new Scope(scope, SegmentAllocator.newNativeArena(scope));
+    }
+
+    /**
+     * Create a scope like {@link #newArena()} which can be accessed by multiple threads.
+     * The statement should be used in try-with-resource struct.
+     * @return a new scope
+     */
+    public static Scope newSharedArena() {
+        ResourceScope scope = ResourceScope.newSharedScope();
+        SegmentAllocator arena = SegmentAllocator.newNativeArena(scope);
+        // The arena itself is not thread-safe
+        return new Scope(scope, (bytesSize, bytesAlignment) -> {
+            synchronized (arena) {
+                return arena.allocate(bytesSize, bytesAlignment);
+            }
+        });
     }
 
     /**
@@ -34,7 +75,7 @@ public class Scope implements AutoCloseable {
      * @return segment stores a pointer
      */
     public MemorySegment newAddress() {
-        return MemorySegment.allocateNative(ADDRESS, scope);
+        return allocator.allocate(ADDRESS);
     }
 
     /**
@@ -43,7 +84,7 @@ public class Scope implements AutoCloseable {
      * @return segment stores a pointer
      */
     public MemorySegment newAddressArray(int len) {
-        return MemorySegment.allocateNative(ADDRESS.byteSize() * len, scope);
+        return allocator.allocateArray(ADDRESS, len);
     }
 
     /**
@@ -51,7 +92,7 @@ public class Scope implements AutoCloseable {
      * @return a segment
      */
     public MemorySegment newInt() {
-        return MemorySegment.allocateNative(JAVA_INT, scope);
+        return allocator.allocate(JAVA_INT);
     }
 
     /**
@@ -59,7 +100,7 @@ public class Scope implements AutoCloseable {
      * @return a segment
      */
     public MemorySegment newLong() {
-        return MemorySegment.allocateNative(JAVA_LONG, scope);
+        return allocator.allocate(JAVA_LONG);
     }
 
     /**
@@ -67,7 +108,7 @@ public class Scope implements AutoCloseable {
      * @return a segment
      */
     public MemorySegment newShort() {
-        return MemorySegment.allocateNative(JAVA_SHORT, scope);
+        return allocator.allocate(JAVA_SHORT);
     }
 
     /**
@@ -75,7 +116,7 @@ public class Scope implements AutoCloseable {
      * @return a segment
      */
     public MemorySegment newChar() {
-        return MemorySegment.allocateNative(JAVA_CHAR, scope);
+        return allocator.allocate(JAVA_CHAR);
     }
 
     /**
@@ -83,7 +124,7 @@ public class Scope implements AutoCloseable {
      * @return a segment
      */
     public MemorySegment newByte() {
-        return MemorySegment.allocateNative(JAVA_BYTE, scope);
+        return allocator.allocate(JAVA_BYTE);
     }
 
     /**
@@ -91,7 +132,7 @@ public class Scope implements AutoCloseable {
      * @return a segment
      */
     public MemorySegment newFloat() {
-        return MemorySegment.allocateNative(JAVA_FLOAT, scope);
+        return allocator.allocate(JAVA_FLOAT);
     }
 
     /**
@@ -99,7 +140,7 @@ public class Scope implements AutoCloseable {
      * @return a segment
      */
     public MemorySegment newDouble() {
-        return MemorySegment.allocateNative(JAVA_DOUBLE, scope);
+        return allocator.allocate(JAVA_DOUBLE);
     }
 
     /**
@@ -107,7 +148,7 @@ public class Scope implements AutoCloseable {
      * @return a segment
      */
     public MemorySegment newBoolean() {
-        return MemorySegment.allocateNative(JAVA_BOOLEAN, scope);
+        return allocator.allocate(JAVA_BOOLEAN);
     }
 
     /**
@@ -116,7 +157,7 @@ public class Scope implements AutoCloseable {
      * @return a segment
      */
     public MemorySegment newIntArray(int len) {
-        return MemorySegment.allocateNative(JAVA_INT.byteSize() * len, scope);
+        return allocator.allocateArray(JAVA_INT, len);
     }
 
     /**
@@ -125,7 +166,7 @@ public class Scope implements AutoCloseable {
      * @return a segment
      */
     public MemorySegment newLongArray(int len) {
-        return MemorySegment.allocateNative(JAVA_LONG.byteSize() * len, scope);
+        return allocator.allocateArray(JAVA_LONG, len);
     }
 
     /**
@@ -134,7 +175,7 @@ public class Scope implements AutoCloseable {
      * @return a segment
      */
     public MemorySegment newShortArray(int len) {
-        return MemorySegment.allocateNative(JAVA_SHORT.byteSize() * len, scope);
+        return allocator.allocateArray(JAVA_SHORT, len);
     }
 
     /**
@@ -143,7 +184,7 @@ public class Scope implements AutoCloseable {
      * @return a segment
      */
     public MemorySegment newCharArray(int len) {
-        return MemorySegment.allocateNative(JAVA_CHAR.byteSize() * len, scope);
+        return allocator.allocateArray(JAVA_CHAR, len);
     }
 
     /**
@@ -152,7 +193,7 @@ public class Scope implements AutoCloseable {
      * @return a segment
      */
     public MemorySegment newByteArray(int len) {
-        return MemorySegment.allocateNative(JAVA_BYTE.byteSize() * len, scope);
+        return allocator.allocateArray(JAVA_BYTE, len);
     }
 
     /**
@@ -161,7 +202,7 @@ public class Scope implements AutoCloseable {
      * @return a segment
      */
     public  MemorySegment newFloatArray(int len) {
-        return MemorySegment.allocateNative(JAVA_FLOAT.byteSize() * len, scope);
+        return allocator.allocateArray(JAVA_FLOAT, len);
     }
 
     /**
@@ -170,7 +211,7 @@ public class Scope implements AutoCloseable {
      * @return a segment
      */
     public MemorySegment newDoubleArray(int len) {
-        return MemorySegment.allocateNative(JAVA_DOUBLE.byteSize() * len, scope);
+        return allocator.allocateArray(JAVA_DOUBLE, len);
     }
 
     /**
@@ -179,7 +220,7 @@ public class Scope implements AutoCloseable {
      * @return a segment
      */
     public MemorySegment newBooleanArray(int len) {
-        return MemorySegment.allocateNative(JAVA_BOOLEAN.byteSize() * len, scope);
+        return allocator.allocateArray(JAVA_BOOLEAN, len);
     }
 
     /**
@@ -248,7 +289,7 @@ public class Scope implements AutoCloseable {
      * @return a segment
      */
     public MemorySegment newSegment(MemoryLayout layout) {
-        return MemorySegment.allocateNative(layout, scope);
+        return allocator.allocate(layout);
     }
 
     /**
@@ -258,7 +299,7 @@ public class Scope implements AutoCloseable {
      * @return a segment
      */
     public MemorySegment newSegmentArray(MemoryLayout layout, int len) {
-        return MemorySegment.allocateNative(layout.byteSize() * len, scope);
+        return allocator.allocateArray(layout, len);
     }
 
     /**
@@ -267,7 +308,7 @@ public class Scope implements AutoCloseable {
      * @return segment contains the address
      */
     public MemorySegment amp(MemorySegment segment) {
-        MemorySegment seg = MemorySegment.allocateNative(ADDRESS, scope);
+        MemorySegment seg = allocator.allocate(ADDRESS);
         seg.set(ADDRESS, 0, segment.address());
         return seg;
     }
@@ -290,7 +331,7 @@ public class Scope implements AutoCloseable {
      * @return an element
      */
     public MemorySegment asSegment(MemoryAddress address) {
-        MemorySegment segment = MemorySegment.allocateNative(ADDRESS, scope);
+        MemorySegment segment = allocator.allocate(ADDRESS);
         segment.set(ADDRESS, 0, address);
         return segment;
     }
@@ -301,7 +342,7 @@ public class Scope implements AutoCloseable {
      * @return segment stores a char array with certain length
      */
     public MemorySegment newString(long length) {
-        return MemorySegment.allocateNative(length * JAVA_CHAR.byteSize(), scope);
+        return allocator.allocateArray(JAVA_CHAR, length);
     }
     /**
      * Create a char array (or string) in the memory and store the string using the scope.
@@ -309,7 +350,16 @@ public class Scope implements AutoCloseable {
      * @return segment stores a char array contains the string
      */
     public MemorySegment newString(String str) {
-        return VarUtils.newString(str, scope);
+        // The UTF-8 bytes and the terminator, not the chars
+        return allocator.allocateUtf8String(str);
+    }
+
+    /**
+     * Get the allocator of the scope.
+     * @return allocator of the scope
+     */
+    public SegmentAllocator getAllocator() {
+        return allocator;
     }
 
     public ResourceScope getResourceScope() {
@@ -555,10 +555,8 @@ public class VarUtils {
      * @return segment stores a char array contains the string
      */
     public static MemorySegment newString(String str, ResourceScope scope) {
-        // UTF-8 bytes <= chars * 4
-        MemorySegment segment = newString(str.length() * 4L + 1, scope);
-        segment.setUtf8String(0, str);
-        return segment;
+        // The UTF-8 bytes and the terminator, not the chars
+        return SegmentAllocator.nativeAllocator(scope).allocateUtf8String(str);
     }
 
     /**
@@ -10,5 +10,7 @@ module jfreetype {
     exports io.github.mmc1234.jfreetype;
     exports io.github.mmc1234.jfreetype.glyph;
     exports io.github.mmc1234.jfreetype.easyfont;
+    exports io.github.mmc1234.jfreetype.atlas;
+    exports io.github.mmc1234.jfreetype.sdf;
     exports io.github.mmc1234.jfreetype.struct;
 }
\ No newline at end of file